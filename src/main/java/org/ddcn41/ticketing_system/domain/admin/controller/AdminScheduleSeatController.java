@@ -9,8 +9,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatBlockRequest;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.InitializeSeatsResponse;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatBlockResponse;
 import org.ddcn41.ticketing_system.domain.seat.service.ScheduleSeatInitializationService;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatBlockService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +26,7 @@ import java.util.List;
 public class AdminScheduleSeatController {
 
     private final ScheduleSeatInitializationService initializationService;
+    private final SeatBlockService seatBlockService;
 
     @PostMapping("/initialize")
     @PreAuthorize("hasRole('ADMIN')")
@@ -73,4 +77,56 @@ public class AdminScheduleSeatController {
                         .success(dryRun ? "좌석 초기화 미리보기" : "좌석 초기화 완료", result)
         );
     }
+
+    @PostMapping("/{scheduleId}/seats/block")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Block seats in bulk",
+            description = "Marks AVAILABLE seats as BLOCKED by explicit seat IDs, or by zone and/or row range. Held or booked seats are left untouched."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = SeatBlockResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
+    })
+    public ResponseEntity<org.ddcn41.ticketing_system.dto.response.ApiResponse<SeatBlockResponse>> blockSeats(
+            @Parameter(description = "Schedule ID", required = true)
+            @PathVariable Long scheduleId,
+            @RequestBody SeatBlockRequest request
+    ) {
+        SeatBlockResponse result = seatBlockService.block(scheduleId, request);
+        return ResponseEntity.ok(
+                org.ddcn41.ticketing_system.dto.response.ApiResponse.success("좌석 보류 완료", result)
+        );
+    }
+
+    @PostMapping("/{scheduleId}/seats/unblock")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Unblock seats in bulk",
+            description = "Returns BLOCKED seats to AVAILABLE by explicit seat IDs, or by zone and/or row range."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = SeatBlockResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
+    })
+    public ResponseEntity<org.ddcn41.ticketing_system.dto.response.ApiResponse<SeatBlockResponse>> unblockSeats(
+            @Parameter(description = "Schedule ID", required = true)
+            @PathVariable Long scheduleId,
+            @RequestBody SeatBlockRequest request
+    ) {
+        SeatBlockResponse result = seatBlockService.unblock(scheduleId, request);
+        return ResponseEntity.ok(
+                org.ddcn41.ticketing_system.dto.response.ApiResponse.success("좌석 보류 해제 완료", result)
+        );
+    }
 }
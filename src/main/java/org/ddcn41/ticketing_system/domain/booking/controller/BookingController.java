@@ -12,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.domain.booking.dto.request.CancelBookingRequestDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.request.CreateBookingRequestDto;
+import org.ddcn41.ticketing_system.domain.booking.dto.request.ReserveSeatsRequestDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.response.CancelBooking200ResponseDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.response.CreateBookingResponseDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.response.GetBookingDetail200ResponseDto;
@@ -49,6 +50,24 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
+    @PostMapping("/reserve")
+    @Operation(summary = "Reserve seats by id", description = "Validates queue admission, holds the seats and creates the booking in a single transaction")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Booking created",
+                    content = @Content(schema = @Schema(implementation = CreateBookingResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request or seats not available", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Schedule not found", content = @Content)
+    })
+    public ResponseEntity<CreateBookingResponseDto> reserveSeats(
+            @Valid @RequestBody ReserveSeatsRequestDto body) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String username = auth != null ? auth.getName() : null;
+        CreateBookingResponseDto res = bookingService.reserveSeats(username, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(res);
+    }
+
     @GetMapping("/{bookingId}")
     @Operation(summary = "Get my booking detail", description = "Fetches detailed information for user's own booking")
     @SecurityRequirement(name = "bearerAuth")
@@ -0,0 +1,28 @@
+package org.ddcn41.ticketing_system.domain.booking.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌석 ID로 바로 예매 (점유 + 예매를 한 번에)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReserveSeatsRequestDto {
+    @NotNull
+    private Long scheduleId;
+
+    @NotNull
+    @Size(min = 1)
+    private List<Long> seatIds;
+
+    private String queueToken;
+}
@@ -3,10 +3,14 @@ package org.ddcn41.ticketing_system.domain.booking.service;
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
 import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.domain.performance.service.ScheduleInventoryService;
+import org.ddcn41.ticketing_system.domain.performance.service.SchedulePriceService;
 import org.ddcn41.ticketing_system.domain.booking.dto.BookingDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.BookingSeatDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.request.CancelBookingRequestDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.request.CreateBookingRequestDto;
+import org.ddcn41.ticketing_system.domain.booking.dto.request.ReserveSeatsRequestDto;
+import org.ddcn41.ticketing_system.domain.booking.dto.request.SeatSelectorDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.response.CancelBooking200ResponseDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.response.CreateBookingResponseDto;
 import org.ddcn41.ticketing_system.domain.booking.dto.response.GetBookingDetail200ResponseDto;
@@ -15,13 +19,20 @@ import org.ddcn41.ticketing_system.domain.booking.entity.Booking;
 import org.ddcn41.ticketing_system.domain.booking.entity.Booking.BookingStatus;
 import org.ddcn41.ticketing_system.domain.booking.entity.BookingSeat;
 import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
 import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatDirectory;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatLockStore;
 import org.ddcn41.ticketing_system.domain.seat.service.SeatService;
 import org.ddcn41.ticketing_system.domain.user.entity.User;
+import org.ddcn41.ticketing_system.domain.venue.service.VenueSeatMapIndex;
+import org.ddcn41.ticketing_system.domain.venue.service.VenueSeatTemplateService;
 import org.ddcn41.ticketing_system.domain.booking.repository.BookingRepository;
 import org.ddcn41.ticketing_system.domain.booking.repository.BookingSeatRepository;
 import org.ddcn41.ticketing_system.domain.user.repository.UserRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -35,11 +46,11 @@ import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -52,12 +63,17 @@ public class BookingService {
     private final BookingRepository bookingRepository;
     private final BookingSeatRepository bookingSeatRepository;
     private final PerformanceScheduleRepository scheduleRepository;
+    private final ScheduleInventoryService inventoryService;
+    private final SchedulePriceService schedulePriceService;
     private final ScheduleSeatRepository scheduleSeatRepository;
     private final UserRepository userRepository;
 
     private final SeatService seatService;
+    private final SeatDirectory seatDirectory;
+    private final VenueSeatTemplateService venueSeatTemplateService;
     private final BookingAuditService bookingAuditService;
     private final QueueService queueService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(rollbackFor = Exception.class)
     public CreateBookingResponseDto createBooking(String username, CreateBookingRequestDto req) {
@@ -68,52 +84,68 @@ public class BookingService {
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "스케줄을 찾을 수 없습니다"));
 
         // 대기열 토큰 검증 추가 (기존 seat_map_json 로직 이전에)
-        validateQueueTokenIfRequired(req, user, schedule);
+        validateQueueTokenIfRequired(req.getQueueToken(), user, schedule);
 
 
-        // seat_map_json 파싱 (검증/가격)
-        ObjectMapper om = new ObjectMapper();
-        JsonNode root;
+        // 컴파일된 공연장 좌석 맵 (공연장별 캐시, 좌석 검증용)
+        VenueSeatMapIndex seatMap;
         try {
-            String seatMapJson = schedule.getPerformance().getVenue().getSeatMapJson();
-            root = om.readTree(seatMapJson == null ? "{}" : seatMapJson);
-        } catch (Exception e) {
+            seatMap = venueSeatTemplateService.indexOf(schedule.getPerformance().getVenue());
+        } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(BAD_REQUEST, "좌석 맵 정보가 올바르지 않습니다");
         }
 
-        JsonNode sections = root.path("sections");
-        JsonNode pricingNode = root.path("pricing");
+        Map<String, BigDecimal> prices = schedulePriceService.pricesOf(schedule.getScheduleId());
 
-        // 좌석 선택을 실제 ScheduleSeat로 매핑 및 검증
-        List<ScheduleSeat> requestedSeats = req.getSeats().stream().map(sel -> {
+        // 좌석 선택을 좌석 디렉터리로 좌석 ID에 매핑 및 검증 (좌석별 오류 메시지 유지)
+        ScheduleSeatDirectory directory = seatDirectory.forSchedule(schedule.getScheduleId());
+        List<Long> seatIds = new ArrayList<>(req.getSeats().size());
+        List<String> labels = new ArrayList<>(req.getSeats().size());
+        for (SeatSelectorDto sel : req.getSeats()) {
             String grade = safeUpper(sel.getGrade());
             String zone = safeUpper(sel.getZone());
             String rowLabel = safeUpper(sel.getRowLabel());
             String colNum = sel.getColNum();
+            String label = String.format("%s/%s-%s%s", grade, zone, rowLabel, colNum);
 
-            boolean validByJson = validateBySeatMap(sections, grade, zone, rowLabel, colNum);
-            if (!validByJson) {
-                throw new ResponseStatusException(BAD_REQUEST, String.format("유효하지 않은 좌석 지정: %s/%s-%s%s", grade, zone, rowLabel, colNum));
+            if (!seatMap.contains(grade, zone, rowLabel, colNum)) {
+                throw new ResponseStatusException(BAD_REQUEST, "유효하지 않은 좌석 지정: " + label);
             }
+            Long seatId = directory.findSeatId(zone, rowLabel, colNum);
+            if (seatId == null) {
+                throw new ResponseStatusException(BAD_REQUEST, "존재하지 않는 좌석: " + label);
+            }
+            if (seatIds.contains(seatId)) {
+                throw new ResponseStatusException(BAD_REQUEST, "중복된 좌석이 포함되어 있습니다: " + label);
+            }
+            seatIds.add(seatId);
+            labels.add(label);
+        }
 
-            ScheduleSeat seat = scheduleSeatRepository.findBySchedule_ScheduleIdAndZoneAndRowLabelAndColNum(
-                    schedule.getScheduleId(), zone, rowLabel, colNum);
+        // 점유 저장소를 트랜잭션 동안 잡아 진행 중인 점유(좌석 엔진의 DB 미반영 점유 포함)와 겹치지 않게 함
+        holdSeatsForBooking(schedule.getScheduleId(), seatIds, user.getUserId());
+
+        // 요청 좌석을 한 번에 조회한 뒤 요청 순서대로 검증
+        Map<Long, ScheduleSeat> loaded = scheduleSeatRepository.findAllById(seatIds).stream()
+                .collect(Collectors.toMap(ScheduleSeat::getSeatId, seat -> seat));
+        List<ScheduleSeat> requestedSeats = new ArrayList<>(seatIds.size());
+        for (int i = 0; i < seatIds.size(); i++) {
+            ScheduleSeat seat = loaded.get(seatIds.get(i));
+            String grade = safeUpper(req.getSeats().get(i).getGrade());
+            String zone = safeUpper(req.getSeats().get(i).getZone());
             if (seat == null) {
-                throw new ResponseStatusException(BAD_REQUEST, String.format("존재하지 않는 좌석: %s/%s-%s%s", grade, zone, rowLabel, colNum));
+                throw new ResponseStatusException(BAD_REQUEST, "존재하지 않는 좌석: " + labels.get(i));
             }
             if (!safeUpper(seat.getGrade()).equals(grade) || !safeUpper(seat.getZone()).equals(zone)) {
                 throw new ResponseStatusException(BAD_REQUEST, "좌석의 등급/구역 정보가 요청과 일치하지 않습니다");
             }
-            BigDecimal price = priceByGrade(pricingNode, grade);
-            if (price != null) {
-                seat.setPrice(price);
-            }
             if (seat.getStatus() != ScheduleSeat.SeatStatus.AVAILABLE) {
                 throw new ResponseStatusException(BAD_REQUEST, "예약 불가능한 좌석이 포함되어 있습니다: " + seat.getSeatId());
             }
+            requirePrice(prices, seat.getGrade());
             seat.setStatus(ScheduleSeat.SeatStatus.LOCKED);
-            return seat;
-        }).collect(Collectors.toList());
+            requestedSeats.add(seat);
+        }
 
         // 낙관적 락 검증을 커밋 전에 강제 수행 (flush 시 버전 충돌 발생 가능)
         // NOTE: 커밋 시 자동 flush로도 충분하면 이 flush는 생략 가능
@@ -122,11 +154,9 @@ public class BookingService {
             scheduleSeatRepository.flush();
             // 좌석을 AVAILABLE -> LOCKED로 변경한 수만큼 가용 좌석 카운터 감소
             if (!requestedSeats.isEmpty()) {
-                int affected = scheduleRepository.decrementAvailableSeats(req.getScheduleId(), requestedSeats.size());
-                if (affected == 0) {
+                if (!inventoryService.adjust(req.getScheduleId(), -requestedSeats.size())) {
                     throw new ResponseStatusException(BAD_REQUEST, "잔여 좌석 수가 부족합니다. 다시 시도해주세요.");
                 }
-                scheduleRepository.refreshScheduleStatus(req.getScheduleId());
             }
         } catch (org.springframework.orm.ObjectOptimisticLockingFailureException e) {
             throw new ResponseStatusException(BAD_REQUEST, "다른 사용자가 먼저 예약한 좌석이 있습니다. 다시 시도해주세요.");
@@ -136,7 +166,7 @@ public class BookingService {
         List<ScheduleSeat> seats = requestedSeats;
 
         BigDecimal total = seats.stream()
-                .map(ScheduleSeat::getPrice)
+                .map(seat -> requirePrice(prices, seat.getGrade()))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         String bookingNumber = "DDCN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
@@ -153,15 +183,7 @@ public class BookingService {
         Booking saved = bookingRepository.save(booking);
 
         // 예매 완료 시 토큰 사용 처리
-        if (req.getQueueToken() != null && !req.getQueueToken().trim().isEmpty()) {
-            try {
-                queueService.useToken(req.getQueueToken());
-                // log.info("토큰 사용 완료 - 사용자: {}, 토큰: {}", username, req.getQueueToken());
-            } catch (Exception e) {
-                // log.warn("토큰 사용 처리 중 오류 발생: {}", e.getMessage());
-                // 예매는 완료되었으므로 로그만 남기고 계속 진행
-            }
-        }
+        useQueueToken(req.getQueueToken());
 
 
         // 예약 좌석 정보 생성 (좌석 상태 변경은 하지 않음)
@@ -169,7 +191,7 @@ public class BookingService {
                 .map(seat -> BookingSeat.builder()
                         .booking(saved)
                         .seat(seat)
-                        .seatPrice(seat.getPrice())
+                        .seatPrice(requirePrice(prices, seat.getGrade()))
                         .build())
                 .map(bookingSeatRepository::save)
                 .collect(Collectors.toList());
@@ -180,19 +202,124 @@ public class BookingService {
         seats.forEach(seat -> seat.setStatus(ScheduleSeat.SeatStatus.BOOKED));
         scheduleSeatRepository.saveAll(seats);
 
-        List<Long> seatIds = seats.stream().map(ScheduleSeat::getSeatId).collect(Collectors.toList());
         bookingAuditService.logBookingCreated(user, saved, seatIds);
 
+        // 좌석 상태 변경 스트림 반영 (커밋 후 발행)
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(schedule.getScheduleId(), seatIds, ScheduleSeat.SeatStatus.BOOKED));
+
         return toCreateResponse(saved);
     }
     
+    /**
+     * 좌석 ID로 바로 예매 (lock-and-book)
+     * 좌석을 이미 알고 있는 사용자를 위해 대기열 검증 → 좌석 점유/전이 → 예매 생성을 한 트랜잭션에서 처리한다.
+     * 좌석 소속/좌표/등급은 좌석 디렉터리, 가용 좌석 수는 스케줄 카운터, 가격은 스케줄 등급별 가격표로 처리한다.
+     * 대상 좌석은 모두 AVAILABLE이어야 한다 (이미 점유한 좌석은 기존 점유 → 예매 흐름을 사용).
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public CreateBookingResponseDto reserveSeats(String username, ReserveSeatsRequestDto req) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(UNAUTHORIZED, "사용자 인증 실패"));
+
+        PerformanceSchedule schedule = scheduleRepository.findById(req.getScheduleId())
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "스케줄을 찾을 수 없습니다"));
+
+        validateQueueTokenIfRequired(req.getQueueToken(), user, schedule);
+
+        List<Long> seatIds = req.getSeatIds().stream().distinct().collect(Collectors.toList());
+        if (seatIds.size() != req.getSeatIds().size()) {
+            throw new ResponseStatusException(BAD_REQUEST, "중복된 좌석이 포함되어 있습니다");
+        }
+        ScheduleSeatDirectory directory = seatDirectory.forSchedule(schedule.getScheduleId());
+        if (!directory.containsAll(seatIds)) {
+            throw new ResponseStatusException(BAD_REQUEST, "존재하지 않거나 다른 회차의 좌석이 포함되어 있습니다");
+        }
+
+        // 좌석 가격은 디렉터리의 등급으로 스케줄 가격표에서 조회 (가격 미설정 등급이 있으면 좌석을 건드리기 전에 거부)
+        Map<String, BigDecimal> prices = schedulePriceService.pricesOf(schedule.getScheduleId());
+        Map<Long, BigDecimal> priceBySeat = new HashMap<>();
+        for (Long seatId : seatIds) {
+            priceBySeat.put(seatId, requirePrice(prices, directory.gradeAt(directory.ordinalOf(seatId))));
+        }
+
+        // 좌석 점유 (사용자 동시 점유 한도 적용) + AVAILABLE -> BOOKED 전이 + 가용 좌석 카운터 감소 (실패 시 전체 롤백)
+        holdSeatsForBooking(schedule.getScheduleId(), seatIds, user.getUserId());
+        List<Long> booked = seatService.bookAvailableSeats(schedule.getScheduleId(), seatIds, user.getUserId());
+        if (booked.isEmpty()) {
+            throw new ResponseStatusException(BAD_REQUEST, "다른 사용자가 먼저 선택했거나 예약할 수 없는 좌석이 포함되어 있습니다. 다시 시도해주세요.");
+        }
+        BigDecimal total = priceBySeat.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        Booking saved = bookingRepository.save(Booking.builder()
+                .bookingNumber("DDCN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .user(user)
+                .schedule(schedule)
+                .seatCount(seatIds.size())
+                .totalAmount(total)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+
+        useQueueToken(req.getQueueToken());
+
+        // 좌석 엔티티는 참조만 사용 (좌석 정보는 디렉터리에서 응답 구성)
+        List<BookingSeat> savedSeats = bookingSeatRepository.saveAll(seatIds.stream()
+                .map(seatId -> BookingSeat.builder()
+                        .booking(saved)
+                        .seat(scheduleSeatRepository.getReferenceById(seatId))
+                        .seatPrice(priceBySeat.get(seatId))
+                        .build())
+                .collect(Collectors.toList()));
+        saved.setBookingSeats(savedSeats);
+
+        bookingAuditService.logBookingCreated(user, saved, seatIds);
+
+        return CreateBookingResponseDto.builder()
+                .bookingId(saved.getBookingId())
+                .bookingNumber(saved.getBookingNumber())
+                .userId(user.getUserId())
+                .scheduleId(schedule.getScheduleId())
+                .seatCount(saved.getSeatCount())
+                .totalAmount(total.doubleValue())
+                .status(saved.getStatus().name())
+                .expiresAt(odt(saved.getExpiresAt()))
+                .bookedAt(odt(saved.getBookedAt()))
+                .seats(savedSeats.stream().map(bs -> {
+                    int ordinal = directory.ordinalOf(bs.getSeat().getSeatId());
+                    return BookingSeatDto.builder()
+                            .bookingSeatId(bs.getBookingSeatId())
+                            .bookingId(saved.getBookingId())
+                            .seatId(bs.getSeat().getSeatId())
+                            .seatPrice(bs.getSeatPrice() == null ? 0.0 : bs.getSeatPrice().doubleValue())
+                            .grade(directory.gradeAt(ordinal))
+                            .zone(directory.zoneAt(ordinal))
+                            .rowLabel(directory.rowLabelAt(ordinal))
+                            .colNum(directory.colNumAt(ordinal))
+                            .createdAt(odt(bs.getCreatedAt()))
+                            .build();
+                }).collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * 예매 완료 시 대기열 토큰 사용 처리 (실패해도 예매는 완료된 상태이므로 계속 진행)
+     */
+    private void useQueueToken(String queueToken) {
+        if (queueToken != null && !queueToken.trim().isEmpty()) {
+            try {
+                queueService.useToken(queueToken);
+            } catch (Exception e) {
+                log.warn("토큰 사용 처리 중 오류 발생: {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * 대기열 토큰 검증 - schedule 파라미터 추가
      */
-    private void validateQueueTokenIfRequired(CreateBookingRequestDto req, User user, PerformanceSchedule schedule) {
-        if (req.getQueueToken() != null && !req.getQueueToken().trim().isEmpty()) {
+    private void validateQueueTokenIfRequired(String queueToken, User user, PerformanceSchedule schedule) {
+        if (queueToken != null && !queueToken.trim().isEmpty()) {
             boolean isValidToken = queueService.validateTokenForBooking(
-                    req.getQueueToken(),
+                    queueToken,
                     user.getUserId(),
                     schedule.getPerformance().getPerformanceId()
             );
@@ -204,7 +331,7 @@ public class BookingService {
 
             // 토큰 유효성 재확인 (동시성 이슈 대응)
             try {
-                if (!queueService.isTokenActiveForBooking(req.getQueueToken())) {
+                if (!queueService.isTokenActiveForBooking(queueToken)) {
                     throw new ResponseStatusException(BAD_REQUEST,
                             "토큰이 예매 가능한 상태가 아닙니다. 시간이 만료되었을 수 있습니다.");
                 }
@@ -532,121 +659,31 @@ public class BookingService {
         return ldt == null ? null : ldt.atOffset(ZoneOffset.UTC);
     }
 
-    private static String safeUpper(String value) {
-        return value == null ? null : value.trim().toUpperCase();
-    }
-
-    private static boolean validateBySeatMap(JsonNode sections, String grade, String zone, String rowLabel, String colNum) {
-        if (!sections.isArray() || rowLabel == null || colNum == null) {
-            return false;
-        }
-
-        String normalizedRow = rowLabel.trim().toUpperCase();
-        String normalizedCol = colNum.trim();
-        String normalizedGrade = grade == null ? null : grade.trim().toUpperCase();
-        String normalizedZone = zone == null ? null : zone.trim().toUpperCase();
-
-        for (JsonNode section : sections) {
-            int rows = section.path("rows").asInt(0);
-            int cols = section.path("cols").asInt(0);
-            if (rows <= 0 || cols <= 0) {
-                continue;
-            }
-
-            String sectionRowStart = safeUpper(textOrNull(section, "rowLabelFrom"));
-            if (sectionRowStart == null || sectionRowStart.isBlank()) {
-                continue;
-            }
-
-            String sectionGrade = safeUpper(textOrNull(section, "grade"));
-            String sectionZone = safeUpper(textOrNull(section, "zone"));
-
-            if (normalizedGrade != null && !normalizedGrade.isBlank() && !normalizedGrade.equals(sectionGrade)) {
-                continue;
-            }
-            if (normalizedZone != null && !normalizedZone.isBlank() && !normalizedZone.equals(sectionZone)) {
-                continue;
-            }
-
-            int seatStart = section.path("seatStart").asInt(1);
-
-            for (int r = 0; r < rows; r++) {
-                String currentRow = incrementAlpha(sectionRowStart, r);
-                if (!currentRow.equals(normalizedRow)) {
-                    continue;
-                }
-
-                for (int c = 0; c < cols; c++) {
-                    String currentCol = String.valueOf(seatStart + c);
-                    if (currentCol.equals(normalizedCol)) {
-                        return true;
-                    }
-                }
-            }
+    /**
+     * 등급 가격 (가격표에 없는 등급은 0원으로 처리하지 않고 예매를 거부)
+     */
+    private static BigDecimal requirePrice(Map<String, BigDecimal> prices, String grade) {
+        BigDecimal price = grade == null ? null : prices.get(grade);
+        if (price == null) {
+            throw new ResponseStatusException(CONFLICT, "가격이 설정되지 않은 좌석 등급입니다: " + grade);
         }
-
-        return false;
+        return price;
     }
 
-    private static BigDecimal priceByGrade(JsonNode pricingNode, String grade) {
-        if (pricingNode == null || !pricingNode.isObject() || grade == null) {
-            return null;
-        }
-
-        JsonNode direct = pricingNode.get(grade);
-        if (direct != null) {
-            try {
-                return new BigDecimal(direct.asText());
-            } catch (NumberFormatException ignored) {
-                return null;
-            }
-        }
-
-        String normalizedGrade = grade.trim().toUpperCase();
-        java.util.Iterator<java.util.Map.Entry<String, JsonNode>> fields = pricingNode.fields();
-        while (fields.hasNext()) {
-            java.util.Map.Entry<String, JsonNode> entry = fields.next();
-            if (normalizedGrade.equals(entry.getKey().trim().toUpperCase())) {
-                try {
-                    return new BigDecimal(entry.getValue().asText());
-                } catch (NumberFormatException ignored) {
-                    return null;
-                }
-            }
+    /**
+     * 트랜잭션 동안 점유 저장소 획득 (사용자 동시 점유 한도 초과, 다른 사용자가 선택 중인 좌석이면 거부)
+     */
+    private void holdSeatsForBooking(Long scheduleId, List<Long> seatIds, Long userId) {
+        int outcome = seatService.holdForTransaction(scheduleId, seatIds, userId);
+        if (outcome == SeatLockStore.USER_LIMIT_EXCEEDED) {
+            throw new ResponseStatusException(BAD_REQUEST, "동시에 점유할 수 있는 좌석 수를 초과했습니다");
         }
-        return null;
-    }
-
-    private static String textOrNull(JsonNode node, String field) {
-        JsonNode value = node.get(field);
-        return value == null || value.isNull() ? null : value.asText();
-    }
-
-    private static String incrementAlpha(String start, int offset) {
-        int baseValue = alphaToInt(start) + offset;
-        return intToAlpha(baseValue);
-    }
-
-    private static int alphaToInt(String s) {
-        int value = 0;
-        for (int i = 0; i < s.length(); i++) {
-            char ch = s.charAt(i);
-            if (ch < 'A' || ch > 'Z') {
-                throw new IllegalArgumentException("Invalid row label: " + s);
-            }
-            value = value * 26 + (ch - 'A' + 1);
+        if (outcome != 0) {
+            throw new ResponseStatusException(BAD_REQUEST, "다른 사용자가 선택 중인 좌석이 포함되어 있습니다. 다시 시도해주세요.");
         }
-        return value - 1;
     }
 
-    private static String intToAlpha(int value) {
-        value = value + 1;
-        StringBuilder sb = new StringBuilder();
-        while (value > 0) {
-            int remainder = (value - 1) % 26;
-            sb.append((char) ('A' + remainder));
-            value = (value - 1) / 26;
-        }
-        return sb.reverse().toString();
+    private static String safeUpper(String value) {
+        return value == null ? null : value.trim().toUpperCase();
     }
 }
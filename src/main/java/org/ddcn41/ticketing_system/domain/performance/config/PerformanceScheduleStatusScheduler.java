@@ -3,6 +3,7 @@ package org.ddcn41.ticketing_system.domain.performance.config;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.domain.performance.service.PerformanceScheduleStatusService;
+import org.ddcn41.ticketing_system.domain.performance.service.ScheduleInventoryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +16,7 @@ public class PerformanceScheduleStatusScheduler {
     private static final Logger log = LoggerFactory.getLogger(PerformanceScheduleStatusScheduler.class);
 
     private final PerformanceScheduleStatusService scheduleStatusService;
+    private final ScheduleInventoryService inventoryService;
 
     @PostConstruct
     public void initializeStatuses() {
@@ -26,6 +28,21 @@ public class PerformanceScheduleStatusScheduler {
         }
     }
 
+    /**
+     * Redis 가용 좌석 카운터를 DB에 일괄 반영 (리스를 가진 노드만 수행)
+     */
+    @Scheduled(fixedDelayString = "${schedule.inventory.flush-interval-ms:200}")
+    public void flushInventory() {
+        try {
+            int flushed = inventoryService.flush();
+            if (flushed > 0) {
+                log.debug("가용 좌석 카운터 {}건 DB 반영", flushed);
+            }
+        } catch (Exception e) {
+            log.error("가용 좌석 카운터 DB 반영 중 오류", e);
+        }
+    }
+
     @Scheduled(cron = "0 */5 * * * *", zone = "Asia/Seoul")
     public void closePastSchedules() {
         try {
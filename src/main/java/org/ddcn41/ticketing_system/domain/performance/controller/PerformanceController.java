@@ -14,6 +14,7 @@ import org.ddcn41.ticketing_system.domain.performance.dto.request.PresignedUrlRe
 import org.ddcn41.ticketing_system.domain.performance.dto.response.PerformanceResponse;
 import org.ddcn41.ticketing_system.domain.performance.dto.response.PerformanceSchedulesResponse;
 import org.ddcn41.ticketing_system.domain.performance.dto.response.PresignedUrlResponse;
+import org.ddcn41.ticketing_system.domain.performance.dto.response.ScheduleAvailabilityResponse;
 import org.ddcn41.ticketing_system.domain.performance.entity.Performance;
 import org.ddcn41.ticketing_system.domain.performance.service.PerformanceService;
 import org.ddcn41.ticketing_system.domain.performance.service.S3Service;
@@ -71,6 +72,18 @@ public class PerformanceController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(summary = "회차 잔여 좌석 일괄 조회", description = "여러 회차의 잔여 좌석 수와 상태를 한 번에 조회 (최대 300개, 존재하지 않는 회차는 제외)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success get schedules availability", content = @Content(schema = @Schema(implementation = ScheduleAvailabilityResponse.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "조회 가능한 회차 수 초과", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/schedules/availability")
+    public ResponseEntity<List<ScheduleAvailabilityResponse>> getSchedulesAvailability(
+            @Parameter(description = "회차 ID 목록 (콤마 구분)") @RequestParam List<Long> scheduleIds) {
+        List<ScheduleAvailabilityResponse> responses = performanceService.getSchedulesAvailability(scheduleIds);
+        return ResponseEntity.ok(responses);
+    }
+
     @Operation(
         summary = "공연 회차 목록", 
         description = "특정 공연의 모든 회차 목록을 조회합니다. 각 회차의 상세 정보(일시, 좌석 현황, 상태)를 포함합니다."
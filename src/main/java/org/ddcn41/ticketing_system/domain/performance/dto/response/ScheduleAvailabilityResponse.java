@@ -0,0 +1,28 @@
+package org.ddcn41.ticketing_system.domain.performance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
+
+@Schema(description = "회차별 잔여 좌석/상태")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleAvailabilityResponse {
+
+    @Schema(description = "회차 ID")
+    private Long scheduleId;
+
+    @Schema(description = "총 좌석 수")
+    private Integer totalSeats;
+
+    @Schema(description = "잔여 좌석 수")
+    private Integer availableSeats;
+
+    @Schema(description = "회차 상태 (잔여 좌석 수와 공연 일시 기준)")
+    private PerformanceSchedule.ScheduleStatus status;
+}
@@ -0,0 +1,45 @@
+package org.ddcn41.ticketing_system.domain.performance.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 등급별 가격
+ * 좌석은 (schedule_id, grade)로 이 표의 가격을 참조하므로 가격 변경은 등급 수만큼의 행만 바꾼다. 표에 없는 등급은 가격 미설정 (예매 불가).
+ */
+@Entity
+@Table(name = "schedule_grade_prices",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"schedule_id", "grade"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleGradePrice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "grade_price_id")
+    private Long gradePriceId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    private PerformanceSchedule schedule;
+
+    @Column(name = "grade", nullable = false, length = 10)
+    private String grade;
+
+    @Column(name = "price", nullable = false, precision = 10, scale = 2)
+    @Builder.Default
+    private BigDecimal price = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
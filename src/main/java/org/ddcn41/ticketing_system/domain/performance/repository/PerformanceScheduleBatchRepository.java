@@ -0,0 +1,15 @@
+package org.ddcn41.ticketing_system.domain.performance.repository;
+
+import java.util.Map;
+
+/**
+ * 스케줄 가용 좌석 수 일괄 반영용 커스텀 리포지토리
+ */
+public interface PerformanceScheduleBatchRepository {
+
+    /**
+     * 스케줄별 가용 좌석 수를 한 번의 JDBC 배치로 덮어쓰고 상태(CLOSED/SOLDOUT/OPEN)를 재계산
+     * @param availableBySchedule scheduleId -> 가용 좌석 수
+     */
+    void syncAvailableSeats(Map<Long, Integer> availableBySchedule);
+}
@@ -0,0 +1,32 @@
+package org.ddcn41.ticketing_system.domain.performance.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PerformanceScheduleBatchRepositoryImpl implements PerformanceScheduleBatchRepository {
+
+    private static final String SYNC_SQL =
+            "UPDATE performance_schedules SET available_seats = ?, " +
+            "status = CASE WHEN show_datetime <= CURRENT_TIMESTAMP THEN 'CLOSED' " +
+            "WHEN ? <= 0 THEN 'SOLDOUT' ELSE 'OPEN' END " +
+            "WHERE schedule_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void syncAvailableSeats(Map<Long, Integer> availableBySchedule) {
+        if (availableBySchedule == null || availableBySchedule.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(SYNC_SQL, new ArrayList<>(availableBySchedule.entrySet()), availableBySchedule.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setInt(2, entry.getValue());
+                    ps.setLong(3, entry.getKey());
+                });
+    }
+}
@@ -1,6 +1,7 @@
 package org.ddcn41.ticketing_system.domain.performance.repository;
 
 import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
+import org.ddcn41.ticketing_system.domain.venue.entity.Venue;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,12 +9,31 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PerformanceScheduleRepository extends JpaRepository<PerformanceSchedule, Long> {
+public interface PerformanceScheduleRepository extends JpaRepository<PerformanceSchedule, Long>, PerformanceScheduleBatchRepository {
     
     List<PerformanceSchedule> findByPerformance_PerformanceIdOrderByShowDatetimeAsc(Long performanceId);
 
+    /**
+     * 여러 스케줄의 공연 일시/총 좌석 수 조회 (엔티티 로딩 없이 [scheduleId, showDatetime, totalSeats] 반환)
+     */
+    @Query("SELECT s.scheduleId, s.showDatetime, s.totalSeats FROM PerformanceSchedule s WHERE s.scheduleId IN :scheduleIds")
+    List<Object[]> findScheduleHeadersByIds(@Param("scheduleIds") List<Long> scheduleIds);
+
+    /**
+     * 스케줄의 공연장 (스케줄/공연 엔티티 로딩 없이 조회)
+     */
+    @Query("SELECT p.venue FROM PerformanceSchedule s JOIN s.performance p WHERE s.scheduleId = :scheduleId")
+    Optional<Venue> findVenueByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 공연장의 모든 스케줄 ID
+     */
+    @Query("SELECT s.scheduleId FROM PerformanceSchedule s WHERE s.performance.venue.venueId = :venueId")
+    List<Long> findScheduleIdsByVenueId(@Param("venueId") Long venueId);
+
     @Modifying(clearAutomatically = false, flushAutomatically = false)
     @Query("UPDATE PerformanceSchedule s SET s.availableSeats = s.availableSeats + :delta WHERE s.scheduleId = :scheduleId AND s.availableSeats + :delta <= s.totalSeats")
     int incrementAvailableSeats(@Param("scheduleId") Long scheduleId, @Param("delta") int delta);
@@ -34,6 +54,25 @@ public interface PerformanceScheduleRepository extends JpaRepository<Performance
             """)
     int refreshScheduleStatus(@Param("scheduleId") Long scheduleId);
 
+    /**
+     * 가용 좌석 수 증감과 상태 재계산을 한 번의 UPDATE로 처리 (delta는 음수 허용)
+     * 범위(0 ~ totalSeats)를 벗어나면 갱신하지 않고 0을 반환한다.
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Query("""
+            UPDATE PerformanceSchedule s
+            SET s.availableSeats = s.availableSeats + :delta,
+                s.status = CASE
+                    WHEN s.showDatetime <= CURRENT_TIMESTAMP THEN 'CLOSED'
+                    WHEN s.availableSeats + :delta <= 0 THEN 'SOLDOUT'
+                    ELSE 'OPEN'
+                END
+            WHERE s.scheduleId = :scheduleId
+              AND s.availableSeats + :delta >= 0
+              AND s.availableSeats + :delta <= s.totalSeats
+            """)
+    int adjustAvailableSeats(@Param("scheduleId") Long scheduleId, @Param("delta") int delta);
+
     @Modifying(clearAutomatically = false, flushAutomatically = false)
     @Query("""
             UPDATE PerformanceSchedule s
@@ -0,0 +1,22 @@
+package org.ddcn41.ticketing_system.domain.performance.repository;
+
+import org.ddcn41.ticketing_system.domain.performance.entity.ScheduleGradePrice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScheduleGradePriceRepository extends JpaRepository<ScheduleGradePrice, Long> {
+
+    List<ScheduleGradePrice> findBySchedule_ScheduleId(Long scheduleId);
+
+    /**
+     * 가격표 도입 전 좌석 행에 저장된 등급별 가격 [grade, price] (schedule_seats.price 컬럼 제거 전까지 가격표 초기 적재용)
+     */
+    @Query(value = "SELECT grade, MAX(price) FROM schedule_seats " +
+            "WHERE schedule_id = :scheduleId AND price IS NOT NULL GROUP BY grade", nativeQuery = true)
+    List<Object[]> findLegacySeatPrices(@Param("scheduleId") Long scheduleId);
+}
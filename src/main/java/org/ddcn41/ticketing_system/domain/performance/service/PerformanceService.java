@@ -7,20 +7,28 @@ import org.ddcn41.ticketing_system.domain.booking.repository.BookingRepository;
 import org.ddcn41.ticketing_system.domain.performance.dto.request.PerformanceRequestDto;
 import org.ddcn41.ticketing_system.domain.performance.dto.response.AdminPerformanceResponse;
 import org.ddcn41.ticketing_system.domain.performance.dto.response.PerformanceResponse;
+import org.ddcn41.ticketing_system.domain.performance.dto.response.ScheduleAvailabilityResponse;
 import org.ddcn41.ticketing_system.domain.performance.entity.Performance;
 import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
 import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceRepository;
 import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.InitializeSeatsResponse;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
 import org.ddcn41.ticketing_system.domain.seat.service.ScheduleSeatInitializationService;
 import org.ddcn41.ticketing_system.domain.venue.entity.Venue;
 import org.ddcn41.ticketing_system.domain.venue.repository.VenueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -37,6 +45,11 @@ public class PerformanceService {
     private final S3Service s3ImageService;
 
     private final ScheduleSeatInitializationService initializationService;
+    private final ScheduleInventoryService inventoryService;
+    private final ScheduleSeatRepository scheduleSeatRepository;
+
+    @Value("${schedule.availability.max-batch-size:300}")
+    private int availabilityMaxBatchSize;
 
     public PerformanceResponse getPerformanceById(Long performanceId){
         return convertToPerformanceResponse(performanceRepository.findById(performanceId)
@@ -82,6 +95,59 @@ public class PerformanceService {
         return performanceScheduleRepository.findByPerformance_PerformanceIdOrderByShowDatetimeAsc(performanceId);
     }
 
+    /**
+     * 여러 회차의 잔여 좌석/상태 일괄 조회
+     * 잔여 좌석 수는 Redis 카운터(파이프라인 1회)를 우선 사용하고, 카운터가 없는 회차만 좌석 GROUP BY 1회로 센다.
+     * 상태는 DB 반영 주기를 기다리지 않고 잔여 좌석 수와 공연 일시로 바로 계산한다. 존재하지 않는 회차는 결과에서 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleAvailabilityResponse> getSchedulesAvailability(List<Long> scheduleIds) {
+        List<Long> ids = scheduleIds == null ? List.of()
+                : scheduleIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > availabilityMaxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 회차는 최대 " + availabilityMaxBatchSize + "개입니다");
+        }
+
+        Map<Long, Integer> available = new HashMap<>(inventoryService.currentAvailable(ids));
+        List<Long> missing = ids.stream().filter(id -> !available.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            for (Object[] row : scheduleSeatRepository.countAvailableSeatsByScheduleIds(missing)) {
+                available.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ScheduleAvailabilityResponse> byId = new HashMap<>();
+        for (Object[] row : performanceScheduleRepository.findScheduleHeadersByIds(ids)) {
+            Long scheduleId = (Long) row[0];
+            LocalDateTime showDatetime = (LocalDateTime) row[1];
+            int availableSeats = available.getOrDefault(scheduleId, 0);
+
+            PerformanceSchedule.ScheduleStatus status;
+            if (showDatetime != null && !showDatetime.isAfter(now)) {
+                status = PerformanceSchedule.ScheduleStatus.CLOSED;
+            } else if (availableSeats <= 0) {
+                status = PerformanceSchedule.ScheduleStatus.SOLDOUT;
+            } else {
+                status = PerformanceSchedule.ScheduleStatus.OPEN;
+            }
+
+            byId.put(scheduleId, ScheduleAvailabilityResponse.builder()
+                    .scheduleId(scheduleId)
+                    .totalSeats((Integer) row[2])
+                    .availableSeats(availableSeats)
+                    .status(status)
+                    .build());
+        }
+
+        // 요청 순서 유지
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     public AdminPerformanceResponse createPerformance(PerformanceRequestDto createPerformanceRequestDto) {
         Venue venue = venueRepository.findById(createPerformanceRequestDto.getVenueId())
                 .orElseThrow(() -> new EntityNotFoundException("venue not found with id: "+ createPerformanceRequestDto.getVenueId()));
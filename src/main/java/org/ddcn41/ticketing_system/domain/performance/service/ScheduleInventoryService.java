@@ -0,0 +1,297 @@
+package org.ddcn41.ticketing_system.domain.performance.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
+import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.global.util.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 스케줄 가용 좌석 카운터 (Redis 우선)
+ * - 스케줄별 schedule_inventory:{schedule:S} 해시(available/total)가 가용 좌석 수의 기준값이며, 증감은 범위 검사를 포함한 스크립트 1회로 처리
+ * - 스크립트는 카운터 키 하나만 다루고(Redis Cluster 슬롯 제약) dirty 셋 등록은 별도 명령으로 한다
+ * - 변경된 스케줄은 dirty 셋에 모았다가 리스를 가진 한 노드가 주기적으로 DB에 일괄 반영 (여러 번의 증감이 1회 UPDATE로 합쳐짐)
+ * - DB 상태(SOLDOUT/OPEN)는 반영 시점의 카운터 값으로 재계산
+ * - 카운터가 없으면 DB 값으로 적재하며, 트랜잭션이 롤백되면 증감을 되돌린다
+ * schedule.inventory.redis-enabled=false면 기존처럼 DB 행을 직접 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleInventoryService {
+
+    private static final String DIRTY_KEY = "schedule_inventory:dirty";
+    private static final String FLUSHER_LEASE_KEY = "schedule_inventory:flusher";
+
+    private static final long NOT_LOADED = -2L;
+
+    /**
+     * 범위(0 ~ total)를 지키며 가용 좌석 수 증감
+     * KEYS[1] = inventory 해시, ARGV[1] = delta
+     * 반환: 증감 후 값, 범위 초과 시 -1, 카운터 미적재 시 -2
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            local available = redis.call('HGET', KEYS[1], 'available')
+            if not available then
+                return -2
+            end
+            local total = tonumber(redis.call('HGET', KEYS[1], 'total'))
+            local next = tonumber(available) + tonumber(ARGV[1])
+            if next < 0 or next > total then
+                return -1
+            end
+            redis.call('HSET', KEYS[1], 'available', next)
+            return next
+            """, Long.class);
+
+    /**
+     * 롤백 보정용 증감 (범위 검사 없이 되돌림, 카운터가 사라졌으면 무시)
+     */
+    private static final RedisScript<Long> COMPENSATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -2
+            end
+            return redis.call('HINCRBY', KEYS[1], 'available', ARGV[1])
+            """, Long.class);
+
+    /**
+     * 카운터가 없을 때만 DB 값으로 적재
+     * ARGV[1] = available, ARGV[2] = total
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'available', ARGV[1], 'total', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 반영 리스 획득/갱신 (이미 보유 중이면 TTL만 연장)
+     */
+    private static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${schedule.inventory.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${schedule.inventory.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${schedule.inventory.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 가용 좌석 수 증감 (delta는 음수 허용)
+     * @return 범위(0 ~ totalSeats)를 벗어나 반영하지 못했으면 false
+     */
+    @Transactional
+    public boolean adjust(Long scheduleId, int delta) {
+        if (scheduleId == null || delta == 0) {
+            return true;
+        }
+        if (!redisEnabled) {
+            return scheduleRepository.adjustAvailableSeats(scheduleId, delta) > 0;
+        }
+
+        Long result = executeAdjust(scheduleId, delta);
+        if (result != null && result == NOT_LOADED) {
+            load(scheduleId);
+            result = executeAdjust(scheduleId, delta);
+        }
+        if (result == null || result < 0) {
+            return false;
+        }
+
+        markDirty(scheduleId);
+        compensateOnRollback(scheduleId, delta);
+        return true;
+    }
+
+    /**
+     * 현재 가용 좌석 수 (Redis 카운터가 없으면 null)
+     */
+    public Integer currentAvailable(Long scheduleId) {
+        if (!redisEnabled || scheduleId == null) {
+            return null;
+        }
+        Object value = redisTemplate.opsForHash().get(inventoryKey(scheduleId), "available");
+        return value == null ? null : Integer.valueOf(value.toString());
+    }
+
+    /**
+     * 여러 스케줄의 현재 가용 좌석 수 (파이프라인 1회, 카운터가 있는 스케줄만 포함)
+     */
+    public Map<Long, Integer> currentAvailable(Collection<Long> scheduleIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (!redisEnabled || scheduleIds == null || scheduleIds.isEmpty()) {
+            return result;
+        }
+        List<Long> ids = List.copyOf(scheduleIds);
+        byte[] field = "available".getBytes(StandardCharsets.UTF_8);
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long scheduleId : ids) {
+                connection.hashCommands().hGet(inventoryKey(scheduleId).getBytes(StandardCharsets.UTF_8), field);
+            }
+            return null;
+        });
+        for (int i = 0; i < ids.size() && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(ids.get(i), Integer.valueOf(values.get(i).toString()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 카운터 폐기 (좌석 재구성 등으로 DB 값이 새 기준이 될 때). 트랜잭션 안이면 커밋 후 폐기한다.
+     */
+    public void invalidate(Long scheduleId) {
+        if (!redisEnabled || scheduleId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.delete(inventoryKey(scheduleId));
+                }
+            });
+        } else {
+            redisTemplate.delete(inventoryKey(scheduleId));
+        }
+    }
+
+    /**
+     * 변경된 카운터를 DB에 일괄 반영 (리스를 가진 노드만, 배치당 JDBC batch 1회)
+     * 배치마다 별도 트랜잭션으로 커밋하며, 커밋하지 못한 배치의 스케줄은 dirty 셋에 다시 등록한다.
+     * @return 반영한 스케줄 수
+     */
+    public int flush() {
+        if (!redisEnabled || !tryAcquireFlusherLease()) {
+            return 0;
+        }
+
+        int flushed = 0;
+        while (true) {
+            // dirty 셋에서 꺼낸 뒤 현재 값을 파이프라인으로 읽음 (꺼낸 뒤의 증감은 dirty 셋에 다시 등록되어 다음 배치에 반영)
+            List<String> drained = redisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+            if (drained == null || drained.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Integer> current = currentAvailable(drained.stream().map(Long::valueOf).toList());
+            Map<Long, Integer> availableBySchedule = new LinkedHashMap<>();
+            for (String id : drained) {
+                Integer available = current.get(Long.valueOf(id));
+                if (available != null) {
+                    availableBySchedule.put(Long.valueOf(id), available);
+                }
+            }
+            if (availableBySchedule.isEmpty()) {
+                continue;
+            }
+
+            try {
+                new TransactionTemplate(transactionManager)
+                        .executeWithoutResult(status -> scheduleRepository.syncAvailableSeats(availableBySchedule));
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 시도
+                redisTemplate.opsForSet().add(DIRTY_KEY, availableBySchedule.keySet().stream()
+                        .map(String::valueOf).toArray(String[]::new));
+                throw e;
+            }
+            flushed += availableBySchedule.size();
+
+            if (drained.size() < flushBatchSize) {
+                break;
+            }
+        }
+        return flushed;
+    }
+
+    private Long executeAdjust(Long scheduleId, int delta) {
+        return redisTemplate.execute(ADJUST_SCRIPT, List.of(inventoryKey(scheduleId)), String.valueOf(delta));
+    }
+
+    private void load(Long scheduleId) {
+        PerformanceSchedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다: " + scheduleId));
+        int total = schedule.getTotalSeats() == null ? 0 : schedule.getTotalSeats();
+        int available = schedule.getAvailableSeats() == null ? 0 : schedule.getAvailableSeats();
+        redisTemplate.execute(LOAD_SCRIPT, List.of(inventoryKey(scheduleId)),
+                String.valueOf(available), String.valueOf(total));
+    }
+
+    private void compensateOnRollback(Long scheduleId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    Long restored = redisTemplate.execute(COMPENSATE_SCRIPT, List.of(inventoryKey(scheduleId)),
+                            String.valueOf(-delta));
+                    if (restored != null && restored != NOT_LOADED) {
+                        markDirty(scheduleId);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("가용 좌석 카운터 롤백 보정 실패: scheduleId={}, delta={}", scheduleId, delta, e);
+                }
+            }
+        });
+    }
+
+    private void markDirty(Long scheduleId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(scheduleId));
+    }
+
+    private boolean tryAcquireFlusherLease() {
+        long ttlMs = Math.max(flushIntervalMs * 10, 5000);
+        Long acquired = redisTemplate.execute(LEASE_SCRIPT, List.of(FLUSHER_LEASE_KEY), nodeId, String.valueOf(ttlMs));
+        return acquired != null && acquired == 1L;
+    }
+
+    private static String inventoryKey(Long scheduleId) {
+        return RedisKeys.scheduleInventory(scheduleId);
+    }
+}
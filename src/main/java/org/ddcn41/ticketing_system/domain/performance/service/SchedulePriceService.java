@@ -0,0 +1,203 @@
+package org.ddcn41.ticketing_system.domain.performance.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
+import org.ddcn41.ticketing_system.domain.performance.entity.ScheduleGradePrice;
+import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.domain.performance.repository.ScheduleGradePriceRepository;
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatStatusStreamService;
+import org.ddcn41.ticketing_system.domain.venue.service.VenueSeatTemplateService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스케줄 등급별 가격표 (노드 로컬 캐시)
+ * - 처음 조회될 때 스케줄 가격표(등급 수만큼의 행)를 적재하고, 이후 좌석 가격/예매 금액은 SQL 없이 계산 (조회 경로는 쓰기 없음)
+ * - 가격표는 좌석 초기화와 공연장 수정 시 공연장 좌석 맵 pricing과 맞춘다 (reconcile)
+ * - 가격표에 없는 등급은 가격이 없는 것으로 본다 (예매 시 오류, 0원으로 처리하지 않음)
+ * - 가격 변경 시 커밋 후 무효화되며, 다른 노드의 변경은 좌석 상태 스트림의 resync 변경분으로 전달받는다
+ * - 무효화 누락에 대비해 적재 후 schedule.price.ttl-ms가 지나면 다시 적재
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulePriceService {
+
+    private final ScheduleGradePriceRepository gradePriceRepository;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final SeatStatusStreamService seatStatusStreamService;
+    private final VenueSeatTemplateService templateService;
+
+    @Value("${schedule.price.ttl-ms:600000}")
+    private long ttlMs;
+
+    private final Map<Long, Entry> prices = new ConcurrentHashMap<>();
+    // 무효화마다 증가. 적재 중에 무효화가 있었으면 적재 결과를 캐시하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        seatStatusStreamService.addDeltaListener(this::applyDelta);
+    }
+
+    /**
+     * 스케줄의 등급 → 가격 (캐시에 없으면 가격표에서 적재)
+     */
+    public Map<String, BigDecimal> pricesOf(Long scheduleId) {
+        long now = System.currentTimeMillis();
+        Entry entry = prices.get(scheduleId);
+        if (entry != null && !entry.isExpired(now, ttlMs)) {
+            return entry.prices();
+        }
+
+        long loadGeneration = generation.get();
+        Map<String, BigDecimal> loaded = new HashMap<>();
+        for (ScheduleGradePrice price : gradePriceRepository.findBySchedule_ScheduleId(scheduleId)) {
+            loaded.put(price.getGrade(), price.getPrice());
+        }
+
+        Map<String, BigDecimal> table = Map.copyOf(loaded);
+        if (generation.get() == loadGeneration) {
+            prices.put(scheduleId, new Entry(table, now));
+        }
+        return table;
+    }
+
+    /**
+     * 등급 가격
+     * @throws IllegalStateException 가격표에 없는 등급
+     */
+    public BigDecimal priceOf(Long scheduleId, String grade) {
+        BigDecimal price = pricesOf(scheduleId).get(grade == null ? "" : grade);
+        if (price == null) {
+            throw new IllegalStateException("가격이 설정되지 않은 좌석 등급입니다: scheduleId=" + scheduleId + ", grade=" + grade);
+        }
+        return price;
+    }
+
+    /**
+     * 가격표를 공연장 좌석 맵 pricing과 맞춤 (좌석 초기화, 공연장 수정 시 호출)
+     * 가격표가 비어 있으면 좌석 행에 남아 있는 기존 가격으로 시작하며, 좌석 맵 pricing에 없는 등급은 기존 값을 유지한다.
+     * @return 변경된 등급 수
+     */
+    @Transactional
+    public int reconcile(Long scheduleId) {
+        Map<String, BigDecimal> current = new HashMap<>();
+        for (ScheduleGradePrice price : gradePriceRepository.findBySchedule_ScheduleId(scheduleId)) {
+            current.put(price.getGrade(), price.getPrice());
+        }
+        return syncPrices(scheduleId, resolvePricing(scheduleId, current));
+    }
+
+    /**
+     * 가격표를 주어진 등급별 가격으로 맞춤 (바뀐 등급만 저장, 없어진 등급은 삭제)
+     * @return 변경된 등급 수
+     */
+    @Transactional
+    public int syncPrices(Long scheduleId, Map<String, BigDecimal> pricing) {
+        Map<String, ScheduleGradePrice> current = new HashMap<>();
+        for (ScheduleGradePrice price : gradePriceRepository.findBySchedule_ScheduleId(scheduleId)) {
+            current.put(price.getGrade(), price);
+        }
+
+        List<ScheduleGradePrice> changed = new ArrayList<>();
+        PerformanceSchedule schedule = null;
+        for (Map.Entry<String, BigDecimal> e : pricing.entrySet()) {
+            ScheduleGradePrice existing = current.remove(e.getKey());
+            if (existing == null) {
+                if (schedule == null) {
+                    schedule = scheduleRepository.getReferenceById(scheduleId);
+                }
+                changed.add(ScheduleGradePrice.builder().schedule(schedule).grade(e.getKey()).price(e.getValue()).build());
+            } else if (existing.getPrice().compareTo(e.getValue()) != 0) {
+                existing.setPrice(e.getValue());
+                changed.add(existing);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            gradePriceRepository.saveAll(changed);
+        }
+        if (!current.isEmpty()) {
+            gradePriceRepository.deleteAll(current.values());
+        }
+        int updated = changed.size() + current.size();
+        if (updated > 0) {
+            invalidateAfterCommit(scheduleId);
+        }
+        return updated;
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 다시 적재)
+     */
+    public void invalidate(Long scheduleId) {
+        generation.incrementAndGet();
+        prices.remove(scheduleId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        prices.values().removeIf(entry -> entry.isExpired(now, ttlMs));
+    }
+
+    /**
+     * 가격표에 반영할 등급별 가격
+     * 공연장 좌석 맵 pricing이 기준이며, 가격표가 비어 있으면 좌석 행에 남아 있는 기존 가격으로 시작한다.
+     * 좌석 맵 pricing에 없는 등급은 가격표(또는 기존 좌석 가격)의 값을 유지한다.
+     */
+    private Map<String, BigDecimal> resolvePricing(Long scheduleId, Map<String, BigDecimal> current) {
+        Map<String, BigDecimal> resolved = new HashMap<>(current);
+        if (resolved.isEmpty()) {
+            for (Object[] row : gradePriceRepository.findLegacySeatPrices(scheduleId)) {
+                resolved.put((String) row[0], new BigDecimal(row[1].toString()));
+            }
+        }
+        scheduleRepository.findVenueByScheduleId(scheduleId).ifPresent(venue -> {
+            try {
+                resolved.putAll(templateService.indexOf(venue).pricing());
+            } catch (IllegalArgumentException e) {
+                // 좌석 맵이 없거나 잘못된 공연장은 가격표/기존 좌석 가격만 사용
+            }
+        });
+        return resolved;
+    }
+
+    private void invalidateAfterCommit(Long scheduleId) {
+        invalidate(scheduleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(scheduleId);
+                }
+            });
+        }
+    }
+
+    private void applyDelta(SeatStatusDelta delta) {
+        if (delta.getScheduleId() != null && delta.getStatus() == null) {
+            invalidate(delta.getScheduleId()); // 좌석 구성/가격 변경
+        }
+    }
+
+    private record Entry(Map<String, BigDecimal> prices, long loadedAt) {
+        boolean isExpired(long now, long ttlMs) {
+            return now - loadedAt >= ttlMs;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.ddcn41.ticketing_system.domain.performance.entity.Performance;
 import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceRepository;
 import org.ddcn41.ticketing_system.domain.user.entity.User;
 import org.ddcn41.ticketing_system.domain.user.repository.UserRepository;
+import org.ddcn41.ticketing_system.global.util.RedisKeys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
@@ -52,15 +53,13 @@ public class QueueService {
     private final Object queueLock = new Object();
 
     private static final String SESSION_KEY_PREFIX = "active_sessions:";
-    private static final String HEARTBEAT_KEY_PREFIX = "heartbeat:";
-    private static final String ACTIVE_TOKENS_KEY_PREFIX = "active_tokens:"; // 새로 추가
 
     /**
      * 대기열 생성 시 직접 입장 세션 추적용
      */
 
     public QueueCheckResponse getBookingToken(Long performanceId, Long scheduleId, Long userId) {
-        String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performanceId;
+        String activeTokensKey = RedisKeys.activeTokens(performanceId);
 
         synchronized (queueLock) {
             try {
@@ -193,7 +192,7 @@ public class QueueService {
     private QueueCheckResponse buildQueueCheckResponse(QueueToken token, Long performanceId, Long scheduleId) {
         if (token.getStatus() == QueueToken.TokenStatus.ACTIVE) {
             // ACTIVE 토큰 - 직접 입장 가능
-            String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performanceId;
+            String activeTokensKey = RedisKeys.activeTokens(performanceId);
             String activeTokensStr = redisTemplate.opsForValue().get(activeTokensKey);
             int activeTokens = activeTokensStr != null ? Integer.parseInt(activeTokensStr) : 0;
 
@@ -263,7 +262,7 @@ public class QueueService {
         updateQueuePosition(savedToken);
 
         // Redis에서 즉시 활성화 가능한지 확인
-        String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performanceId;
+        String activeTokensKey = RedisKeys.activeTokens(performanceId);
         String activeTokensStr = redisTemplate.opsForValue().get(activeTokensKey);
         int currentActive = activeTokensStr != null ? Integer.parseInt(activeTokensStr) : 0;
 
@@ -366,7 +365,7 @@ public class QueueService {
         queueToken.setPositionInQueue(position.intValue());
         queueToken.setEstimatedWaitTimeMinutes(estimatedMinutes);
 
-        String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performanceId;
+        String activeTokensKey = RedisKeys.activeTokens(performanceId);
 
         synchronized (queueLock) {
             // 1) 락 안에서 "현재" 순번 재계산 (진짜 1등인지 확인)
@@ -517,8 +516,8 @@ public class QueueService {
      */
     @Transactional
     public void releaseSession(Long userId, Long performanceId, Long scheduleId) {
-        String heartbeatKey = HEARTBEAT_KEY_PREFIX + userId + ":" + performanceId + ":" + scheduleId;
-        String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performanceId;
+        String heartbeatKey = RedisKeys.heartbeat(scheduleId, userId, performanceId);
+        String activeTokensKey = RedisKeys.activeTokens(performanceId);
 
         log.info("=== 세션 해제 시작: 사용자={}, 공연={} ===", userId, performanceId);
 
@@ -610,7 +609,7 @@ public class QueueService {
      * Redis에서 활성 토큰 수 감소
      */
     private void releaseTokenFromRedis(Long performanceId) {
-        String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performanceId;
+        String activeTokensKey = RedisKeys.activeTokens(performanceId);
         Long activeCount = redisTemplate.opsForValue().decrement(activeTokensKey);
         if (activeCount < 0) {
             redisTemplate.opsForValue().set(activeTokensKey, "0");
@@ -623,7 +622,7 @@ public class QueueService {
      */
     @Transactional
     public void activateNextTokens(Performance performance) {
-        String activeTokensKey = ACTIVE_TOKENS_KEY_PREFIX + performance.getPerformanceId();
+        String activeTokensKey = RedisKeys.activeTokens(performance.getPerformanceId());
 
         synchronized (queueLock) { // 동시성 제어
             activateNextTokensInternal(performance, activeTokensKey);
@@ -665,7 +664,7 @@ public class QueueService {
      * Heartbeat 시작
      */
     private void startHeartbeat(Long userId, Long performanceId, Long scheduleId) {
-        String heartbeatKey = HEARTBEAT_KEY_PREFIX + userId + ":" + performanceId + ":" + scheduleId;
+        String heartbeatKey = RedisKeys.heartbeat(scheduleId, userId, performanceId);
         redisTemplate.opsForValue().set(heartbeatKey, LocalDateTime.now().toString(),
                 Duration.ofSeconds(maxInactiveSeconds));
         log.info("Heartbeat 시작: {}", heartbeatKey);
@@ -674,7 +673,7 @@ public class QueueService {
      * Heartbeat 갱신
      */
     public void updateHeartbeat(Long userId, Long performanceId, Long scheduleId) {
-        String heartbeatKey = HEARTBEAT_KEY_PREFIX + userId + ":" + performanceId + ":" + scheduleId;
+        String heartbeatKey = RedisKeys.heartbeat(scheduleId, userId, performanceId);
         redisTemplate.opsForValue().set(heartbeatKey, LocalDateTime.now().toString(),
                 Duration.ofSeconds(maxInactiveSeconds));
     }
@@ -685,7 +684,7 @@ public class QueueService {
     public void cleanupInactiveSessions() {
         try {
             LocalDateTime cutoff = LocalDateTime.now().minusSeconds(maxInactiveSeconds);
-            Set<String> heartbeatKeys = redisTemplate.keys(HEARTBEAT_KEY_PREFIX + "*");
+            Set<String> heartbeatKeys = redisTemplate.keys(RedisKeys.heartbeatPattern());
 
             if (heartbeatKeys != null) {
                 for (String heartbeatKey : heartbeatKeys) {
@@ -701,29 +700,6 @@ public class QueueService {
                 }
             }
 
-            // 직접 세션 정리 (heartbeat 없이 남아있는 경우)
-            Set<String> directSessionKeys = redisTemplate.keys(ACTIVE_TOKENS_KEY_PREFIX + "*");
-            if (directSessionKeys != null) {
-                for (String directKey : directSessionKeys) {
-                    String[] parts = directKey.replace(ACTIVE_TOKENS_KEY_PREFIX, "").split(":");
-                    if (parts.length >= 3) {
-                        String correspondingHeartbeat = HEARTBEAT_KEY_PREFIX + parts[0] + ":" + parts[1] + ":" + parts[2];
-
-                        // 해당 heartbeat가 없다면 고아 직접 세션이므로 정리
-                        if (!redisTemplate.hasKey(correspondingHeartbeat)) {
-                            redisTemplate.delete(directKey);
-                            try {
-                                Long performanceId = Long.parseLong(parts[1]);
-                                releaseTokenFromRedis(performanceId);
-                                log.info(">>> 고아 직접 세션 정리: {}", directKey);
-                            } catch (NumberFormatException e) {
-                                log.warn("직접 세션 키 파싱 실패: {}", directKey);
-                            }
-                        }
-                    }
-                }
-            }
-
             // 만료된 토큰들 처리
             List<QueueToken> expiredTokens = queueTokenRepository.findExpiredTokens(LocalDateTime.now());
             for (QueueToken token : expiredTokens) {
@@ -744,11 +720,13 @@ public class QueueService {
 
     private void processTimeout(String heartbeatKey) {
         try {
-            String[] parts = heartbeatKey.replace(HEARTBEAT_KEY_PREFIX, "").split(":");
-            if (parts.length >= 3) {
+            // heartbeat:{schedule:S}:userId:performanceId
+            Long scheduleId = RedisKeys.scheduleIdOf(heartbeatKey);
+            String suffix = RedisKeys.suffixOf(heartbeatKey);
+            String[] parts = suffix == null ? new String[0] : suffix.split(":");
+            if (scheduleId != null && parts.length >= 2) {
                 Long userId = Long.parseLong(parts[0]);
                 Long performanceId = Long.parseLong(parts[1]);
-                Long scheduleId = Long.parseLong(parts[2]);
 
                 log.warn("세션 타임아웃 - 사용자: {}", userId);
                 releaseSession(userId, performanceId, scheduleId);
@@ -892,8 +870,8 @@ public class QueueService {
     public void clearAllSessions() {
         try {
             Set<String> sessionKeys = redisTemplate.keys(SESSION_KEY_PREFIX + "*");
-            Set<String> heartbeatKeys = redisTemplate.keys(HEARTBEAT_KEY_PREFIX + "*");
-            Set<String> activeTokenKeys = redisTemplate.keys(ACTIVE_TOKENS_KEY_PREFIX + "*");
+            Set<String> heartbeatKeys = redisTemplate.keys(RedisKeys.heartbeatPattern());
+            Set<String> activeTokenKeys = redisTemplate.keys(RedisKeys.activeTokensPattern());
 
             if (sessionKeys != null && !sessionKeys.isEmpty()) {
                 redisTemplate.delete(sessionKeys);
@@ -1,47 +1,85 @@
 package org.ddcn41.ticketing_system.domain.seat.config;
 
+import org.ddcn41.ticketing_system.domain.seat.service.SeatLockExpiryTracker;
 import org.ddcn41.ticketing_system.domain.seat.service.SeatService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @EnableScheduling
 public class SeatLockCleanupScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(SeatLockCleanupScheduler.class);
 
+    // 한 번의 스윕에서 처리할 최대 배치 수 (나머지는 다음 주기로 이월)
+    private static final int MAX_BATCHES_PER_SWEEP = 20;
+
     @Autowired
     private SeatService seatService;
 
-/*    *//**
-     * 1분마다 만료된 좌석 잠금 정리
-     *//*
-    @Scheduled(fixedRate = 60000) // 1분
-    public void cleanupExpiredLocks() {
+    @Autowired
+    private SeatLockExpiryTracker expiryTracker;
+
+    @Value("${seatlock.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    /**
+     * 만료된 좌석 잠금 해제 (데드라인 셋 기반)
+     * 리스를 가진 단일 노드만 수행하며, 만료 시각이 지난 좌석만 배치 단위로 꺼내 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${seatlock.sweep-interval-ms:1000}")
+    public void sweepExpiredLocks() {
         try {
-            logger.debug("만료된 좌석 잠금 정리 작업 시작");
-            seatService.cleanupExpiredLocks();
-            logger.debug("만료된 좌석 잠금 정리 작업 완료");
+            if (!expiryTracker.tryAcquireSweeperLease()) {
+                return;
+            }
+
+            int released = 0;
+            for (int i = 0; i < MAX_BATCHES_PER_SWEEP; i++) {
+                long now = System.currentTimeMillis();
+                List<Long> dueSeatIds = expiryTracker.pollDue(now, sweepBatchSize);
+                if (dueSeatIds.isEmpty()) {
+                    break;
+                }
+
+                released += seatService.releaseExpiredLocks(dueSeatIds);
+                expiryTracker.acknowledge(dueSeatIds, now);
+
+                if (dueSeatIds.size() < sweepBatchSize) {
+                    break;
+                }
+            }
+
+            if (released > 0) {
+                logger.debug("만료된 좌석 잠금 {}건 해제", released);
+            }
         } catch (Exception e) {
-            logger.error("만료된 좌석 잠금 정리 중 오류 발생", e);
+            logger.error("만료된 좌석 잠금 해제 중 오류 발생", e);
         }
     }
 
-    *//**
-     * 5분마다 시스템 상태 점검
-     *//*
-    @Scheduled(fixedRate = 300000) // 5분
-    public void systemHealthCheck() {
+    /**
+     * 10분마다 seat_locks 전체 스캔 (안전망)
+     * 데드라인 셋에 등록되지 않은 락만 대상이 되므로 평소에는 처리 건수가 없어야 한다.
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000) // 10분
+    public void cleanupUntrackedLocks() {
         try {
-            logger.info("좌석 잠금 시스템 상태 점검 실행");
-            // 필요시 Redis와 DB 동기화 로직 추가
+            if (!expiryTracker.tryAcquireSweeperLease()) {
+                return;
+            }
+            logger.debug("만료된 좌석 잠금 전체 점검 시작");
+            seatService.cleanupExpiredLocks();
+            logger.debug("만료된 좌석 잠금 전체 점검 완료");
         } catch (Exception e) {
-            logger.error("시스템 상태 점검 중 오류 발생", e);
+            logger.error("만료된 좌석 잠금 전체 점검 중 오류 발생", e);
         }
-    }*/
+    }
 }
-
@@ -1,19 +1,29 @@
 package org.ddcn41.ticketing_system.domain.seat.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.dto.request.BestAvailableSeatRequest;
 import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatConfirmRequest;
 import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatLockRequest;
 import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatReleaseRequest;
 import org.ddcn41.ticketing_system.dto.response.ApiResponse;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.CompactSeatMapResponse;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatAvailabilityResponse;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatAvailabilitySummaryResponse;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.domain.seat.service.BestAvailableSeatService;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatEngine;
 import org.ddcn41.ticketing_system.domain.seat.service.SeatService;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatStatusStreamService;
 import org.ddcn41.ticketing_system.domain.user.entity.User;
 import org.ddcn41.ticketing_system.domain.user.service.UserService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -28,21 +38,111 @@ import java.util.List;
 public class SeatController {
 
     private final SeatService seatService;
+    private final SeatStatusStreamService seatStatusStreamService;
+    private final BestAvailableSeatService bestAvailableSeatService;
+    private final SeatEngine seatEngine;
     private final UserService userService;
 
     /**
      * 스케줄의 좌석 가용성 조회
      * GET /api/v1/schedules/{scheduleId}/seats
+     * 좌석 상태 버전을 ETag로 내려주며, If-None-Match가 현재 버전과 같으면 좌석 조회 없이 304를 반환한다.
      */
     @GetMapping("/schedules/{scheduleId}/seats")
     public ResponseEntity<ApiResponse<SeatAvailabilityResponse>> getScheduleSeats(
-            @PathVariable Long scheduleId) {
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        String currentETag = seatMapETag(scheduleId, seatStatusStreamService.currentVersion(scheduleId));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(currentETag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
 
         SeatAvailabilityResponse response = seatService.getSeatsAvailability(scheduleId);
 
-        return ResponseEntity.ok(
-                ApiResponse.success("좌석 조회 성공", response)
-        );
+        return ResponseEntity.ok()
+                .eTag(seatMapETag(scheduleId, response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("좌석 조회 성공", response));
+    }
+
+    /**
+     * 스케줄 좌석 맵 압축 조회 (대형 공연장용)
+     * GET /api/v1/schedules/{scheduleId}/seats/compact
+     * 구역/등급 사전과 연속 좌석 구간, 상태 run-length 문자열로 응답하며 ETag 처리는 전체 조회와 동일하다.
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/compact")
+    public ResponseEntity<ApiResponse<CompactSeatMapResponse>> getCompactScheduleSeats(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        String currentETag = seatMapETag(scheduleId, seatStatusStreamService.currentVersion(scheduleId));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(currentETag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        CompactSeatMapResponse response = seatService.getCompactSeatMap(scheduleId);
+
+        return ResponseEntity.ok()
+                .eTag(seatMapETag(scheduleId, response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("좌석 조회 성공", response));
+    }
+
+    /**
+     * 스케줄 잔여 좌석 요약 (등급별/구역별)
+     * GET /api/v1/schedules/{scheduleId}/seats/summary
+     * 좌석 목록 없이 잔여 수만 응답하며, 좌석 상태 버전 기반 ETag로 변경이 없으면 304를 반환한다.
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/summary")
+    public ResponseEntity<ApiResponse<SeatAvailabilitySummaryResponse>> getScheduleSeatSummary(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        String currentETag = seatMapETag(scheduleId, seatStatusStreamService.currentVersion(scheduleId));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(currentETag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        SeatAvailabilitySummaryResponse response = seatService.getAvailabilitySummary(scheduleId);
+
+        return ResponseEntity.ok()
+                .eTag(seatMapETag(scheduleId, response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("잔여 좌석 요약 조회 성공", response));
+    }
+
+    /**
+     * 스케줄 좌석 상태 변경 스트림 (SSE)
+     * GET /api/v1/schedules/{scheduleId}/seats/stream?sinceVersion={version}
+     * 전체 조회 응답의 version을 sinceVersion으로 넘기면 그 이후 변경분(delta)만 수신한다.
+     * resync 이벤트를 받으면 전체 좌석을 다시 조회한 뒤 재구독해야 한다.
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScheduleSeats(
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) Long sinceVersion,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        Long since = sinceVersion;
+        if (since == null && lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                since = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException ignored) {
+                // 잘못된 Last-Event-ID는 무시하고 현재 버전부터 구독
+            }
+        }
+
+        return seatStatusStreamService.subscribe(scheduleId, since);
     }
 
     /**
@@ -98,7 +198,8 @@ public class SeatController {
         Long effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
                 request.getUserId() : authenticatedUser.getUserId();
 
-        SeatLockResponse response = seatService.lockSeats(
+        SeatLockResponse response = seatEngine.lockSeats(
+                scheduleId,
                 request.getSeatIds(),
                 effectiveUserId,  // 인증된 사용자 ID 사용
                 request.getSessionId()
@@ -115,6 +216,51 @@ public class SeatController {
         }
     }
 
+    /**
+     * 연속 좌석 자동 배정 및 락
+     * POST /api/v1/schedules/{scheduleId}/seats/best-available
+     * 등급/구역 조건에 맞는 연속 빈 좌석을 골라 한 번에 잠그며, 배정된 좌석은 응답의 seatIds로 반환한다.
+     */
+    @PostMapping("/schedules/{scheduleId}/seats/best-available")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<SeatLockResponse>> lockBestAvailableSeats(
+            @PathVariable Long scheduleId,
+            @Valid @RequestBody BestAvailableSeatRequest request,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        User authenticatedUser = userService.findByUsername(username);
+
+        // 관리자가 아닌 경우, 요청의 userId와 인증된 사용자가 일치하는지 검증
+        if (!User.Role.ADMIN.equals(authenticatedUser.getRole()) &&
+                !authenticatedUser.getUserId().equals(request.getUserId())) {
+            return ResponseEntity.status(403).body(
+                    ApiResponse.error("본인의 좌석만 잠금할 수 있습니다", "FORBIDDEN", null)
+            );
+        }
+
+        Long effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
+                request.getUserId() : authenticatedUser.getUserId();
+
+        SeatLockResponse response = bestAvailableSeatService.allocate(
+                scheduleId,
+                request.getGrade(),
+                request.getZone(),
+                request.getCount(),
+                effectiveUserId,
+                request.getSessionId()
+        );
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(
+                    ApiResponse.success(response.getMessage(), response)
+            );
+        }
+        return ResponseEntity.badRequest().body(
+                ApiResponse.error(response.getMessage(), "SEAT_ALLOCATION_FAILED", response)
+        );
+    }
+
     /**
      * 스케줄의 좌석 락 해제
      * DELETE /api/v1/schedules/{scheduleId}/seats/lock
@@ -150,7 +296,8 @@ public class SeatController {
         Long effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
                 request.getUserId() : authenticatedUser.getUserId();
 
-        boolean released = seatService.releaseSeats(
+        boolean released = seatEngine.releaseSeats(
+                scheduleId,
                 request.getSeatIds(),
                 effectiveUserId,  // 인증된 사용자 ID 사용
                 request.getSessionId()
@@ -190,9 +337,10 @@ public class SeatController {
         Long effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
                 request.getUserId() : authenticatedUser.getUserId();
 
-        boolean confirmed = seatService.confirmSeats(
+        boolean confirmed = seatEngine.confirmSeats(
                 request.getSeatIds(),
-                effectiveUserId  // 인증된 사용자 ID 사용
+                effectiveUserId,  // 인증된 사용자 ID 사용
+                request.getHoldToken()
         );
 
         if (confirmed) {
@@ -215,13 +363,48 @@ public class SeatController {
     public ResponseEntity<ApiResponse<Boolean>> cancelSeats(
             @RequestBody List<Long> seatIds) {
 
-        boolean cancelled = seatService.cancelSeats(seatIds);
+        boolean cancelled = seatEngine.cancelSeats(seatIds);
 
         return ResponseEntity.ok(
                 ApiResponse.success("좌석 예약 취소 성공", cancelled)
         );
     }
 
+    /**
+     * 사용자의 좌석 점유 연장
+     * POST /api/v1/users/{userId}/seat-locks/renew?sessionId={sessionId}
+     * 세션을 지정하면 해당 세션의 점유만, 지정하지 않으면 사용자의 모든 점유를 연장한다.
+     */
+    @PostMapping("/users/{userId}/seat-locks/renew")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<SeatLockResponse>> renewUserLocks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String sessionId,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        User authenticatedUser = userService.findByUsername(username);
+
+        // 관리자가 아닌 경우 본인의 점유만 연장 가능
+        if (!User.Role.ADMIN.equals(authenticatedUser.getRole()) &&
+                !authenticatedUser.getUserId().equals(userId)) {
+            return ResponseEntity.status(403).body(
+                    ApiResponse.error("본인의 좌석만 연장할 수 있습니다", "FORBIDDEN", null)
+            );
+        }
+
+        SeatLockResponse response = seatService.renewLocks(userId, sessionId);
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(
+                    ApiResponse.success(response.getMessage(), response)
+            );
+        }
+        return ResponseEntity.badRequest().body(
+                ApiResponse.error(response.getMessage(), "SEAT_LOCK_RENEW_FAILED", response)
+        );
+    }
+
     /**
      * 사용자의 모든 락 해제 (관리자 전용)
      * DELETE /api/v1/users/{userId}/seat-locks
@@ -252,4 +435,29 @@ public class SeatController {
                 ApiResponse.success("만료된 락 정리 완료")
         );
     }
-}
\ No newline at end of file
+
+    // === Private Helper Methods ===
+
+    private static String seatMapETag(Long scheduleId, long version) {
+        return "\"" + scheduleId + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더(콤마 구분 목록, 약한 ETag, * 허용)가 현재 ETag와 일치하는지 확인
+     */
+    private static boolean matchesETag(String ifNoneMatch, String currentETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(currentETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package org.ddcn41.ticketing_system.domain.seat.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatEngineCommandRequest;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.domain.seat.service.SeatEngine;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+
+/**
+ * 좌석 엔진 노드 간 내부 API
+ * 다른 노드가 인증/소속 검증을 마친 명령을 스케줄 소유 노드로 전달할 때만 사용하며, 내부 토큰 헤더로 확인한다.
+ * 응답은 전달한 노드가 그대로 사용자 응답으로 감싸므로 ApiResponse 없이 결과만 반환한다.
+ */
+@RestController
+@RequestMapping("/v1/internal/seat-engine")
+@RequiredArgsConstructor
+public class SeatEngineController {
+
+    private final SeatEngine seatEngine;
+
+    /**
+     * 전달된 좌석 점유
+     * POST /api/v1/internal/seat-engine/schedules/{scheduleId}/lock
+     */
+    @PostMapping("/schedules/{scheduleId}/lock")
+    public ResponseEntity<SeatLockResponse> lock(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = SeatEngine.INTERNAL_TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody SeatEngineCommandRequest request) {
+        if (!seatEngine.isTrustedForward(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(seatEngine.handleForwardedLock(scheduleId, request));
+    }
+
+    /**
+     * 전달된 좌석 점유 해제
+     * POST /api/v1/internal/seat-engine/schedules/{scheduleId}/release
+     */
+    @PostMapping("/schedules/{scheduleId}/release")
+    public ResponseEntity<Boolean> release(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = SeatEngine.INTERNAL_TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody SeatEngineCommandRequest request) {
+        if (!seatEngine.isTrustedForward(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(seatEngine.handleForwardedRelease(scheduleId, request));
+    }
+
+    /**
+     * 전달된 좌석 예약 확정
+     * POST /api/v1/internal/seat-engine/schedules/{scheduleId}/confirm
+     */
+    @PostMapping("/schedules/{scheduleId}/confirm")
+    public ResponseEntity<Boolean> confirm(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = SeatEngine.INTERNAL_TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody SeatEngineCommandRequest request) {
+        if (!seatEngine.isTrustedForward(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(seatEngine.handleForwardedConfirm(scheduleId, request));
+    }
+
+    /**
+     * 전달된 좌석 예약 취소
+     * POST /api/v1/internal/seat-engine/schedules/{scheduleId}/cancel
+     */
+    @PostMapping("/schedules/{scheduleId}/cancel")
+    public ResponseEntity<Boolean> cancel(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = SeatEngine.INTERNAL_TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody SeatEngineCommandRequest request) {
+        if (!seatEngine.isTrustedForward(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(seatEngine.handleForwardedCancel(scheduleId, request));
+    }
+}
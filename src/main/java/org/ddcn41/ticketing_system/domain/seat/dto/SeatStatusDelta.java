@@ -0,0 +1,23 @@
+package org.ddcn41.ticketing_system.domain.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 변경분 (SSE delta 이벤트 payload)
+ * version 시점에 seatIds 좌석들이 status로 바뀌었음을 의미한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatStatusDelta {
+    private Long scheduleId;
+    private Long version;
+    private String status; // AVAILABLE, LOCKED, BOOKED
+    private List<Long> seatIds;
+}
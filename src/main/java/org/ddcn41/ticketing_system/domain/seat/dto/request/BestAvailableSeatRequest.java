@@ -0,0 +1,28 @@
+package org.ddcn41.ticketing_system.domain.seat.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestAvailableSeatRequest {
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+
+    private String sessionId;
+
+    private String grade; // 없으면 등급 무관
+
+    private String zone;  // 없으면 구역 무관
+
+    @NotNull(message = "좌석 수는 필수입니다")
+    @Min(value = 1, message = "좌석 수는 1 이상이어야 합니다")
+    private Integer count;
+}
@@ -0,0 +1,26 @@
+package org.ddcn41.ticketing_system.domain.seat.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌석 일괄 보류/해제 대상
+ * seatIds를 지정하면 해당 좌석만, 아니면 zone/rowFrom/rowTo 조건(지정한 항목만 적용)에 맞는 좌석 전체가 대상이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatBlockRequest {
+    private List<Long> seatIds;
+
+    private String zone;
+
+    private String rowFrom; // 열 라벨 범위 시작 (포함, A..Z, AA.. 순서)
+
+    private String rowTo;   // 열 라벨 범위 끝 (포함)
+}
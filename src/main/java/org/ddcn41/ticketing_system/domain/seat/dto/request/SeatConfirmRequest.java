@@ -22,4 +22,7 @@ public class SeatConfirmRequest {
 
     @NotNull(message = "예약 ID는 필수입니다")
     private Long bookingId;
+
+    // 좌석 점유 시 받은 펜싱 토큰 (선택)
+    private Long holdToken;
 }
\ No newline at end of file
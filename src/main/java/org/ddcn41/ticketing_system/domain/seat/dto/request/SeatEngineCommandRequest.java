@@ -0,0 +1,31 @@
+package org.ddcn41.ticketing_system.domain.seat.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * 좌석 엔진 노드 간 전달 명령 (점유/해제/확정 공용)
+ * 요청을 받은 노드에서 인증/소속 검증을 마친 뒤 스케줄 소유 노드로 전달된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatEngineCommandRequest {
+    @NotEmpty(message = "좌석 ID 목록은 필수입니다")
+    private List<Long> seatIds;
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+
+    private String sessionId;
+
+    // 확정 시 펜싱 토큰 (선택)
+    private Long holdToken;
+}
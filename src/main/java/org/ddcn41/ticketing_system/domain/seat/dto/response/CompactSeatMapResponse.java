@@ -0,0 +1,53 @@
+package org.ddcn41.ticketing_system.domain.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 대형 공연장용 압축 좌석 맵 응답
+ * - zones / grades: 구역, 등급(가격) 사전. runs에서는 인덱스로 참조
+ * - runs: seatId와 좌석 번호가 함께 1씩 증가하는 같은 열의 연속 좌석 구간
+ *   (좌석 서수 = runs를 순서대로 펼친 위치 = seatId 오름차순)
+ * - status: 좌석 서수 순서의 상태 run-length 인코딩. "A120L2B5"처럼 상태 코드(A/L/B/X) 뒤에 연속 개수를 붙인다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompactSeatMapResponse {
+    private Long scheduleId;
+    private Long version; // 좌석 상태 버전 (stream 구독 시 sinceVersion으로 사용)
+    private Integer totalSeats;
+    private Integer availableSeats;
+    private List<String> zones;
+    private List<GradeEntry> grades;
+    private List<SeatRun> runs;
+    private String status;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GradeEntry {
+        private String grade;
+        private BigDecimal price;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SeatRun {
+        private Integer zone;       // zones 인덱스
+        private Integer grade;      // grades 인덱스
+        private String row;         // 열 라벨
+        private Long firstSeatId;   // 구간 첫 좌석 ID (이후 좌석은 +1씩)
+        private String firstCol;    // 구간 첫 좌석 번호 (이후 좌석은 +1씩)
+        private Integer length;     // 구간 좌석 수
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 @Builder
 public class SeatAvailabilityResponse {
     private Long scheduleId;
+    private Long version; // 좌석 상태 버전 (stream 구독 시 sinceVersion으로 사용)
     private Integer totalSeats;
     private Integer availableSeats;
     private List<SeatDto> seats;
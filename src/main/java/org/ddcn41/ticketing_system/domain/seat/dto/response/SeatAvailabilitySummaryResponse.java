@@ -0,0 +1,35 @@
+package org.ddcn41.ticketing_system.domain.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스케줄 잔여 좌석 요약 (등급별/구역별 잔여 수)
+ * 좌석 목록 없이 목록/상세 화면의 "VIP 12석 남음" 표시용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatAvailabilitySummaryResponse {
+    private Long scheduleId;
+    private Long version; // 요약에 반영된 좌석 상태 버전
+    private Integer totalSeats;
+    private Integer availableSeats;
+    private List<Count> grades;
+    private List<Count> zones;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Count {
+        private String name;
+        private Integer totalSeats;
+        private Integer availableSeats;
+    }
+}
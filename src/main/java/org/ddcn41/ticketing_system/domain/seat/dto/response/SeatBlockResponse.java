@@ -0,0 +1,13 @@
+package org.ddcn41.ticketing_system.domain.seat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatBlockResponse {
+    private final Long scheduleId;
+    private final boolean blocked;  // true면 보류, false면 해제
+    private final int matched;      // 조건에 맞는 좌석 수
+    private final int changed;      // 실제로 상태가 바뀐 좌석 수 (점유/예매 중인 좌석은 제외)
+}
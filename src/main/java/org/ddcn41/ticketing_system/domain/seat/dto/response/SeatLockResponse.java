@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -15,6 +16,9 @@ public class SeatLockResponse {
     private boolean success;
     private String message;
     private LocalDateTime expiresAt;
+    private List<Long> seatIds; // 서버가 좌석을 배정한 경우(best-available)에만 설정
+    private Long holdToken; // 펜싱 토큰 (확정 요청 시 함께 전달하면 이 점유일 때만 확정)
+    private boolean limitExceeded; // 사용자/세션별 동시 점유 한도 초과로 실패한 경우
 
     public static SeatLockResponse success(String message, LocalDateTime expiresAt) {
         return SeatLockResponse.builder()
@@ -30,4 +34,12 @@ public class SeatLockResponse {
                 .message(message)
                 .build();
     }
-}
\ No newline at end of file
+
+    public static SeatLockResponse limitExceeded(String message) {
+        return SeatLockResponse.builder()
+                .success(false)
+                .message(message)
+                .limitExceeded(true)
+                .build();
+    }
+}
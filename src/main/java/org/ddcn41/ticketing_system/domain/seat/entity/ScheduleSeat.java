@@ -10,7 +10,6 @@ import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,6 +31,10 @@ public class ScheduleSeat {
     @JoinColumn(name = "schedule_id", nullable = false)
     private PerformanceSchedule schedule;
 
+    // 공연장 좌석 템플릿(venue_seats)의 서수
+    @Column(name = "ordinal")
+    private Integer ordinal;
+
     @Column(name = "grade", nullable = false, length = 10)
     private String grade;
 
@@ -44,15 +47,15 @@ public class ScheduleSeat {
     @Column(name = "col_num", nullable = false, length = 10)
     private String colNum;
 
-    @Column(precision = 10, scale = 2)
-    @Builder.Default
-    private BigDecimal price = BigDecimal.ZERO;
-
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
     @Builder.Default
     private SeatStatus status = SeatStatus.AVAILABLE;
 
+    // 현재 점유의 펜싱 토큰 (점유마다 단조 증가, 확정/해제는 이 값이 일치할 때만 반영)
+    @Column(name = "hold_token")
+    private Long holdToken;
+
     @Version
     private Long version;
 
@@ -71,6 +74,7 @@ public class ScheduleSeat {
     private List<SeatLock> seatLocks;
 
     public enum SeatStatus {
-        AVAILABLE, LOCKED, BOOKED
+        AVAILABLE, LOCKED, BOOKED,
+        BLOCKED // 운영 보류 (제작 보류석/카메라석/초대석 등, 판매 대상 아님)
     }
 }
\ No newline at end of file
@@ -41,6 +41,10 @@ public class SeatLock {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    // 점유 시 발급된 펜싱 토큰 (좌석의 hold_token과 같아야 유효한 점유)
+    @Column(name = "fencing_token")
+    private Long fencingToken;
+
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
     @Builder.Default
@@ -0,0 +1,14 @@
+package org.ddcn41.ticketing_system.domain.seat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄 좌석 구성 변경 이벤트 (좌석 생성/가격 변경 등 개별 상태 전이로 표현할 수 없는 변경)
+ * 구독자는 변경분 대신 resync를 받고 전체를 다시 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatMapChangedEvent {
+    private final Long scheduleId;
+}
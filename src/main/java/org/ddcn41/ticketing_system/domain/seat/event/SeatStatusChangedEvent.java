@@ -0,0 +1,19 @@
+package org.ddcn41.ticketing_system.domain.seat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
+
+import java.util.List;
+
+/**
+ * 스케줄 좌석 상태 변경 이벤트
+ * 한 트랜잭션에서 같은 상태로 전이된 좌석들을 묶어서 발행한다 (커밋 이후 처리).
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatStatusChangedEvent {
+    private final Long scheduleId;
+    private final List<Long> seatIds;
+    private final ScheduleSeat.SeatStatus status;
+}
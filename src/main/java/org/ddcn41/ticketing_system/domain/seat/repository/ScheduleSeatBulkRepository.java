@@ -0,0 +1,32 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 일괄 전이용 커스텀 리포지토리
+ * 대상 좌석 수와 무관하게 UPDATE 1회로 처리하고, 실제로 전이된 좌석 ID를 함께 돌려받는다.
+ */
+public interface ScheduleSeatBulkRepository {
+
+    /**
+     * 스케줄 좌석 중 현재 상태가 from인 좌석만 to로 전이 (seatId 배열 바인딩 + RETURNING 1회)
+     * @return 전이된 좌석 ID (조회 이후 상태가 바뀐 좌석은 제외됨)
+     */
+    List<Long> transitionReturningIds(Long scheduleId, List<Long> seatIds,
+                                      ScheduleSeat.SeatStatus from, ScheduleSeat.SeatStatus to);
+
+    /**
+     * 공연장 좌석 템플릿에서 스케줄에 없는 좌석만 복사 (INSERT ... SELECT 1회, 서수 순으로 생성)
+     * 가격은 좌석에 복사하지 않고 스케줄 등급별 가격표(schedule_grade_prices)를 참조한다.
+     * @param ordinals 복사 대상 템플릿 서수 (현재 좌석 맵에 있는 좌석)
+     * @return 생성된 좌석 수
+     */
+    int copyFromTemplate(Long scheduleId, Long venueId, int[] ordinals);
+
+    /**
+     * 서수가 없는 기존 좌석을 좌표로 템플릿과 연결 (UPDATE 1회)
+     */
+    int linkTemplateOrdinals(Long scheduleId, Long venueId);
+}
@@ -0,0 +1,81 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ScheduleSeatBulkRepositoryImpl implements ScheduleSeatBulkRepository {
+
+    // 벌크 UPDATE는 @Version/@UpdateTimestamp를 거치지 않으므로 직접 증가/갱신한다.
+    private static final String TRANSITION_SQL =
+            "UPDATE schedule_seats SET status = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE schedule_id = ? AND status = ? AND seat_id = ANY(?) RETURNING seat_id";
+
+    // 템플릿 좌석 중 스케줄에 아직 없는 좌표만 생성
+    private static final String COPY_FROM_TEMPLATE_SQL =
+            "INSERT INTO schedule_seats (schedule_id, ordinal, grade, zone, row_label, col_num, status, version, created_at, updated_at) " +
+            "SELECT ?, t.ordinal, t.grade, t.zone, t.row_label, t.col_num, 'AVAILABLE', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM venue_seats t " +
+            "WHERE t.venue_id = ? AND t.ordinal = ANY(?) " +
+            "AND NOT EXISTS (SELECT 1 FROM schedule_seats s WHERE s.schedule_id = ? " +
+            "AND s.zone IS NOT DISTINCT FROM t.zone AND s.row_label = t.row_label AND s.col_num = t.col_num) " +
+            "ORDER BY t.ordinal";
+
+    private static final String LINK_ORDINALS_SQL =
+            "UPDATE schedule_seats s SET ordinal = t.ordinal FROM venue_seats t " +
+            "WHERE s.schedule_id = ? AND s.ordinal IS NULL AND t.venue_id = ? " +
+            "AND s.zone IS NOT DISTINCT FROM t.zone AND s.row_label = t.row_label AND s.col_num = t.col_num";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> transitionReturningIds(Long scheduleId, List<Long> seatIds,
+                                             ScheduleSeat.SeatStatus from, ScheduleSeat.SeatStatus to) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> prepareTransition(connection, TRANSITION_SQL, scheduleId, seatIds, from, to),
+                (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public int copyFromTemplate(Long scheduleId, Long venueId, int[] ordinals) {
+        if (ordinals.length == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(COPY_FROM_TEMPLATE_SQL);
+            ps.setLong(1, scheduleId);
+            ps.setLong(2, venueId);
+            ps.setArray(3, connection.createArrayOf("integer", boxed(ordinals)));
+            ps.setLong(4, scheduleId);
+            return ps;
+        });
+    }
+
+    @Override
+    public int linkTemplateOrdinals(Long scheduleId, Long venueId) {
+        return jdbcTemplate.update(LINK_ORDINALS_SQL, scheduleId, venueId);
+    }
+
+    private static Integer[] boxed(int[] values) {
+        return Arrays.stream(values).boxed().toArray(Integer[]::new);
+    }
+
+    private static PreparedStatement prepareTransition(Connection connection, String sql, Long scheduleId, List<Long> seatIds,
+                                                       ScheduleSeat.SeatStatus from, ScheduleSeat.SeatStatus to) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql);
+        ps.setString(1, to.name());
+        ps.setLong(2, scheduleId);
+        ps.setString(3, from.name());
+        ps.setArray(4, connection.createArrayOf("bigint", seatIds.toArray()));
+        return ps;
+    }
+}
@@ -0,0 +1,145 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄 좌석 디렉터리 (불변)
+ * 좌석 초기화 이후 바뀌지 않는 좌석 메타데이터를 seatId 오름차순 서수(ordinal) 기준 배열로 보관한다.
+ * seatId ↔ 서수 ↔ 좌표(zone, rowLabel, colNum) ↔ 등급 조회를 SQL 없이 처리하기 위한 용도이며, 좌석 상태는 포함하지 않는다.
+ */
+public final class ScheduleSeatDirectory {
+
+    private final Long scheduleId;
+    private final long[] seatIds;
+    private final int[] zoneOf;
+    private final int[] gradeOf;
+    private final String[] rowLabels;
+    private final String[] colNums;
+    private final List<String> zones;
+    private final List<String> grades;
+    private final Map<String, Integer> ordinalByCoordinate;
+
+    private ScheduleSeatDirectory(Builder builder) {
+        this.scheduleId = builder.scheduleId;
+        this.seatIds = Arrays.copyOf(builder.seatIds, builder.size);
+        this.zoneOf = Arrays.copyOf(builder.zoneOf, builder.size);
+        this.gradeOf = Arrays.copyOf(builder.gradeOf, builder.size);
+        this.rowLabels = Arrays.copyOf(builder.rowLabels, builder.size);
+        this.colNums = Arrays.copyOf(builder.colNums, builder.size);
+        this.zones = List.copyOf(builder.zones);
+        this.grades = List.copyOf(builder.grades);
+        this.ordinalByCoordinate = builder.ordinalByCoordinate;
+    }
+
+    public static Builder builder(Long scheduleId) {
+        return new Builder(scheduleId);
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    /**
+     * 좌석 서수 (이 스케줄의 좌석이 아니면 -1)
+     */
+    public int ordinalOf(long seatId) {
+        int idx = Arrays.binarySearch(seatIds, seatId);
+        return idx >= 0 ? idx : -1;
+    }
+
+    public boolean contains(Long seatId) {
+        return seatId != null && ordinalOf(seatId) >= 0;
+    }
+
+    public boolean containsAll(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            if (!contains(seatId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 좌표로 좌석 ID 조회 (없으면 null)
+     */
+    public Long findSeatId(String zone, String rowLabel, String colNum) {
+        Integer ordinal = ordinalByCoordinate.get(coordinateKey(zone, rowLabel, colNum));
+        return ordinal == null ? null : seatIds[ordinal];
+    }
+
+    public long seatIdAt(int ordinal) { return seatIds[ordinal]; }
+    public String zoneAt(int ordinal) { return zones.get(zoneOf[ordinal]); }
+    public String gradeAt(int ordinal) { return grades.get(gradeOf[ordinal]); }
+    public String rowLabelAt(int ordinal) { return rowLabels[ordinal]; }
+    public String colNumAt(int ordinal) { return colNums[ordinal]; }
+
+    private static String coordinateKey(String zone, String rowLabel, String colNum) {
+        return (zone == null ? "" : zone) + "|" + (rowLabel == null ? "" : rowLabel) + "|" + (colNum == null ? "" : colNum);
+    }
+
+    public static final class Builder {
+
+        private final Long scheduleId;
+        private int size;
+        private long[] seatIds = new long[256];
+        private int[] zoneOf = new int[256];
+        private int[] gradeOf = new int[256];
+        private String[] rowLabels = new String[256];
+        private String[] colNums = new String[256];
+        private final List<String> zones = new ArrayList<>();
+        private final Map<String, Integer> zoneIndex = new HashMap<>();
+        private final List<String> grades = new ArrayList<>();
+        private final Map<String, Integer> gradeIndex = new HashMap<>();
+        private final Map<String, Integer> ordinalByCoordinate = new HashMap<>();
+
+        private Builder(Long scheduleId) {
+            this.scheduleId = scheduleId;
+        }
+
+        /**
+         * 좌석 한 건 추가 (seatId 오름차순으로 호출되어야 함)
+         */
+        public void append(long seatId, String zone, String grade, String rowLabel, String colNum) {
+            if (size == seatIds.length) {
+                int capacity = size * 2;
+                seatIds = Arrays.copyOf(seatIds, capacity);
+                zoneOf = Arrays.copyOf(zoneOf, capacity);
+                gradeOf = Arrays.copyOf(gradeOf, capacity);
+                rowLabels = Arrays.copyOf(rowLabels, capacity);
+                colNums = Arrays.copyOf(colNums, capacity);
+            }
+            seatIds[size] = seatId;
+            zoneOf[size] = indexOf(zone, zones, zoneIndex);
+            gradeOf[size] = indexOf(grade, grades, gradeIndex);
+            rowLabels[size] = rowLabel;
+            colNums[size] = colNum;
+            ordinalByCoordinate.put(coordinateKey(zone, rowLabel, colNum), size);
+            size++;
+        }
+
+        public ScheduleSeatDirectory build() {
+            return new ScheduleSeatDirectory(this);
+        }
+
+        private static int indexOf(String value, List<String> values, Map<String, Integer> index) {
+            String key = value == null ? "" : value;
+            Integer idx = index.get(key);
+            if (idx == null) {
+                idx = values.size();
+                values.add(key);
+                index.put(key, idx);
+            }
+            return idx;
+        }
+    }
+}
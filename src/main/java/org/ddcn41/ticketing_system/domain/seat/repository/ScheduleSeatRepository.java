@@ -10,7 +10,8 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long> {
+public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long>, ScheduleSeatSnapshotRepository,
+        ScheduleSeatBulkRepository {
 
     // 기존 메서드들
     List<ScheduleSeat> findBySchedule_ScheduleIdAndSeatIdIn(Long scheduleId, List<Long> seatIds);
@@ -110,4 +111,103 @@ public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long
      * 스케줄 + 좌표로 단일 좌석 조회
      */
     ScheduleSeat findBySchedule_ScheduleIdAndZoneAndRowLabelAndColNum(Long scheduleId, String zone, String rowLabel, String colNum);
+
+    //  일괄 처리 메서드들 (좌석 단위 반복 쿼리 대체)
+
+    /**
+     * 좌석 ID별 스케줄 ID/상태 조회 (엔티티 로딩 없이 [seatId, scheduleId, status] 반환)
+     */
+    @Query("SELECT s.seatId, s.schedule.scheduleId, s.status FROM ScheduleSeat s WHERE s.seatId IN :seatIds")
+    List<Object[]> findSeatStatesBySeatIds(@Param("seatIds") List<Long> seatIds);
+
+    /**
+     * 좌석 상태 일괄 변경 (현재 상태가 from 중 하나인 좌석만 변경, 변경된 행 수 반환)
+     * 벌크 UPDATE는 @Version/@UpdateTimestamp를 거치지 않으므로 직접 증가/갱신한다.
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("""
+            UPDATE ScheduleSeat s
+            SET s.status = :to, s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.seatId IN :seatIds AND s.status IN :from
+            """)
+    int transitionStatus(@Param("seatIds") List<Long> seatIds,
+                         @Param("from") List<ScheduleSeat.SeatStatus> from,
+                         @Param("to") ScheduleSeat.SeatStatus to);
+
+    /**
+     * 좌석 점유 전이 (현재 상태가 from 중 하나이고 기존 토큰보다 새 토큰이 클 때만 LOCKED + hold_token 갱신)
+     * 역행한(이전에 발급된) 토큰으로는 점유를 덮어쓸 수 없다.
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("""
+            UPDATE ScheduleSeat s
+            SET s.status = 'LOCKED', s.holdToken = :token, s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.seatId IN :seatIds AND s.status IN :from
+              AND (s.holdToken IS NULL OR s.holdToken < :token)
+            """)
+    int holdSeats(@Param("seatIds") List<Long> seatIds,
+                  @Param("from") List<ScheduleSeat.SeatStatus> from,
+                  @Param("token") Long token);
+
+    /**
+     * 사용자의 현재 점유(활성 락의 토큰이 좌석 토큰과 일치)인 LOCKED 좌석만 BOOKED로 확정
+     * 만료 후 다른 사용자가 다시 점유한 좌석은 토큰이 달라 제외된다.
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("""
+            UPDATE ScheduleSeat s
+            SET s.status = 'BOOKED', s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.seatId IN :seatIds AND s.status = 'LOCKED'
+              AND EXISTS (SELECT 1 FROM SeatLock l
+                          WHERE l.seat.seatId = s.seatId AND l.user.userId = :userId
+                            AND l.status = 'ACTIVE' AND l.fencingToken = s.holdToken)
+            """)
+    int confirmHeldSeats(@Param("seatIds") List<Long> seatIds, @Param("userId") Long userId);
+
+    /**
+     * confirmHeldSeats와 같되 클라이언트가 받은 토큰과도 일치해야 확정
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("""
+            UPDATE ScheduleSeat s
+            SET s.status = 'BOOKED', s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.seatId IN :seatIds AND s.status = 'LOCKED' AND s.holdToken = :token
+              AND EXISTS (SELECT 1 FROM SeatLock l
+                          WHERE l.seat.seatId = s.seatId AND l.user.userId = :userId
+                            AND l.status = 'ACTIVE' AND l.fencingToken = s.holdToken)
+            """)
+    int confirmHeldSeatsWithToken(@Param("seatIds") List<Long> seatIds,
+                                  @Param("userId") Long userId,
+                                  @Param("token") Long token);
+
+    /**
+     * 해제 대상 락의 토큰이 좌석 토큰과 일치하는 좌석만 AVAILABLE로 되돌림
+     * 그 사이 새 점유로 넘어간 좌석은 토큰이 달라 건드리지 않는다 (토큰 도입 이전 좌석은 hold_token이 NULL).
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("""
+            UPDATE ScheduleSeat s
+            SET s.status = 'AVAILABLE', s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.seatId IN :seatIds AND s.status IN :from
+              AND (s.holdToken IS NULL
+                   OR EXISTS (SELECT 1 FROM SeatLock l
+                              WHERE l.lockId IN :lockIds AND l.seat.seatId = s.seatId
+                                AND l.fencingToken = s.holdToken))
+            """)
+    int releaseHeldSeats(@Param("seatIds") List<Long> seatIds,
+                         @Param("lockIds") List<Long> lockIds,
+                         @Param("from") List<ScheduleSeat.SeatStatus> from);
+
+    /**
+     * 활성 락이 없는 LOCKED 좌석만 AVAILABLE로 되돌림 (락 정합성 복구용)
+     * 조회 이후 새로 잠긴 좌석은 NOT EXISTS 조건으로 제외된다.
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("""
+            UPDATE ScheduleSeat s
+            SET s.status = 'AVAILABLE', s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.seatId IN :seatIds AND s.status = 'LOCKED'
+              AND NOT EXISTS (SELECT 1 FROM SeatLock l WHERE l.seat.seatId = s.seatId AND l.status = 'ACTIVE')
+            """)
+    int releaseUnheldLockedSeats(@Param("seatIds") List<Long> seatIds);
 }
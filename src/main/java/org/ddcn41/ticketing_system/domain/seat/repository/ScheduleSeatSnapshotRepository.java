@@ -0,0 +1,18 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+/**
+ * 좌석 맵 스냅샷 조회용 커스텀 리포지토리
+ * 엔티티/DTO를 좌석마다 만들지 않고 JDBC 결과를 스냅샷 배열에 바로 적재한다.
+ */
+public interface ScheduleSeatSnapshotRepository {
+
+    /**
+     * 스케줄의 전체 좌석을 seatId 오름차순으로 읽어 스냅샷 생성
+     */
+    SeatMapSnapshot loadSeatMapSnapshot(Long scheduleId);
+
+    /**
+     * 스케줄의 좌석 메타데이터(좌표/등급)만 seatId 오름차순으로 읽어 좌석 디렉터리 생성
+     */
+    ScheduleSeatDirectory loadSeatDirectory(Long scheduleId);
+}
@@ -0,0 +1,51 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@RequiredArgsConstructor
+public class ScheduleSeatSnapshotRepositoryImpl implements ScheduleSeatSnapshotRepository {
+
+    // 좌석 가격은 스케줄 등급별 가격표에서 (없는 등급은 null: 가격 미설정)
+    private static final String SNAPSHOT_SQL =
+            "SELECT s.seat_id, s.zone, s.grade, p.price, s.row_label, s.col_num, s.status " +
+            "FROM schedule_seats s LEFT JOIN schedule_grade_prices p ON p.schedule_id = s.schedule_id AND p.grade = s.grade " +
+            "WHERE s.schedule_id = ? ORDER BY s.seat_id";
+
+    private static final String DIRECTORY_SQL =
+            "SELECT seat_id, zone, grade, row_label, col_num " +
+            "FROM schedule_seats WHERE schedule_id = ? ORDER BY seat_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public SeatMapSnapshot loadSeatMapSnapshot(Long scheduleId) {
+        SeatMapSnapshot snapshot = new SeatMapSnapshot();
+        jdbcTemplate.query(SNAPSHOT_SQL, (RowCallbackHandler) rs -> {
+            snapshot.append(
+                    rs.getLong(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getBigDecimal(4),
+                    rs.getString(5),
+                    rs.getString(6),
+                    rs.getString(7));
+        }, scheduleId);
+        return snapshot;
+    }
+
+    @Override
+    public ScheduleSeatDirectory loadSeatDirectory(Long scheduleId) {
+        ScheduleSeatDirectory.Builder builder = ScheduleSeatDirectory.builder(scheduleId);
+        jdbcTemplate.query(DIRECTORY_SQL, (RowCallbackHandler) rs -> {
+            builder.append(
+                    rs.getLong(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getString(5));
+        }, scheduleId);
+        return builder.build();
+    }
+}
@@ -0,0 +1,18 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SeatLock 일괄 저장용 커스텀 리포지토리
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 저장한다.
+ */
+public interface SeatLockBatchRepository {
+
+    /**
+     * 여러 좌석에 대한 ACTIVE 락을 한 번의 JDBC 배치로 저장
+     * @param fencingToken 이번 점유에 발급된 펜싱 토큰
+     * @return 저장된 행 수
+     */
+    int insertActiveLocks(List<Long> seatIds, Long userId, String sessionId, LocalDateTime expiresAt, Long fencingToken);
+}
@@ -0,0 +1,56 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.entity.SeatLock;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SeatLockBatchRepositoryImpl implements SeatLockBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO seat_locks (seat_id, user_id, session_id, locked_at, expires_at, status, created_at, fencing_token) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertActiveLocks(List<Long> seatIds, Long userId, String sessionId, LocalDateTime expiresAt,
+                                 Long fencingToken) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expires = Timestamp.valueOf(expiresAt);
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, seatIds, seatIds.size(), (ps, seatId) -> {
+            ps.setLong(1, seatId);
+            if (userId != null) {
+                ps.setLong(2, userId);
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, sessionId);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, expires);
+            ps.setString(6, SeatLock.LockStatus.ACTIVE.name());
+            ps.setTimestamp(7, now);
+            if (fencingToken != null) {
+                ps.setLong(8, fencingToken);
+            } else {
+                ps.setNull(8, Types.BIGINT);
+            }
+        });
+
+        return Arrays.stream(results)
+                .flatMapToInt(Arrays::stream)
+                .map(count -> count < 0 ? 1 : count) // SUCCESS_NO_INFO(-2)는 1건으로 간주
+                .sum();
+    }
+}
@@ -5,6 +5,7 @@ import org.ddcn41.ticketing_system.domain.seat.entity.SeatLock;
 
 import org.ddcn41.ticketing_system.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SeatLockRepository extends JpaRepository<SeatLock, Long> {
+public interface SeatLockRepository extends JpaRepository<SeatLock, Long>, SeatLockBatchRepository {
 
     // 기존 메서드들
     Optional<SeatLock> findBySeatSeatIdAndStatus(Long seatId, SeatLock.LockStatus status);
@@ -45,6 +46,12 @@ public interface SeatLockRepository extends JpaRepository<SeatLock, Long> {
     @Query("SELECT sl FROM SeatLock sl WHERE sl.seat.seatId IN :seatIds AND sl.user = :user AND sl.status = 'ACTIVE'")
     List<SeatLock> findActiveUserLocksBySeatIds(@Param("seatIds") List<Long> seatIds, @Param("user") User user);
 
+    /**
+     * 사용자 ID 기준 특정 좌석들의 활성 락 조회 (User 엔티티 로딩 없이)
+     */
+    @Query("SELECT sl FROM SeatLock sl WHERE sl.seat.seatId IN :seatIds AND sl.user.userId = :userId AND sl.status = 'ACTIVE'")
+    List<SeatLock> findActiveLocksBySeatIdsAndUserId(@Param("seatIds") List<Long> seatIds, @Param("userId") Long userId);
+
     /**
      * 세션의 특정 좌석들에 대한 활성 락 조회
      */
@@ -62,4 +69,27 @@ public interface SeatLockRepository extends JpaRepository<SeatLock, Long> {
      */
     @Query("SELECT sl FROM SeatLock sl WHERE sl.status = 'ACTIVE' AND sl.expiresAt BETWEEN :start AND :end")
     List<SeatLock> findLocksExpiringBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 락 상태 일괄 변경 (ACTIVE 락만 대상)
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("UPDATE SeatLock sl SET sl.status = :status WHERE sl.lockId IN :lockIds AND sl.status = 'ACTIVE'")
+    int updateStatusByLockIds(@Param("lockIds") List<Long> lockIds, @Param("status") SeatLock.LockStatus status);
+
+    /**
+     * 락 만료 시각 일괄 연장
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("UPDATE SeatLock sl SET sl.expiresAt = :expiresAt WHERE sl.lockId IN :lockIds AND sl.status = 'ACTIVE'")
+    int extendLocks(@Param("lockIds") List<Long> lockIds, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 같은 사용자의 재점유: 만료 시각 연장과 함께 새 펜싱 토큰으로 교체
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = true)
+    @Query("UPDATE SeatLock sl SET sl.expiresAt = :expiresAt, sl.fencingToken = :token WHERE sl.lockId IN :lockIds AND sl.status = 'ACTIVE'")
+    int reassignLocks(@Param("lockIds") List<Long> lockIds,
+                      @Param("expiresAt") LocalDateTime expiresAt,
+                      @Param("token") Long token);
 }
\ No newline at end of file
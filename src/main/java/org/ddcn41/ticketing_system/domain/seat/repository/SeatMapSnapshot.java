@@ -0,0 +1,161 @@
+package org.ddcn41.ticketing_system.domain.seat.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 스케줄 좌석 맵의 열 지향(column-oriented) 스냅샷
+ * 좌석은 seatId 오름차순(좌석 서수)으로 적재되며, 좌석별 객체 대신
+ * 구역/등급 사전 + 연속 좌석 구간(run) + 상태 코드 배열로만 보관한다.
+ */
+public class SeatMapSnapshot {
+
+    public static final byte STATUS_AVAILABLE = 'A';
+    public static final byte STATUS_LOCKED = 'L';
+    public static final byte STATUS_BOOKED = 'B';
+    public static final byte STATUS_BLOCKED = 'X';
+
+    private final List<String> zones = new ArrayList<>();
+    private final Map<String, Integer> zoneIndex = new HashMap<>();
+    private final List<String> grades = new ArrayList<>();
+    private final List<BigDecimal> gradePrices = new ArrayList<>();
+    private final Map<String, Integer> gradeIndex = new HashMap<>();
+
+    // 구간(run): 같은 구역/등급/열에서 seatId와 좌석 번호가 함께 1씩 증가하는 좌석 묶음
+    private int runCount;
+    private int[] runZone = new int[16];
+    private int[] runGrade = new int[16];
+    private long[] runFirstSeatId = new long[16];
+    private int[] runLength = new int[16];
+    private String[] runRowLabel = new String[16];
+    private String[] runFirstCol = new String[16];
+    private int lastColNum = Integer.MIN_VALUE;
+
+    private int seatCount;
+    private byte[] statuses = new byte[256];
+    private int availableCount;
+
+    /**
+     * 좌석 한 건 추가 (seatId 오름차순으로 호출되어야 함)
+     */
+    public void append(long seatId, String zone, String grade, BigDecimal price,
+                       String rowLabel, String colNum, String status) {
+        int z = zoneIndexOf(zone);
+        int g = gradeIndexOf(grade, price);
+        int col = parseColNum(colNum);
+
+        int last = runCount - 1;
+        boolean extendsRun = last >= 0
+                && runZone[last] == z
+                && runGrade[last] == g
+                && Objects.equals(runRowLabel[last], rowLabel)
+                && runFirstSeatId[last] + runLength[last] == seatId
+                && lastColNum != Integer.MIN_VALUE && col == lastColNum + 1;
+
+        if (extendsRun) {
+            runLength[last]++;
+        } else {
+            ensureRunCapacity();
+            runZone[runCount] = z;
+            runGrade[runCount] = g;
+            runFirstSeatId[runCount] = seatId;
+            runLength[runCount] = 1;
+            runRowLabel[runCount] = rowLabel;
+            runFirstCol[runCount] = colNum;
+            runCount++;
+        }
+        lastColNum = col;
+
+        if (seatCount == statuses.length) {
+            statuses = Arrays.copyOf(statuses, seatCount * 2);
+        }
+        byte code = statusCode(status);
+        statuses[seatCount++] = code;
+        if (code == STATUS_AVAILABLE) {
+            availableCount++;
+        }
+    }
+
+    public static byte statusCode(String status) {
+        if (status == null) {
+            return STATUS_AVAILABLE;
+        }
+        return switch (status) {
+            case "LOCKED" -> STATUS_LOCKED;
+            case "BOOKED" -> STATUS_BOOKED;
+            case "BLOCKED" -> STATUS_BLOCKED;
+            default -> STATUS_AVAILABLE;
+        };
+    }
+
+    public List<String> getZones() { return zones; }
+    public List<String> getGrades() { return grades; }
+    public List<BigDecimal> getGradePrices() { return gradePrices; }
+    public int getRunCount() { return runCount; }
+    public int getRunZone(int i) { return runZone[i]; }
+    public int getRunGrade(int i) { return runGrade[i]; }
+    public long getRunFirstSeatId(int i) { return runFirstSeatId[i]; }
+    public int getRunLength(int i) { return runLength[i]; }
+    public String getRunRowLabel(int i) { return runRowLabel[i]; }
+    public String getRunFirstCol(int i) { return runFirstCol[i]; }
+    public int getSeatCount() { return seatCount; }
+    public byte getStatus(int ordinal) { return statuses[ordinal]; }
+    public int getAvailableCount() { return availableCount; }
+
+    private int zoneIndexOf(String zone) {
+        String key = zone == null ? "" : zone;
+        Integer idx = zoneIndex.get(key);
+        if (idx == null) {
+            idx = zones.size();
+            zones.add(key);
+            zoneIndex.put(key, idx);
+        }
+        return idx;
+    }
+
+    private int gradeIndexOf(String grade, BigDecimal price) {
+        // 같은 등급이라도 가격이 다르면 별도 항목으로 취급
+        String key = (grade == null ? "" : grade) + "|" + (price == null ? "" : price.stripTrailingZeros().toPlainString());
+        Integer idx = gradeIndex.get(key);
+        if (idx == null) {
+            idx = grades.size();
+            grades.add(grade == null ? "" : grade);
+            gradePrices.add(price);
+            gradeIndex.put(key, idx);
+        }
+        return idx;
+    }
+
+    private void ensureRunCapacity() {
+        if (runCount < runZone.length) {
+            return;
+        }
+        int size = runZone.length * 2;
+        runZone = Arrays.copyOf(runZone, size);
+        runGrade = Arrays.copyOf(runGrade, size);
+        runFirstSeatId = Arrays.copyOf(runFirstSeatId, size);
+        runLength = Arrays.copyOf(runLength, size);
+        runRowLabel = Arrays.copyOf(runRowLabel, size);
+        runFirstCol = Arrays.copyOf(runFirstCol, size);
+    }
+
+    private static int parseColNum(String colNum) {
+        if (colNum == null || colNum.isEmpty() || colNum.length() > 9) {
+            return Integer.MIN_VALUE;
+        }
+        int v = 0;
+        for (int i = 0; i < colNum.length(); i++) {
+            char ch = colNum.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return Integer.MIN_VALUE; // 숫자가 아닌 좌석 번호는 구간으로 묶지 않음
+            }
+            v = v * 10 + (ch - '0');
+        }
+        return v;
+    }
+}
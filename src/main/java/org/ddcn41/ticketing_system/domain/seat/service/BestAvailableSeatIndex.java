@@ -0,0 +1,410 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatAvailabilitySummaryResponse;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
+import org.ddcn41.ticketing_system.domain.seat.repository.SeatMapSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄별 연속 빈 좌석 인덱스 (노드 로컬)
+ * - 좌석 맵 스냅샷에서 열(zone + rowLabel) 단위로 좌석 번호 순 배열과 빈 좌석 비트셋을 만든다
+ * - 열마다 최대 연속 빈 좌석 수를 유지해 요청 수보다 짧은 열은 스캔하지 않는다
+ * - 등급별/구역별 잔여 좌석 수도 좌석의 빈 좌석 여부가 실제로 바뀔 때만 증감해 함께 유지한다 (잔여 좌석 요약)
+ * - 좌석 상태 스트림의 변경분으로 갱신되며, resync 또는 유효 시간 경과 시 다시 만든다
+ * 인덱스는 후보 선정용일 뿐이며 실제 점유 여부는 SeatService.lockSeats가 판정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BestAvailableSeatIndex {
+
+    private static final long BUILD_WAIT_MS = 5000;
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final SeatStatusStreamService seatStatusStreamService;
+
+    @Value("${seat.best-available.index-ttl-ms:60000}")
+    private long indexTtlMs;
+
+    private final Map<Long, ScheduleIndex> indexes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        seatStatusStreamService.addDeltaListener(this::applyDelta);
+    }
+
+    /**
+     * 조건에 맞는 연속 빈 좌석 탐색
+     * 앞쪽 열(좌석 맵 순서)을 우선하고, 같은 열에서는 열 중앙에 가장 가까운 구간을 고른다.
+     * @param grade 등급 (null이면 무관)
+     * @param zone 구역 (null이면 무관)
+     * @param excluded 이번 요청에서 이미 실패한 좌석 (후보에서 제외)
+     * @return 좌석 ID 목록 (좌석 번호 순), 없으면 빈 목록
+     */
+    public List<Long> findBest(Long scheduleId, String grade, String zone, int count, Collection<Long> excluded) {
+        return indexFor(scheduleId).findBest(grade, zone, count, excluded);
+    }
+
+    /**
+     * 등급별/구역별 잔여 좌석 요약 (좌석 스캔 없이 유지 중인 카운터로 응답)
+     */
+    public SeatAvailabilitySummaryResponse summarize(Long scheduleId) {
+        return indexFor(scheduleId).summarize(scheduleId);
+    }
+
+    /**
+     * 인덱스 무효화 (다음 조회 시 다시 생성)
+     */
+    public void invalidate(Long scheduleId) {
+        indexes.remove(scheduleId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        indexes.entrySet().removeIf(entry -> entry.getValue().isExpired(now, indexTtlMs));
+    }
+
+    private void applyDelta(SeatStatusDelta delta) {
+        if (delta.getScheduleId() == null) {
+            return;
+        }
+        if (delta.getStatus() == null) {
+            invalidate(delta.getScheduleId()); // 좌석 구성 변경
+            return;
+        }
+        ScheduleIndex index = indexes.get(delta.getScheduleId());
+        if (index != null) {
+            index.apply(delta);
+        }
+    }
+
+    private ScheduleIndex indexFor(Long scheduleId) {
+        long now = System.currentTimeMillis();
+        ScheduleIndex index = indexes.get(scheduleId);
+        if (index != null && !index.isExpired(now, indexTtlMs)) {
+            return index;
+        }
+
+        // 버전 조회 전에 먼저 등록해 생성 중에 들어온 변경분도 누락 없이 보관
+        ScheduleIndex fresh = new ScheduleIndex(now);
+        boolean owner = index == null
+                ? indexes.putIfAbsent(scheduleId, fresh) == null
+                : indexes.replace(scheduleId, index, fresh);
+        if (!owner) {
+            ScheduleIndex current = indexes.get(scheduleId);
+            return current != null ? current : indexFor(scheduleId);
+        }
+
+        try {
+            long version = seatStatusStreamService.currentVersion(scheduleId);
+            SeatMapSnapshot snapshot = scheduleSeatRepository.loadSeatMapSnapshot(scheduleId);
+            fresh.initialize(snapshot, version);
+        } catch (RuntimeException e) {
+            indexes.remove(scheduleId, fresh);
+            fresh.fail();
+            throw e;
+        }
+        return fresh;
+    }
+
+    /**
+     * 한 스케줄의 열 단위 인덱스
+     * 슬롯은 열 순서 → 좌석 번호 순으로 배치되며 rowStart[r] ~ rowStart[r + 1] - 1이 r번째 열이다.
+     */
+    private static final class ScheduleIndex {
+
+        private final long createdAt;
+        private boolean ready;
+        private boolean failed;
+        private long builtVersion;
+        private long appliedVersion;
+        private final List<SeatStatusDelta> pending = new ArrayList<>();
+
+        private List<String> zones = Collections.emptyList();
+        private List<String> grades = Collections.emptyList();
+        private int[] rowZone;
+        private int[] rowStart;
+        private int[] rowMaxRun;
+        private long[] slotSeatId;
+        private int[] slotGrade;
+        private boolean[] slotJoinsPrev; // 같은 열에서 앞 슬롯과 좌석 번호가 바로 이어지는지
+        private int[] slotRow;
+        private BitSet free;
+        private int freeCount;
+        private int[] gradeTotal;
+        private int[] gradeFree;
+        private int[] zoneTotal;
+        private int[] zoneFree;
+        private final Map<Long, Integer> slotBySeatId = new HashMap<>();
+
+        ScheduleIndex(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long now, long ttlMs) {
+            return now - createdAt > ttlMs;
+        }
+
+        synchronized void initialize(SeatMapSnapshot snapshot, long version) {
+            zones = snapshot.getZones();
+            grades = snapshot.getGrades();
+
+            // 열 단위로 좌석 수집 (좌석 맵 순서 유지): {seatId, colNum(숫자가 아니면 -1), grade, free}
+            Map<String, List<long[]>> rows = new LinkedHashMap<>();
+            Map<String, Integer> rowZones = new HashMap<>();
+            int ordinal = 0;
+            for (int run = 0; run < snapshot.getRunCount(); run++) {
+                String key = snapshot.getRunZone(run) + "|" + snapshot.getRunRowLabel(run);
+                List<long[]> seats = rows.computeIfAbsent(key, k -> new ArrayList<>());
+                rowZones.put(key, snapshot.getRunZone(run));
+                long firstCol = parseCol(snapshot.getRunFirstCol(run));
+                for (int k = 0; k < snapshot.getRunLength(run); k++, ordinal++) {
+                    seats.add(new long[]{
+                            snapshot.getRunFirstSeatId(run) + k,
+                            firstCol < 0 ? -1 : firstCol + k,
+                            snapshot.getRunGrade(run),
+                            snapshot.getStatus(ordinal) == SeatMapSnapshot.STATUS_AVAILABLE ? 1 : 0
+                    });
+                }
+            }
+
+            int seatCount = ordinal;
+            rowZone = new int[rows.size()];
+            rowStart = new int[rows.size() + 1];
+            rowMaxRun = new int[rows.size()];
+            slotSeatId = new long[seatCount];
+            slotGrade = new int[seatCount];
+            slotJoinsPrev = new boolean[seatCount];
+            slotRow = new int[seatCount];
+            free = new BitSet(seatCount);
+            gradeTotal = new int[grades.size()];
+            gradeFree = new int[grades.size()];
+            zoneTotal = new int[zones.size()];
+            zoneFree = new int[zones.size()];
+
+            int r = 0;
+            int slot = 0;
+            for (Map.Entry<String, List<long[]>> entry : rows.entrySet()) {
+                List<long[]> seats = entry.getValue();
+                seats.sort((a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(a[0], b[0]));
+                rowZone[r] = rowZones.get(entry.getKey());
+                rowStart[r] = slot;
+                long prevCol = Long.MIN_VALUE;
+                for (long[] seat : seats) {
+                    slotSeatId[slot] = seat[0];
+                    slotGrade[slot] = (int) seat[2];
+                    slotJoinsPrev[slot] = seat[1] >= 0 && prevCol >= 0 && seat[1] == prevCol + 1;
+                    slotRow[slot] = r;
+                    free.set(slot, seat[3] == 1);
+                    gradeTotal[slotGrade[slot]]++;
+                    zoneTotal[rowZone[r]]++;
+                    if (seat[3] == 1) {
+                        gradeFree[slotGrade[slot]]++;
+                        zoneFree[rowZone[r]]++;
+                        freeCount++;
+                    }
+                    slotBySeatId.put(seat[0], slot);
+                    prevCol = seat[1];
+                    slot++;
+                }
+                r++;
+            }
+            rowStart[r] = slot;
+            for (int i = 0; i < rowMaxRun.length; i++) {
+                rowMaxRun[i] = maxFreeRun(i);
+            }
+
+            builtVersion = version;
+            appliedVersion = version;
+            ready = true;
+            for (SeatStatusDelta delta : pending) {
+                applyNow(delta);
+            }
+            pending.clear();
+            notifyAll();
+        }
+
+        synchronized void fail() {
+            failed = true;
+            pending.clear();
+            notifyAll();
+        }
+
+        synchronized void apply(SeatStatusDelta delta) {
+            if (!ready) {
+                if (!failed) {
+                    pending.add(delta);
+                }
+                return;
+            }
+            applyNow(delta);
+        }
+
+        synchronized List<Long> findBest(String grade, String zone, int count, Collection<Long> excluded) {
+            awaitReady();
+
+            boolean[] gradeOk = new boolean[grades.size()];
+            for (int g = 0; g < gradeOk.length; g++) {
+                gradeOk[g] = grade == null || grade.equals(grades.get(g));
+            }
+
+            for (int r = 0; r < rowMaxRun.length; r++) {
+                if (rowMaxRun[r] < count) {
+                    continue;
+                }
+                if (zone != null && !zone.equals(zones.get(rowZone[r]))) {
+                    continue;
+                }
+
+                int start = rowStart[r];
+                int end = rowStart[r + 1];
+                double center = (start + end - 1) / 2.0;
+                int bestStart = -1;
+                double bestDistance = Double.MAX_VALUE;
+                int runLength = 0;
+                for (int slot = start; slot < end; slot++) {
+                    boolean usable = free.get(slot)
+                            && gradeOk[slotGrade[slot]]
+                            && (excluded == null || !excluded.contains(slotSeatId[slot]));
+                    if (!usable) {
+                        runLength = 0;
+                        continue;
+                    }
+                    runLength = runLength > 0 && slotJoinsPrev[slot] ? runLength + 1 : 1;
+                    if (runLength >= count) {
+                        int windowStart = slot - count + 1;
+                        double distance = Math.abs((windowStart + slot) / 2.0 - center);
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            bestStart = windowStart;
+                        }
+                    }
+                }
+
+                if (bestStart >= 0) {
+                    List<Long> seatIds = new ArrayList<>(count);
+                    for (int slot = bestStart; slot < bestStart + count; slot++) {
+                        seatIds.add(slotSeatId[slot]);
+                    }
+                    return seatIds;
+                }
+            }
+            return Collections.emptyList();
+        }
+
+        synchronized SeatAvailabilitySummaryResponse summarize(Long scheduleId) {
+            awaitReady();
+
+            // 같은 등급이라도 가격별로 사전 항목이 나뉘므로 등급 이름으로 합산
+            Map<String, int[]> byGrade = new LinkedHashMap<>();
+            for (int g = 0; g < grades.size(); g++) {
+                int[] counts = byGrade.computeIfAbsent(grades.get(g), k -> new int[2]);
+                counts[0] += gradeTotal[g];
+                counts[1] += gradeFree[g];
+            }
+            List<SeatAvailabilitySummaryResponse.Count> gradeCounts = new ArrayList<>(byGrade.size());
+            byGrade.forEach((name, counts) -> gradeCounts.add(new SeatAvailabilitySummaryResponse.Count(name, counts[0], counts[1])));
+
+            List<SeatAvailabilitySummaryResponse.Count> zoneCounts = new ArrayList<>(zones.size());
+            for (int z = 0; z < zones.size(); z++) {
+                zoneCounts.add(new SeatAvailabilitySummaryResponse.Count(zones.get(z), zoneTotal[z], zoneFree[z]));
+            }
+
+            return SeatAvailabilitySummaryResponse.builder()
+                    .scheduleId(scheduleId)
+                    .version(appliedVersion)
+                    .totalSeats(slotSeatId.length)
+                    .availableSeats(freeCount)
+                    .grades(gradeCounts)
+                    .zones(zoneCounts)
+                    .build();
+        }
+
+        private void awaitReady() {
+            long deadline = System.currentTimeMillis() + BUILD_WAIT_MS;
+            while (!ready) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (failed || remaining <= 0) {
+                    throw new IllegalStateException("좌석 인덱스를 생성하지 못했습니다");
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("좌석 인덱스 대기 중 중단되었습니다", e);
+                }
+            }
+        }
+
+        private void applyNow(SeatStatusDelta delta) {
+            if (delta.getVersion() != null && delta.getVersion() <= builtVersion) {
+                return; // 스냅샷에 이미 반영된 변경분
+            }
+            if (delta.getVersion() != null && delta.getVersion() > appliedVersion) {
+                appliedVersion = delta.getVersion();
+            }
+            if (delta.getSeatIds() == null) {
+                return;
+            }
+            boolean available = "AVAILABLE".equals(delta.getStatus());
+            int lastRow = -1;
+            for (Long seatId : delta.getSeatIds()) {
+                Integer slot = slotBySeatId.get(seatId);
+                if (slot == null || free.get(slot) == available) {
+                    continue;
+                }
+                free.set(slot, available);
+                int diff = available ? 1 : -1;
+                gradeFree[slotGrade[slot]] += diff;
+                zoneFree[rowZone[slotRow[slot]]] += diff;
+                freeCount += diff;
+                int row = slotRow[slot];
+                if (row != lastRow) {
+                    rowMaxRun[row] = maxFreeRun(row);
+                    lastRow = row;
+                }
+            }
+        }
+
+        private int maxFreeRun(int row) {
+            int max = 0;
+            int run = 0;
+            for (int slot = rowStart[row]; slot < rowStart[row + 1]; slot++) {
+                if (!free.get(slot)) {
+                    run = 0;
+                    continue;
+                }
+                run = run > 0 && slotJoinsPrev[slot] ? run + 1 : 1;
+                max = Math.max(max, run);
+            }
+            return max;
+        }
+
+        private static long parseCol(String colNum) {
+            if (colNum == null || colNum.isEmpty() || colNum.length() > 9) {
+                return -1;
+            }
+            for (int i = 0; i < colNum.length(); i++) {
+                if (!Character.isDigit(colNum.charAt(i))) {
+                    return -1;
+                }
+            }
+            return Long.parseLong(colNum);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 연속 좌석 자동 배정 (best-available)
+ * 인덱스에서 후보 구간을 고른 뒤 SeatService.lockSeats로 한 번에 잠근다.
+ * 다른 요청과 경합해 실패하면 해당 구간을 제외하고 다음 후보로 재시도한다.
+ * 시도마다 별도 트랜잭션이 되도록 이 서비스 자체는 트랜잭션을 갖지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BestAvailableSeatService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BestAvailableSeatIndex seatIndex;
+    private final SeatService seatService;
+
+    @Value("${seat.best-available.max-count:10}")
+    private int maxCount;
+
+    public SeatLockResponse allocate(Long scheduleId, String grade, String zone, int count,
+                                     Long userId, String sessionId) {
+        if (count < 1 || count > maxCount) {
+            return SeatLockResponse.failure("한 번에 배정할 수 있는 좌석 수는 1~" + maxCount + "석입니다");
+        }
+
+        Set<Long> excluded = new HashSet<>();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            List<Long> seatIds = seatIndex.findBest(scheduleId, blankToNull(grade), blankToNull(zone), count, excluded);
+            if (seatIds.isEmpty()) {
+                return SeatLockResponse.failure("조건에 맞는 연속 좌석이 없습니다");
+            }
+
+            SeatLockResponse response;
+            try {
+                response = seatService.lockSeats(seatIds, userId, sessionId);
+            } catch (RuntimeException e) {
+                log.debug("연속 좌석 배정 실패 (시도 {}): {}", attempt, e.getMessage());
+                response = null;
+            }
+
+            if (response != null && response.isSuccess()) {
+                response.setSeatIds(seatIds);
+                return response;
+            }
+            if (response != null && response.isLimitExceeded()) {
+                return response; // 다른 좌석으로 재시도해도 결과가 같음
+            }
+            excluded.addAll(seatIds);
+        }
+
+        return SeatLockResponse.failure("좌석 경합으로 배정에 실패했습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,65 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 스케줄 → 노드 일관 해시 링 (불변)
+ * 노드마다 가상 노드를 두어 고르게 분산하며, 노드가 추가/제거되어도 해당 노드 구간의 스케줄만 소유자가 바뀐다.
+ * 해시는 JVM과 무관하게 모든 노드에서 같은 값이 나와야 하므로 MD5 앞 8바이트를 사용한다.
+ */
+final class ConsistentHashRing {
+
+    static final ConsistentHashRing EMPTY = new ConsistentHashRing(Set.of(), 0);
+
+    private final Set<String> nodes;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.nodes = Set.copyOf(new TreeSet<>(nodes));
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    Set<String> nodes() {
+        return nodes;
+    }
+
+    boolean sameNodes(Collection<String> other) {
+        return nodes.size() == other.size() && nodes.containsAll(other);
+    }
+
+    /**
+     * 스케줄을 맡을 노드 (링이 비어 있으면 null)
+     */
+    String nodeFor(Long scheduleId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash("schedule:" + scheduleId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xFF);
+            }
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5를 사용할 수 없습니다", e);
+        }
+    }
+}
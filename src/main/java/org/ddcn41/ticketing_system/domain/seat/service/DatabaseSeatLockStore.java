@@ -0,0 +1,97 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Postgres 행 잠금 기반 좌석 점유 (seatlock.mode=db)
+ * 호출 트랜잭션 안에서 schedule_seats 행을 FOR UPDATE SKIP LOCKED로 잠가,
+ * 같은 좌석을 처리 중인 다른 트랜잭션이 있으면 기다리지 않고 바로 충돌로 판정한다.
+ * 행 잠금은 트랜잭션 종료 시 풀리며, 이후의 점유 유지/만료는 seat_locks 행이 담당하므로
+ * release/renew는 별도 작업이 없다.
+ * 사용자/세션별 한도는 소유자 단위 advisory 트랜잭션 락으로 같은 소유자의 점유 요청을 직렬화한 뒤
+ * 스케줄을 가리지 않고 seat_locks의 유효한 ACTIVE 행 수로 판정한다.
+ */
+@Component
+@ConditionalOnProperty(name = "seatlock.mode", havingValue = "db")
+@RequiredArgsConstructor
+public class DatabaseSeatLockStore implements SeatLockStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FencingTokenSequence fencingTokens = new FencingTokenSequence();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int acquire(Long scheduleId, List<Long> seatIds, String holder, long ttlMillis, HoldQuota quota) {
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = seatIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT seat_id FROM schedule_seats WHERE seat_id IN (" + placeholders + ") FOR UPDATE SKIP LOCKED",
+                Long.class, seatIds.toArray());
+
+        Set<Long> lockedIds = new HashSet<>(locked);
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (!lockedIds.contains(seatIds.get(i))) {
+                return i + 1;
+            }
+        }
+
+        if (quota.limitsUser() && exceeds("user_id", quota.userId(), seatIds, quota.maxPerUser(), placeholders)) {
+            return USER_LIMIT_EXCEEDED;
+        }
+        if (quota.limitsSession() && exceeds("session_id", quota.sessionId(), seatIds, quota.maxPerSession(), placeholders)) {
+            return SESSION_LIMIT_EXCEEDED;
+        }
+        return 0;
+    }
+
+    @Override
+    public void release(Long scheduleId, List<Long> seatIds, List<String> holders) {
+        // 행 잠금은 트랜잭션 종료 시 해제됨
+    }
+
+    @Override
+    public void renew(Long scheduleId, List<Long> seatIds, List<String> holders, List<Long> ttlMillis) {
+        // 점유 만료 시각은 seat_locks 행에서 관리됨
+    }
+
+    /**
+     * 소유자 락을 잡은 뒤, 요청 좌석을 제외한 유효 점유 수에 요청 좌석 수를 더해 한도 초과 여부 판정
+     */
+    private boolean exceeds(String ownerColumn, Object owner, List<Long> seatIds, int limit, String placeholders) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?))",
+                "seat_holds:" + ownerColumn + ":" + owner);
+
+        Object[] args = new Object[seatIds.size() + 2];
+        args[0] = owner;
+        args[1] = Timestamp.valueOf(LocalDateTime.now()); // expires_at은 애플리케이션 시각으로 기록됨
+        for (int i = 0; i < seatIds.size(); i++) {
+            args[i + 2] = seatIds.get(i);
+        }
+        Integer held = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM seat_locks l"
+                        + " WHERE l." + ownerColumn + " = ? AND l.status = 'ACTIVE' AND l.expires_at > ?"
+                        + " AND l.seat_id NOT IN (" + placeholders + ")",
+                Integer.class, args);
+        return (held == null ? 0 : held) + seatIds.size() > limit;
+    }
+
+    @Override
+    public long nextFencingToken(Long scheduleId) {
+        // 노드별 발급이지만 시각 기반이라 노드 간에도 증가하며, 역행한 토큰은 hold_token 조건에서 걸러진다
+        return fencingTokens.next(scheduleId);
+    }
+}
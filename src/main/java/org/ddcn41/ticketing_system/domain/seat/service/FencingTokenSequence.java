@@ -0,0 +1,25 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 스케줄별 펜싱 토큰 발급기 (local/db 모드)
+ * 직전 값 + 1과 현재 시각(마이크로초 단위) 중 큰 값을 발급하므로,
+ * 재시작 후나 다른 노드에서 발급한 토큰보다 작아지지 않는다 (노드 간 시계 차이 범위 내).
+ */
+final class FencingTokenSequence {
+
+    private final Map<Long, Long> lastTokens = new ConcurrentHashMap<>();
+
+    long next(Long scheduleId) {
+        return lastTokens.merge(scheduleId, floor(), (prev, floor) -> Math.max(prev + 1, floor));
+    }
+
+    /**
+     * 토큰 하한 (현재 시각 기준)
+     */
+    static long floor() {
+        return System.currentTimeMillis() * 1000;
+    }
+}
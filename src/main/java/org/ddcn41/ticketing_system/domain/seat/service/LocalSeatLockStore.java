@@ -0,0 +1,195 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 좌석 점유 (seatlock.mode=local)
+ * 단일 노드 배포 전용. 좌석 ID를 고정 개수의 스트라이프 락으로 나눠 보호하며,
+ * 여러 좌석을 잡을 때는 스트라이프 번호 순으로 잠가 교착을 피한다.
+ * 사용자/세션별 점유 수는 스케줄을 가리지 않고 소유자 키별 (seatId -> 만료 시각) 맵으로 세며 (seatId는 전체 스케줄에서 유일), 스트라이프를 잡은 상태에서 단일 모니터로 보호한다.
+ */
+@Component
+@ConditionalOnProperty(name = "seatlock.mode", havingValue = "local")
+public class LocalSeatLockStore implements SeatLockStore {
+
+    private static final int STRIPES = 256;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final FencingTokenSequence fencingTokens = new FencingTokenSequence();
+    // "user:{userId}" / "session:{userId}:{sessionId}" -> (seatId -> 만료 시각), holdsByOwner 모니터로 보호
+    private final Map<String, Map<Long, Long>> holdsByOwner = new HashMap<>();
+
+    public LocalSeatLockStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public int acquire(Long scheduleId, List<Long> seatIds, String holder, long ttlMillis, HoldQuota quota) {
+        boolean[] used = lockStripes(seatIds);
+        try {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < seatIds.size(); i++) {
+                Hold hold = holds.get(seatIds.get(i));
+                if (hold != null && hold.expiresAtMillis > now && !hold.holder.equals(holder)) {
+                    return i + 1;
+                }
+            }
+            long expiresAt = now + ttlMillis;
+            synchronized (holdsByOwner) {
+                if (quota.limitsUser() && exceeds(userKey(quota.userId()), seatIds, quota.maxPerUser(), now)) {
+                    return USER_LIMIT_EXCEEDED;
+                }
+                if (quota.limitsSession() && exceeds(sessionKey(quota.userId(), quota.sessionId()), seatIds, quota.maxPerSession(), now)) {
+                    return SESSION_LIMIT_EXCEEDED;
+                }
+                if (quota.limitsUser()) {
+                    track(userKey(quota.userId()), seatIds, expiresAt);
+                }
+                if (quota.limitsSession()) {
+                    track(sessionKey(quota.userId(), quota.sessionId()), seatIds, expiresAt);
+                }
+            }
+            Hold hold = new Hold(holder, expiresAt);
+            for (Long seatId : seatIds) {
+                holds.put(seatId, hold);
+            }
+            return 0;
+        } finally {
+            unlockStripes(used);
+        }
+    }
+
+    @Override
+    public void release(Long scheduleId, List<Long> seatIds, List<String> holders) {
+        boolean[] used = lockStripes(seatIds);
+        try {
+            for (int i = 0; i < seatIds.size(); i++) {
+                Hold hold = holds.get(seatIds.get(i));
+                if (hold != null && hold.holder.equals(holders.get(i))) {
+                    holds.remove(seatIds.get(i));
+                }
+            }
+            synchronized (holdsByOwner) {
+                for (int i = 0; i < seatIds.size(); i++) {
+                    SeatHolder owner = SeatHolder.parse(holders.get(i));
+                    untrack(userKey(owner.userId()), seatIds.get(i));
+                    untrack(sessionKey(owner.userId(), owner.sessionId()), seatIds.get(i));
+                }
+            }
+        } finally {
+            unlockStripes(used);
+        }
+    }
+
+    @Override
+    public void renew(Long scheduleId, List<Long> seatIds, List<String> holders, List<Long> ttlMillis) {
+        boolean[] used = lockStripes(seatIds);
+        try {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < seatIds.size(); i++) {
+                Hold hold = holds.get(seatIds.get(i));
+                if (hold == null || hold.expiresAtMillis <= now || hold.holder.equals(holders.get(i))) {
+                    holds.put(seatIds.get(i), new Hold(holders.get(i), now + ttlMillis.get(i)));
+                }
+            }
+            synchronized (holdsByOwner) {
+                for (int i = 0; i < seatIds.size(); i++) {
+                    SeatHolder owner = SeatHolder.parse(holders.get(i));
+                    long expiresAt = now + ttlMillis.get(i);
+                    extend(userKey(owner.userId()), seatIds.get(i), expiresAt);
+                    extend(sessionKey(owner.userId(), owner.sessionId()), seatIds.get(i), expiresAt);
+                }
+            }
+        } finally {
+            unlockStripes(used);
+        }
+    }
+
+    @Override
+    public long nextFencingToken(Long scheduleId) {
+        return fencingTokens.next(scheduleId);
+    }
+
+    // 만료분을 정리한 뒤, 아직 세지 않은 좌석을 더하면 한도를 넘는지 확인
+    private boolean exceeds(String ownerKey, List<Long> seatIds, int limit, long now) {
+        Map<Long, Long> owned = holdsByOwner.get(ownerKey);
+        int held = 0;
+        if (owned != null) {
+            owned.values().removeIf(expiresAt -> expiresAt <= now);
+            held = owned.size();
+        }
+        for (Long seatId : seatIds) {
+            if (owned == null || !owned.containsKey(seatId)) {
+                held++;
+            }
+        }
+        return held > limit;
+    }
+
+    private void track(String ownerKey, List<Long> seatIds, long expiresAt) {
+        Map<Long, Long> owned = holdsByOwner.computeIfAbsent(ownerKey, k -> new HashMap<>());
+        for (Long seatId : seatIds) {
+            owned.put(seatId, expiresAt);
+        }
+    }
+
+    private void untrack(String ownerKey, Long seatId) {
+        Map<Long, Long> owned = holdsByOwner.get(ownerKey);
+        if (owned != null && owned.remove(seatId) != null && owned.isEmpty()) {
+            holdsByOwner.remove(ownerKey);
+        }
+    }
+
+    private void extend(String ownerKey, Long seatId, long expiresAt) {
+        Map<Long, Long> owned = holdsByOwner.get(ownerKey);
+        if (owned != null) {
+            owned.replace(seatId, expiresAt);
+        }
+    }
+
+    private static String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    private static String sessionKey(Long userId, String sessionId) {
+        return "session:" + userId + ":" + sessionId;
+    }
+
+    private boolean[] lockStripes(List<Long> seatIds) {
+        boolean[] used = new boolean[STRIPES];
+        for (Long seatId : seatIds) {
+            used[stripeOf(seatId)] = true;
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            if (used[i]) {
+                stripes[i].lock();
+            }
+        }
+        return used;
+    }
+
+    private void unlockStripes(boolean[] used) {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            if (used[i]) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    private static int stripeOf(Long seatId) {
+        return (int) Math.floorMod(seatId, (long) STRIPES);
+    }
+
+    private record Hold(String holder, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,483 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.global.util.RedisKeys;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis 해시 기반 좌석 점유 (seatlock.mode=redis, 기본값)
+ * 좌석마다 키를 두지 않고 스케줄 좌석을 BUCKET_SIZE개 단위 버킷 해시(seat_lock:{schedule:S}:bN)에 모은다.
+ * - 필드 = seatId % BUCKET_SIZE, 값 = "점유자번호:만료 시각(ms)"
+ * - 점유자 문자열은 스케줄 점유자 사전(seat_lock_holders:{schedule:S})에서 작은 번호로 바꿔 저장 (h:holder → 번호, i:번호 → holder)
+ * - 필드 단위 TTL이 없으므로 만료는 값의 만료 시각으로 판정하고, 만료된 필드는 스위퍼의 해제/정합성 점검에서 지운다.
+ *   버킷/사전 키 자체는 마지막 점유의 TTL까지 유지되어 점유가 모두 끝나면 통째로 사라진다.
+ * 버킷 크기는 Redis의 hash-max-listpack-entries 기본값(128) 이하로 두어 작은 listpack 인코딩을 유지한다.
+ * 사용자/세션별 점유 좌석은 스케줄을 가리지 않고 seat_holds:{user:U}, seat_holds:{user:U}:session:X 정렬 셋(score = 만료 시각)으로 세며,
+ * 만료분은 다음 점유 시 정리되므로 별도 감소 처리가 필요 없다.
+ * 한도 셋은 스케줄 버킷과 슬롯이 다르므로 점유는 두 단계로 처리한다.
+ * 먼저 한도 셋에 새 좌석을 예약(확인과 추가를 한 스크립트로)한 뒤 스케줄 버킷을 점유하고, 좌석 충돌이면 예약한 좌석만 한도 셋에서 되돌린다.
+ * 두 단계 사이에 노드가 죽으면 예약분은 점유 TTL이 지나면 사라진다 (그동안은 한도가 그만큼 덜 남음).
+ * 각 스크립트가 다루는 키는 모두 같은 해시 태그를 가지므로 Redis Cluster에서도 한 슬롯 안에서 실행된다 (RedisKeys 참고).
+ */
+@Component
+@ConditionalOnProperty(name = "seatlock.mode", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisSeatLockStore implements SeatLockStore {
+
+    static final int BUCKET_SIZE = 128;
+
+    /**
+     * 스크립트 공용 함수
+     * - liveOwner: 필드의 점유자 번호 (없거나 만료되었으면 nil)
+     * - register: 점유자 사전에서 번호 조회, 없으면 발급
+     * - extend: 키 TTL을 ttl 이상으로 연장
+     */
+    private static final String FUNCTIONS = """
+            local function liveOwner(key, field, now)
+                local value = redis.call('HGET', key, field)
+                if not value then
+                    return nil
+                end
+                local sep = string.find(value, ':', 1, true)
+                if tonumber(string.sub(value, sep + 1)) <= now then
+                    return nil
+                end
+                return string.sub(value, 1, sep - 1)
+            end
+            local function register(dict, holder)
+                local id = redis.call('HGET', dict, 'h:' .. holder)
+                if not id then
+                    id = tostring(redis.call('HINCRBY', dict, 'seq', 1))
+                    redis.call('HSET', dict, 'h:' .. holder, id, 'i:' .. id, holder)
+                end
+                return id
+            end
+            local function extend(key, ttl)
+                if redis.call('PTTL', key) < ttl then
+                    redis.call('PEXPIRE', key, ttl)
+                end
+            end
+            """;
+
+    /**
+     * 여러 좌석을 한 번에 획득 (all-or-nothing)
+     * - 다른 소유자의 유효한 점유가 하나라도 있으면 아무것도 쓰지 않고 충돌 위치(1-based)를 반환
+     * - 같은 소유자의 점유는 만료 시각만 갱신 (락 연장)
+     * KEYS[1] = 점유자 사전, 이후 = 버킷
+     * ARGV[1] = holder, ARGV[2] = ttl(ms), ARGV[3] = 현재 시각(ms), 이후 좌석마다 (버킷 KEYS 위치, 필드)
+     */
+    private static final RedisScript<Long> ACQUIRE_LOCKS_SCRIPT = new DefaultRedisScript<>(FUNCTIONS + """
+            local ttl = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local n = (#ARGV - 3) / 2
+            local id = redis.call('HGET', KEYS[1], 'h:' .. ARGV[1])
+            for i = 1, n do
+                local base = 3 + (i - 1) * 2
+                local current = liveOwner(KEYS[tonumber(ARGV[base + 1])], ARGV[base + 2], now)
+                if current and current ~= id then
+                    return i
+                end
+            end
+            id = register(KEYS[1], ARGV[1])
+            local value = id .. ':' .. (now + ttl)
+            for i = 1, n do
+                local base = 3 + (i - 1) * 2
+                redis.call('HSET', KEYS[tonumber(ARGV[base + 1])], ARGV[base + 2], value)
+            end
+            for k = 1, #KEYS do
+                extend(KEYS[k], ttl)
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 사용자/세션 점유 셋에 좌석 예약 (한도 확인과 추가를 한 번에)
+     * 만료분을 정리한 뒤 아직 세지 않은 좌석을 더해 한도를 넘으면 아무것도 쓰지 않고 {"-1"}(사용자) / {"-2"}(세션) 반환.
+     * 통과하면 모든 좌석의 만료 시각을 기록하고 {"0", 새로 추가된 "셋 번호:seatId"...} 반환 (좌석 충돌 시 이 항목만 되돌림)
+     * KEYS[1] = 사용자 점유 셋, KEYS[2] = 세션 점유 셋 (같은 {user:U} 태그)
+     * ARGV[1] = 현재 시각(ms), ARGV[2] = 만료 시각(ms), ARGV[3] = 사용자 한도, ARGV[4] = 세션 한도 (0이면 해당 셋 미사용), 이후 = seatId
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_QUOTA_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            for q = 1, 2 do
+                local limit = tonumber(ARGV[2 + q])
+                if limit > 0 then
+                    redis.call('ZREMRANGEBYSCORE', KEYS[q], '-inf', now)
+                    local held = redis.call('ZCARD', KEYS[q])
+                    for i = 5, #ARGV do
+                        if not redis.call('ZSCORE', KEYS[q], ARGV[i]) then
+                            held = held + 1
+                        end
+                    end
+                    if held > limit then
+                        return {tostring(-q)}
+                    end
+                end
+            end
+            local result = {'0'}
+            for q = 1, 2 do
+                if tonumber(ARGV[2 + q]) > 0 then
+                    for i = 5, #ARGV do
+                        if redis.call('ZADD', KEYS[q], ARGV[2], ARGV[i]) == 1 then
+                            result[#result + 1] = q .. ':' .. ARGV[i]
+                        end
+                    end
+                    local last = redis.call('ZRANGE', KEYS[q], -1, -1, 'WITHSCORES')
+                    redis.call('PEXPIREAT', KEYS[q], last[2])
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 점유자가 일치하는 필드만 삭제 (다른 프로세스의 락 보호, 만료된 필드도 정리), 삭제된 필드 수 반환
+     * KEYS[1] = 점유자 사전, 이후 = 버킷
+     * ARGV는 좌석마다 (버킷 KEYS 위치, 필드, holder)
+     */
+    private static final RedisScript<Long> RELEASE_LOCKS_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            for base = 0, #ARGV - 1, 3 do
+                local bucket = KEYS[tonumber(ARGV[base + 1])]
+                local id = redis.call('HGET', KEYS[1], 'h:' .. ARGV[base + 3])
+                local value = redis.call('HGET', bucket, ARGV[base + 2])
+                if id and value and string.sub(value, 1, string.find(value, ':', 1, true) - 1) == id then
+                    redis.call('HDEL', bucket, ARGV[base + 2])
+                    released = released + 1
+                end
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * 소유자가 같은 점유의 만료 시각 연장, 점유가 이미 사라졌거나 만료되었다면 다시 설정 (DB 락이 유효하므로)
+     * 다른 소유자의 유효한 점유는 건드리지 않는다. 연장된 좌석 수 반환
+     * KEYS 배치는 해제와 동일
+     * ARGV[1] = 현재 시각(ms), 이후 좌석마다 (버킷 KEYS 위치, 필드, holder, ttl(ms))
+     */
+    private static final RedisScript<Long> RENEW_LOCKS_SCRIPT = new DefaultRedisScript<>(FUNCTIONS + """
+            local now = tonumber(ARGV[1])
+            local renewed = 0
+            for base = 1, #ARGV - 1, 4 do
+                local bucket = KEYS[tonumber(ARGV[base + 1])]
+                local field = ARGV[base + 2]
+                local ttl = tonumber(ARGV[base + 4])
+                local id = register(KEYS[1], ARGV[base + 3])
+                local current = liveOwner(bucket, field, now)
+                if not current or current == id then
+                    redis.call('HSET', bucket, field, id .. ':' .. (now + ttl))
+                    extend(bucket, ttl)
+                    extend(KEYS[1], ttl)
+                    renewed = renewed + 1
+                end
+            end
+            return renewed
+            """, Long.class);
+
+    /**
+     * 점유 셋에 남아 있는 좌석의 만료 시각 갱신 (셋에 없는 좌석은 추가하지 않음)
+     * KEYS[1] = 사용자 점유 셋, KEYS[2] = 세션 점유 셋, ARGV는 좌석마다 (seatId, 만료 시각(ms))
+     */
+    private static final RedisScript<Long> RENEW_QUOTA_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                local changed = 0
+                for base = 1, #ARGV - 1, 2 do
+                    changed = changed + redis.call('ZADD', key, 'XX', 'CH', ARGV[base + 1], ARGV[base])
+                end
+                if changed > 0 then
+                    local last = redis.call('ZRANGE', key, -1, -1, 'WITHSCORES')
+                    redis.call('PEXPIREAT', key, last[2])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 좌석별 현재 점유자 (없거나 만료되었으면 빈 문자열)
+     * KEYS[1] = 점유자 사전, 이후 = 버킷
+     * ARGV[1] = 현재 시각(ms), 이후 좌석마다 (버킷 KEYS 위치, 필드)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HOLDERS_SCRIPT = new DefaultRedisScript<>(FUNCTIONS + """
+            local now = tonumber(ARGV[1])
+            local result = {}
+            for base = 1, #ARGV - 1, 2 do
+                local id = liveOwner(KEYS[tonumber(ARGV[base + 1])], ARGV[base + 2], now)
+                local holder = id and redis.call('HGET', KEYS[1], 'i:' .. id)
+                result[#result + 1] = holder or ''
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 스케줄 펜싱 토큰 증가. 키가 없으면(최초/유실) 현재 시각 기반 값에서 시작해 이전 토큰보다 작아지지 않게 한다.
+     * ARGV[1] = 시작값
+     */
+    private static final RedisScript<Long> NEXT_FENCE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public int acquire(Long scheduleId, List<Long> seatIds, String holder, long ttlMillis, HoldQuota quota) {
+        long now = System.currentTimeMillis();
+        List<String> reserved = List.of();
+        if (quota.limitsUser() || quota.limitsSession()) {
+            List<?> result = reserveQuota(seatIds, now, now + ttlMillis, quota);
+            int code = result == null || result.isEmpty() ? 1 : Integer.parseInt(result.get(0).toString());
+            if (code != 0) {
+                return code; // 한도 초과, 결과를 알 수 없으면 실패로 간주
+            }
+            reserved = result.subList(1, result.size()).stream().map(Object::toString).toList();
+        }
+
+        List<String> keys = new ArrayList<>(List.of(RedisKeys.seatLockHolders(scheduleId)));
+        Map<String, Integer> keyIndex = new HashMap<>();
+        List<String> args = new ArrayList<>(seatIds.size() * 2 + 3);
+        args.add(holder);
+        args.add(String.valueOf(ttlMillis));
+        args.add(String.valueOf(now));
+        for (Long seatId : seatIds) {
+            args.add(String.valueOf(keyPosition(bucketKey(scheduleId, seatId), keys, keyIndex)));
+            args.add(field(seatId));
+        }
+
+        Long conflict;
+        try {
+            conflict = redisTemplate.execute(ACQUIRE_LOCKS_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            cancelReservation(quota, reserved);
+            throw e;
+        }
+        int outcome = conflict == null ? 1 : conflict.intValue(); // 결과를 알 수 없으면 실패로 간주
+        if (outcome != 0) {
+            cancelReservation(quota, reserved);
+        }
+        return outcome;
+    }
+
+    @Override
+    public void release(Long scheduleId, List<Long> seatIds, List<String> holders) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(List.of(RedisKeys.seatLockHolders(scheduleId)));
+        Map<String, Integer> keyIndex = new HashMap<>();
+        List<String> args = new ArrayList<>(seatIds.size() * 3);
+        Map<String, List<String>> seatsByHolder = new LinkedHashMap<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            Long seatId = seatIds.get(i);
+            args.add(String.valueOf(keyPosition(bucketKey(scheduleId, seatId), keys, keyIndex)));
+            args.add(field(seatId));
+            args.add(holders.get(i));
+            seatsByHolder.computeIfAbsent(holders.get(i), h -> new ArrayList<>()).add(String.valueOf(seatId));
+        }
+        redisTemplate.execute(RELEASE_LOCKS_SCRIPT, keys, args.toArray());
+
+        // 해제한 소유자의 사용자/세션 점유 셋에서는 좌석을 항상 제외 (소유자마다 같은 슬롯의 두 셋)
+        seatsByHolder.forEach((holder, members) -> {
+            SeatHolder parsed = SeatHolder.parse(holder);
+            Object[] values = members.toArray();
+            redisTemplate.opsForZSet().remove(RedisKeys.userHolds(parsed.userId()), values);
+            redisTemplate.opsForZSet().remove(RedisKeys.sessionHolds(parsed.userId(), parsed.sessionId()), values);
+        });
+    }
+
+    @Override
+    public void renew(Long scheduleId, List<Long> seatIds, List<String> holders, List<Long> ttlMillis) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>(List.of(RedisKeys.seatLockHolders(scheduleId)));
+        Map<String, Integer> keyIndex = new HashMap<>();
+        List<String> args = new ArrayList<>(seatIds.size() * 4 + 1);
+        args.add(String.valueOf(now));
+        Map<String, List<String>> expiriesByHolder = new LinkedHashMap<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            Long seatId = seatIds.get(i);
+            args.add(String.valueOf(keyPosition(bucketKey(scheduleId, seatId), keys, keyIndex)));
+            args.add(field(seatId));
+            args.add(holders.get(i));
+            args.add(String.valueOf(ttlMillis.get(i)));
+            List<String> expiries = expiriesByHolder.computeIfAbsent(holders.get(i), h -> new ArrayList<>());
+            expiries.add(String.valueOf(seatId));
+            expiries.add(String.valueOf(now + ttlMillis.get(i)));
+        }
+        redisTemplate.execute(RENEW_LOCKS_SCRIPT, keys, args.toArray());
+
+        // 점유 셋에 남아 있는 좌석은 만료 시각도 갱신
+        expiriesByHolder.forEach((holder, expiries) -> {
+            SeatHolder parsed = SeatHolder.parse(holder);
+            redisTemplate.execute(RENEW_QUOTA_SCRIPT,
+                    List.of(RedisKeys.userHolds(parsed.userId()), RedisKeys.sessionHolds(parsed.userId(), parsed.sessionId())),
+                    expiries.toArray());
+        });
+    }
+
+    /**
+     * 좌석별 현재 점유자 (seatIds와 같은 순서, 점유가 없거나 만료되었으면 null). 정합성 점검용
+     */
+    List<String> currentHolders(Long scheduleId, List<Long> seatIds) {
+        List<String> result = new ArrayList<>(seatIds.size());
+        if (seatIds.isEmpty()) {
+            return result;
+        }
+        List<String> keys = new ArrayList<>(List.of(RedisKeys.seatLockHolders(scheduleId)));
+        Map<String, Integer> keyIndex = new HashMap<>();
+        List<String> args = new ArrayList<>(seatIds.size() * 2 + 1);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        for (Long seatId : seatIds) {
+            args.add(String.valueOf(keyPosition(bucketKey(scheduleId, seatId), keys, keyIndex)));
+            args.add(field(seatId));
+        }
+        List<?> values = redisTemplate.execute(HOLDERS_SCRIPT, keys, args.toArray());
+        for (int i = 0; i < seatIds.size(); i++) {
+            Object value = values == null || i >= values.size() ? null : values.get(i);
+            result.add(value == null || value.toString().isEmpty() ? null : value.toString());
+        }
+        return result;
+    }
+
+    /**
+     * 점유 버킷을 SCAN으로 훑어 버킷마다 (스케줄 ID, seatId → holder)를 전달. 정합성 점검용
+     * 만료되었지만 아직 지워지지 않은 필드도 포함한다 (해제 시 함께 정리되도록).
+     */
+    void scanHolds(int count, BiConsumer<Long, Map<Long, String>> consumer) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeys.seatLockPattern())
+                .count(count)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long scheduleId = RedisKeys.scheduleIdOf(key);
+                Long bucket = parseBucket(key);
+                if (scheduleId == null || bucket == null) {
+                    continue; // 버킷 형식이 아닌 키
+                }
+
+                Map<String, String> fields = hashOps.entries(key);
+                if (fields.isEmpty()) {
+                    continue;
+                }
+                List<String> dictFields = new ArrayList<>(fields.size());
+                fields.values().forEach(value -> dictFields.add("i:" + ownerOf(value)));
+                List<String> holders = hashOps.multiGet(RedisKeys.seatLockHolders(scheduleId), dictFields);
+
+                Map<Long, String> held = new HashMap<>();
+                int i = 0;
+                for (String field : fields.keySet()) {
+                    String holder = holders == null ? null : holders.get(i);
+                    if (holder != null) {
+                        held.put(bucket * BUCKET_SIZE + Long.parseLong(field), holder);
+                    }
+                    i++;
+                }
+                if (!held.isEmpty()) {
+                    consumer.accept(scheduleId, held);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long nextFencingToken(Long scheduleId) {
+        Long token = redisTemplate.execute(NEXT_FENCE_SCRIPT, List.of(RedisKeys.seatFence(scheduleId)),
+                String.valueOf(FencingTokenSequence.floor()));
+        if (token == null) {
+            throw new IllegalStateException("펜싱 토큰 발급 실패: scheduleId=" + scheduleId);
+        }
+        return token;
+    }
+
+    /**
+     * 사용자/세션 점유 셋에 좌석 예약 (RESERVE_QUOTA_SCRIPT 결과 그대로 반환)
+     */
+    private List<?> reserveQuota(List<Long> seatIds, long now, long expiresAt, HoldQuota quota) {
+        List<String> args = new ArrayList<>(seatIds.size() + 4);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(expiresAt));
+        args.add(String.valueOf(quota.limitsUser() ? quota.maxPerUser() : 0));
+        args.add(String.valueOf(quota.limitsSession() ? quota.maxPerSession() : 0));
+        for (Long seatId : seatIds) {
+            args.add(String.valueOf(seatId));
+        }
+        return redisTemplate.execute(RESERVE_QUOTA_SCRIPT,
+                List.of(RedisKeys.userHolds(quota.userId()), RedisKeys.sessionHolds(quota.userId(), quota.sessionId())),
+                args.toArray());
+    }
+
+    /**
+     * 좌석 점유에 실패한 예약 되돌리기 (이번 예약으로 새로 추가된 항목만 삭제, 기존 점유분은 유지)
+     */
+    private void cancelReservation(HoldQuota quota, List<String> reserved) {
+        List<Object> userSeats = new ArrayList<>();
+        List<Object> sessionSeats = new ArrayList<>();
+        for (String entry : reserved) {
+            int sep = entry.indexOf(':');
+            (entry.substring(0, sep).equals("1") ? userSeats : sessionSeats).add(entry.substring(sep + 1));
+        }
+        if (!userSeats.isEmpty()) {
+            redisTemplate.opsForZSet().remove(RedisKeys.userHolds(quota.userId()), userSeats.toArray());
+        }
+        if (!sessionSeats.isEmpty()) {
+            redisTemplate.opsForZSet().remove(RedisKeys.sessionHolds(quota.userId(), quota.sessionId()), sessionSeats.toArray());
+        }
+    }
+
+    /**
+     * KEYS 목록에서 키의 위치(1-based), 처음 나온 키는 뒤에 추가 (같은 버킷/점유 셋은 한 번만 전달)
+     */
+    private static int keyPosition(String key, List<String> keys, Map<String, Integer> keyIndex) {
+        return keyIndex.computeIfAbsent(key, k -> {
+            keys.add(k);
+            return keys.size();
+        });
+    }
+
+    private static String bucketKey(Long scheduleId, Long seatId) {
+        return RedisKeys.seatLockBucket(scheduleId, Math.floorDiv(seatId, BUCKET_SIZE));
+    }
+
+    private static String field(Long seatId) {
+        return String.valueOf(Math.floorMod(seatId, BUCKET_SIZE));
+    }
+
+    private static String ownerOf(String value) {
+        int sep = value.indexOf(':');
+        return sep < 0 ? value : value.substring(0, sep);
+    }
+
+    private static Long parseBucket(String key) {
+        String suffix = RedisKeys.suffixOf(key);
+        if (suffix == null || suffix.length() < 2 || suffix.charAt(0) != 'b') {
+            return null;
+        }
+        try {
+            return Long.valueOf(suffix.substring(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,619 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
+import org.ddcn41.ticketing_system.domain.seat.repository.SeatMapSnapshot;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄 하나의 좌석 상태를 소유하는 액터 (소유 노드에만 존재)
+ * - 명령과 상태 변경분은 메일박스에 쌓이고 한 번에 한 스레드만 꺼내 처리하므로 인메모리 상태는 락 없이 다룬다
+ * - 충돌(다른 사용자 점유, 예약/판매 중지 좌석, 본인 점유 아님)은 인메모리 상태로 바로 거절해 DB까지 가지 않는다
+ * - 저널이 켜져 있으면 인메모리로 판단 가능한 점유/해제는 저널 내구화 후 바로 응답하고, DB에는 메일박스가 빌 때 순서대로 반영한다
+ *   (점유는 응답 전에 점유 저장소를 먼저 잡아, DB 반영 전에도 점유 저장소를 거치는 다른 경로가 같은 좌석을 잡지 못한다)
+ * - 그 밖의 명령(확정/취소, 점유자를 모르는 좌석)은 밀린 DB 반영을 먼저 마친 뒤 SeatService로 기록한다(write-through)
+ * - 액터를 거치지 않는 변경(자동 배정, 바로 예매, 예매 취소, 만료 스위퍼)은 좌석 상태 스트림 변경분으로 반영하고,
+ *   DB 결과가 인메모리 판단과 다르면 상태를 버리고 다음 명령 때 다시 적재한다
+ */
+@Slf4j
+class ScheduleSeatActor {
+
+    private static final byte UNKNOWN = 0;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * 인메모리 점유 판단 기준 (SeatService의 seatlock 설정과 같은 값)
+     */
+    record Settings(long holdMillis, int maxHoldsPerUser, int maxHoldsPerSession) {
+    }
+
+    private final Long scheduleId;
+    private final Executor executor;
+    private final SeatService seatService;
+    private final Function<Long, Seats> loader;
+    private final SeatJournal journal; // 저널을 쓰지 않으면 null
+    private final SeatLockStore seatLockStore;
+    private final Settings settings;
+
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile long lastUsedAt = System.currentTimeMillis();
+
+    // 이하 액터 스레드에서만 접근
+    private Seats seats; // null이면 다음 명령 때 적재
+    private final List<SeatJournalRecord> unpersisted = new ArrayList<>();
+    // 이 액터가 DB에 기록해 곧 돌아올 변경분 (좌석 -> 상태 순서). 도착하면 이미 반영된 것이므로 건너뜀
+    private final Map<Long, Deque<Byte>> echoes = new HashMap<>();
+
+    ScheduleSeatActor(Long scheduleId, Executor executor, SeatService seatService, Function<Long, Seats> loader,
+                      SeatJournal journal, SeatLockStore seatLockStore, Settings settings) {
+        this.scheduleId = scheduleId;
+        this.executor = executor;
+        this.seatService = seatService;
+        this.loader = loader;
+        this.journal = journal;
+        this.seatLockStore = seatLockStore;
+        this.settings = settings;
+    }
+
+    long lastUsedAt() {
+        return lastUsedAt;
+    }
+
+    /**
+     * 사용 시각 갱신 (액터 조회와 같은 맵 연산 안에서 호출해, 조회 직후의 액터가 유휴 정리되지 않게 함)
+     */
+    void touch() {
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 처리 중이거나 대기 중인 메시지가 없는지
+     */
+    boolean isIdle() {
+        return mailbox.isEmpty() && !draining.get();
+    }
+
+    CompletableFuture<SeatLockResponse> lock(List<Long> seatIds, Long userId, String sessionId) {
+        return askAsync(() -> {
+            Seats state = state();
+            boolean allAvailable = true;
+            for (Long seatId : seatIds) {
+                int ordinal = state.ordinalOf(seatId);
+                if (ordinal < 0) {
+                    return done(SeatLockResponse.failure("일부 좌석을 찾을 수 없습니다"));
+                }
+                byte status = state.status[ordinal];
+                if (status == SeatMapSnapshot.STATUS_BOOKED) {
+                    return done(SeatLockResponse.failure("이미 예약된 좌석이 포함되어 있습니다: " + seatId));
+                }
+                if (status == SeatMapSnapshot.STATUS_BLOCKED) {
+                    return done(SeatLockResponse.failure("판매하지 않는 좌석이 포함되어 있습니다: " + seatId));
+                }
+                if (status == SeatMapSnapshot.STATUS_LOCKED && state.isHeldByOther(ordinal, userId, sessionId)) {
+                    return done(SeatLockResponse.failure("다른 사용자가 선택 중인 좌석입니다: " + seatId));
+                }
+                allAvailable &= status == SeatMapSnapshot.STATUS_AVAILABLE;
+            }
+
+            if (journal != null && allAvailable && seatIds.stream().distinct().count() == seatIds.size()) {
+                return journaledLock(state, seatIds, userId, sessionId);
+            }
+
+            List<Long> newlyLocked = seatIds.stream()
+                    .filter(seatId -> state.status[state.ordinalOf(seatId)] == SeatMapSnapshot.STATUS_AVAILABLE)
+                    .toList();
+            SeatLockResponse response = writeThrough(() -> seatService.lockSeats(seatIds, userId, sessionId));
+            if (response.isSuccess()) {
+                long expiresAt = toMillis(response.getExpiresAt());
+                long holdToken = response.getHoldToken() == null ? 0L : response.getHoldToken();
+                for (Long seatId : seatIds) {
+                    state.hold(state.ordinalOf(seatId), userId, sessionId, holdToken, expiresAt);
+                }
+                expectEchoes(newlyLocked, SeatMapSnapshot.STATUS_LOCKED);
+            } else if (!response.isLimitExceeded()) {
+                discardState(); // DB가 인메모리 판단과 다름
+            }
+            return done(response);
+        });
+    }
+
+    CompletableFuture<Boolean> release(List<Long> seatIds, Long userId, String sessionId) {
+        return askAsync(() -> {
+            Seats state = state();
+            boolean anyHeld = false;
+            boolean allOwnLive = true;
+            for (Long seatId : seatIds) {
+                int ordinal = state.ordinalOf(seatId);
+                if (ordinal < 0 || state.status[ordinal] != SeatMapSnapshot.STATUS_AVAILABLE) {
+                    anyHeld = true;
+                }
+                allOwnLive &= ordinal >= 0 && state.isLiveHoldOf(ordinal, userId, sessionId);
+            }
+            if (!anyHeld) {
+                return done(true); // 해제할 점유 없음
+            }
+
+            if (journal != null && allOwnLive) {
+                // 해제할 점유의 토큰별로 기록 (DB 반영/재적용 시 그 토큰의 락만 해제해, 이후 새로 잡힌 점유는 보호)
+                Map<Long, List<Long>> seatIdsByToken = new LinkedHashMap<>();
+                for (Long seatId : seatIds) {
+                    seatIdsByToken.computeIfAbsent(state.holdToken[state.ordinalOf(seatId)], k -> new ArrayList<>()).add(seatId);
+                }
+                List<CompletableFuture<Long>> durable = new ArrayList<>(seatIdsByToken.size());
+                seatIdsByToken.forEach((token, tokenSeatIds) -> {
+                    SeatJournalRecord record = SeatJournalRecord.of(SeatJournalRecord.Type.RELEASE, scheduleId,
+                            List.copyOf(tokenSeatIds), userId, sessionId, token, 0L);
+                    durable.add(journal.append(record));
+                    unpersisted.add(record);
+                });
+                for (Long seatId : seatIds) {
+                    state.clear(state.ordinalOf(seatId), SeatMapSnapshot.STATUS_AVAILABLE);
+                }
+                return CompletableFuture.allOf(durable.toArray(CompletableFuture[]::new)).thenApply(v -> true);
+            }
+
+            List<Long> heldSeatIds = seatIds.stream()
+                    .filter(seatId -> {
+                        int ordinal = state.ordinalOf(seatId);
+                        return ordinal >= 0 && state.status[ordinal] == SeatMapSnapshot.STATUS_LOCKED;
+                    })
+                    .toList();
+            boolean released = writeThrough(() -> seatService.releaseSeats(seatIds, userId, sessionId));
+            if (released) {
+                for (Long seatId : heldSeatIds) {
+                    state.clear(state.ordinalOf(seatId), SeatMapSnapshot.STATUS_AVAILABLE);
+                }
+                expectEchoes(heldSeatIds, SeatMapSnapshot.STATUS_AVAILABLE);
+            } else {
+                discardState();
+            }
+            return done(released);
+        });
+    }
+
+    CompletableFuture<Boolean> confirm(List<Long> seatIds, Long userId, Long holdToken) {
+        return askAsync(() -> {
+            Seats state = state();
+            for (Long seatId : seatIds) {
+                int ordinal = state.ordinalOf(seatId);
+                if (ordinal < 0) {
+                    return done(false);
+                }
+                byte status = state.status[ordinal];
+                if (status != SeatMapSnapshot.STATUS_LOCKED && status != UNKNOWN) {
+                    return done(false);
+                }
+                if (state.holderUser[ordinal] != 0L && (userId == null || state.holderUser[ordinal] != userId)) {
+                    return done(false);
+                }
+                if (holdToken != null && state.holdToken[ordinal] != 0L && state.holdToken[ordinal] != holdToken) {
+                    return done(false);
+                }
+            }
+
+            boolean confirmed = writeThrough(() -> seatService.confirmSeats(seatIds, userId, holdToken));
+            if (confirmed) {
+                List<Long> distinctSeatIds = seatIds.stream().distinct().toList();
+                for (Long seatId : distinctSeatIds) {
+                    state.clear(state.ordinalOf(seatId), SeatMapSnapshot.STATUS_BOOKED);
+                }
+                expectEchoes(distinctSeatIds, SeatMapSnapshot.STATUS_BOOKED);
+                journalCommitted(SeatJournalRecord.Type.CONFIRM, distinctSeatIds, userId, holdToken);
+            } else {
+                discardState();
+            }
+            return done(confirmed);
+        });
+    }
+
+    CompletableFuture<Boolean> cancel(List<Long> seatIds) {
+        return askAsync(() -> {
+            Seats state = state();
+            List<Long> bookedSeatIds = seatIds.stream()
+                    .distinct()
+                    .filter(seatId -> {
+                        int ordinal = state.ordinalOf(seatId);
+                        return ordinal >= 0 && state.status[ordinal] == SeatMapSnapshot.STATUS_BOOKED;
+                    })
+                    .toList();
+
+            boolean cancelled = writeThrough(() -> seatService.cancelSeats(seatIds));
+            for (Long seatId : bookedSeatIds) {
+                state.clear(state.ordinalOf(seatId), SeatMapSnapshot.STATUS_AVAILABLE);
+            }
+            expectEchoes(bookedSeatIds, SeatMapSnapshot.STATUS_AVAILABLE);
+            journalCommitted(SeatJournalRecord.Type.CANCEL, bookedSeatIds, null, null);
+            return done(cancelled);
+        });
+    }
+
+    /**
+     * 좌석 상태 스냅샷 (적재된 상태가 없으면 null)
+     */
+    CompletableFuture<SeatJournal.StateSnapshot> snapshot() {
+        return askAsync(() -> done(seats == null ? null : seats.toSnapshot(scheduleId)));
+    }
+
+    /**
+     * 좌석 상태 변경분 반영 (Redis 수신 스레드에서 호출, 메일박스에 넣고 바로 반환)
+     */
+    void tell(SeatStatusDelta delta) {
+        enqueue(() -> {
+            if (seats == null) {
+                return;
+            }
+            if (delta.getStatus() == null) {
+                discardState(); // 좌석 구성 변경
+                return;
+            }
+            if (delta.getVersion() != null && delta.getVersion() > seats.seenVersion) {
+                seats.seenVersion = delta.getVersion();
+            }
+            byte status = SeatMapSnapshot.statusCode(delta.getStatus());
+            for (Long seatId : delta.getSeatIds()) {
+                int ordinal = seats.ordinalOf(seatId);
+                if (ordinal < 0 || consumeEcho(seatId, status)) {
+                    continue;
+                }
+                if (status == SeatMapSnapshot.STATUS_LOCKED) {
+                    if (seats.status[ordinal] != SeatMapSnapshot.STATUS_LOCKED) {
+                        seats.clear(ordinal, SeatMapSnapshot.STATUS_LOCKED); // 액터 밖에서 점유됨 (소유자 모름)
+                    }
+                } else {
+                    seats.clear(ordinal, status);
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<SeatLockResponse> journaledLock(Seats state, List<Long> seatIds, Long userId, String sessionId) {
+        // 사용자/세션별 동시 점유 한도 (SeatService와 같은 기준, 요청 좌석은 모두 새 점유)
+        if (settings.maxHoldsPerUser() > 0
+                && state.countLiveHolds(userId, null) + seatIds.size() > settings.maxHoldsPerUser()) {
+            return done(SeatLockResponse.limitExceeded("동시에 점유할 수 있는 좌석 수(" + settings.maxHoldsPerUser() + "석)를 초과했습니다"));
+        }
+        if (sessionId != null && settings.maxHoldsPerSession() > 0
+                && state.countLiveHolds(null, sessionId) + seatIds.size() > settings.maxHoldsPerSession()) {
+            return done(SeatLockResponse.limitExceeded("세션당 동시에 점유할 수 있는 좌석 수(" + settings.maxHoldsPerSession() + "석)를 초과했습니다"));
+        }
+
+        // 응답 전에 점유 저장소를 먼저 잡아, 액터를 거치지 않는 점유/바로 예매/예매 생성이 DB 반영 전까지 같은 좌석을 잡지 못하게 함
+        // (DB 반영 시 같은 holder로 다시 획득하므로 TTL만 갱신되고 한도도 다시 세지 않음)
+        String holder = new SeatHolder(userId, sessionId).value();
+        int conflict = seatLockStore.acquire(scheduleId, seatIds, holder, settings.holdMillis(),
+                new SeatLockStore.HoldQuota(userId, sessionId, settings.maxHoldsPerUser(), settings.maxHoldsPerSession()));
+        if (conflict == SeatLockStore.USER_LIMIT_EXCEEDED) {
+            return done(SeatLockResponse.limitExceeded("동시에 점유할 수 있는 좌석 수(" + settings.maxHoldsPerUser() + "석)를 초과했습니다"));
+        }
+        if (conflict == SeatLockStore.SESSION_LIMIT_EXCEEDED) {
+            return done(SeatLockResponse.limitExceeded("세션당 동시에 점유할 수 있는 좌석 수(" + settings.maxHoldsPerSession() + "석)를 초과했습니다"));
+        }
+        if (conflict != 0) {
+            discardState(); // 액터 밖에서 점유된 좌석 (인메모리 상태가 뒤처짐)
+            return done(SeatLockResponse.failure("좌석 락 획득 실패"));
+        }
+
+        long holdToken = seatLockStore.nextFencingToken(scheduleId);
+        long expiresAt = System.currentTimeMillis() + settings.holdMillis();
+        SeatJournalRecord record = SeatJournalRecord.of(SeatJournalRecord.Type.LOCK, scheduleId,
+                List.copyOf(seatIds), userId, sessionId, holdToken, expiresAt);
+        CompletableFuture<Long> durable = journal.append(record);
+        for (Long seatId : seatIds) {
+            state.hold(state.ordinalOf(seatId), userId, sessionId, holdToken, expiresAt);
+        }
+        unpersisted.add(record);
+
+        SeatLockResponse response = SeatLockResponse.success("좌석 락 성공", toLocalDateTime(expiresAt));
+        response.setHoldToken(holdToken);
+        return durable.thenApply(lsn -> response);
+    }
+
+    /**
+     * 저널에만 기록된 점유/해제를 순서대로 DB에 반영 (메일박스가 비었을 때와 write-through 명령 직전에 호출)
+     * 저널 점유는 응답 전에 점유 저장소를 잡아 두므로 점유 저장소를 거치는 다른 경로와는 충돌하지 않는다.
+     * 그래도 반영에 실패한 점유(저장소를 거치지 않는 운영자 보류 등)는 점유 저장소에서도 해제하고 상태를 다시 적재한다
+     */
+    private void persistJournaled() {
+        if (unpersisted.isEmpty()) {
+            return;
+        }
+        for (SeatJournalRecord record : unpersisted) {
+            try {
+                if (record.type() == SeatJournalRecord.Type.LOCK) {
+                    SeatLockResponse response = seatService.applyJournaledLock(record.seatIds(), record.userId(),
+                            record.sessionId(), record.holdToken(), toLocalDateTime(record.expiresAt()));
+                    if (response.isSuccess()) {
+                        expectEchoes(record.seatIds(), SeatMapSnapshot.STATUS_LOCKED);
+                    } else {
+                        log.warn("저널 점유 DB 반영 실패: scheduleId={}, seatIds={}, {}", scheduleId, record.seatIds(), response.getMessage());
+                        releaseStoreHold(record);
+                        discardState();
+                    }
+                } else if (record.type() == SeatJournalRecord.Type.RELEASE) {
+                    if (seatService.releaseSeats(record.seatIds(), record.userId(), record.sessionId(), record.fencedToken())) {
+                        expectEchoes(record.seatIds(), SeatMapSnapshot.STATUS_AVAILABLE);
+                    } else {
+                        discardState();
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("저널 명령 DB 반영 실패: scheduleId={}, type={}, {}", scheduleId, record.type(), e.getMessage());
+                if (record.type() == SeatJournalRecord.Type.LOCK) {
+                    releaseStoreHold(record);
+                }
+                discardState();
+            }
+        }
+        unpersisted.clear();
+        journal.markPersisted(scheduleId);
+    }
+
+    private void releaseStoreHold(SeatJournalRecord record) {
+        try {
+            String holder = new SeatHolder(record.userId(), record.sessionId()).value();
+            seatLockStore.release(scheduleId, record.seatIds(), Collections.nCopies(record.seatIds().size(), holder));
+        } catch (RuntimeException e) {
+            log.warn("저널 점유 저장소 해제 실패: scheduleId={}, seatIds={}, {}", scheduleId, record.seatIds(), e.getMessage());
+        }
+    }
+
+    private <T> T writeThrough(Supplier<T> command) {
+        persistJournaled();
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            discardState();
+            throw e;
+        }
+    }
+
+    private void journalCommitted(SeatJournalRecord.Type type, List<Long> seatIds, Long userId, Long holdToken) {
+        if (journal != null) {
+            journal.append(SeatJournalRecord.of(type, scheduleId, seatIds, userId, null,
+                    holdToken == null ? 0L : holdToken, 0L));
+        }
+    }
+
+    private void expectEchoes(List<Long> seatIds, byte status) {
+        for (Long seatId : seatIds) {
+            echoes.computeIfAbsent(seatId, k -> new ArrayDeque<>()).add(status);
+        }
+    }
+
+    private boolean consumeEcho(Long seatId, byte status) {
+        Deque<Byte> expected = echoes.get(seatId);
+        if (expected == null || expected.isEmpty() || expected.peekFirst() != status) {
+            return false;
+        }
+        expected.pollFirst();
+        if (expected.isEmpty()) {
+            echoes.remove(seatId);
+        }
+        return true;
+    }
+
+    private void discardState() {
+        seats = null;
+        echoes.clear();
+    }
+
+    private Seats state() {
+        if (seats == null) {
+            persistJournaled();
+            seats = loader.apply(scheduleId);
+        }
+        return seats;
+    }
+
+    private static <T> CompletableFuture<T> done(T value) {
+        return CompletableFuture.completedFuture(value);
+    }
+
+    private <T> CompletableFuture<T> askAsync(Supplier<CompletableFuture<T>> command) {
+        lastUsedAt = System.currentTimeMillis();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        enqueue(() -> {
+            try {
+                command.get().whenComplete((result, failure) -> {
+                    if (failure != null) {
+                        future.completeExceptionally(failure);
+                    } else {
+                        future.complete(result);
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private void enqueue(Runnable message) {
+        mailbox.add(message);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable message;
+            while ((message = mailbox.poll()) != null) {
+                try {
+                    message.run();
+                } catch (RuntimeException e) {
+                    log.warn("좌석 액터 메시지 처리 실패: scheduleId={}, {}", scheduleId, e.getMessage());
+                }
+                if (mailbox.isEmpty()) {
+                    // 메일박스가 비면 저널에만 있는 명령을 DB에 반영 (그동안 들어온 명령은 저널 내구화만 기다림)
+                    persistJournaled();
+                }
+            }
+        } finally {
+            draining.set(false);
+            // 플래그를 내리는 사이에 들어온 메시지는 다시 예약
+            if (!mailbox.isEmpty() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    /**
+     * 스케줄 좌석 상태 (좌석 디렉터리 서수 기준 배열)
+     * 점유자를 모르는 LOCKED 좌석(holderUser 0)은 인메모리로 판단하지 않고 DB에 맡긴다.
+     */
+    static final class Seats {
+        private final ScheduleSeatDirectory directory;
+        private final byte[] status;
+        private final long[] holderUser;
+        private final String[] holderSession;
+        private final long[] holdToken;
+        private final long[] expiresAt;
+        // 이 상태에 반영된 좌석 상태 버전 (적재 직전 버전부터 변경분 수신 시 증가)
+        private long seenVersion;
+
+        Seats(ScheduleSeatDirectory directory, SeatMapSnapshot snapshot, long seenVersion) {
+            this(directory, new byte[directory.size()], new long[directory.size()], new String[directory.size()],
+                    new long[directory.size()], new long[directory.size()], seenVersion);
+            // 디렉터리와 스냅샷 좌석 수가 다르면(적재 사이 재구성) 넘치는 좌석은 UNKNOWN으로 두어 DB에 맡김
+            int known = Math.min(directory.size(), snapshot.getSeatCount());
+            for (int i = 0; i < known; i++) {
+                status[i] = snapshot.getStatus(i);
+            }
+        }
+
+        private Seats(ScheduleSeatDirectory directory, byte[] status, long[] holderUser, String[] holderSession,
+                      long[] holdToken, long[] expiresAt, long seenVersion) {
+            this.directory = directory;
+            this.status = status;
+            this.holderUser = holderUser;
+            this.holderSession = holderSession;
+            this.holdToken = holdToken;
+            this.expiresAt = expiresAt;
+            this.seenVersion = seenVersion;
+        }
+
+        /**
+         * 저널 스냅샷에서 복원 (좌석 구성이 현재 디렉터리와 다르면 null)
+         */
+        static Seats fromSnapshot(ScheduleSeatDirectory directory, SeatJournal.StateSnapshot snapshot) {
+            if (snapshot.seatIds().length != directory.size()) {
+                return null;
+            }
+            for (int i = 0; i < directory.size(); i++) {
+                if (snapshot.seatIds()[i] != directory.seatIdAt(i)) {
+                    return null;
+                }
+            }
+            return new Seats(directory, snapshot.status().clone(), snapshot.holderUser().clone(),
+                    snapshot.holderSession().clone(), snapshot.holdToken().clone(), snapshot.expiresAt().clone(),
+                    snapshot.seenVersion());
+        }
+
+        SeatJournal.StateSnapshot toSnapshot(Long scheduleId) {
+            long[] seatIds = new long[directory.size()];
+            for (int i = 0; i < seatIds.length; i++) {
+                seatIds[i] = directory.seatIdAt(i);
+            }
+            return new SeatJournal.StateSnapshot(scheduleId, seenVersion, seatIds, status.clone(),
+                    holderUser.clone(), holderSession.clone(), holdToken.clone(), expiresAt.clone());
+        }
+
+        int ordinalOf(Long seatId) {
+            return seatId == null ? -1 : directory.ordinalOf(seatId);
+        }
+
+        void hold(int ordinal, Long userId, String sessionId, long token, LocalDateTime until) {
+            hold(ordinal, userId, sessionId, token, toMillis(until));
+        }
+
+        void hold(int ordinal, Long userId, String sessionId, long token, long until) {
+            status[ordinal] = SeatMapSnapshot.STATUS_LOCKED;
+            holderUser[ordinal] = userId == null ? 0L : userId;
+            holderSession[ordinal] = sessionId;
+            holdToken[ordinal] = token;
+            expiresAt[ordinal] = until;
+        }
+
+        void clear(int ordinal, byte next) {
+            status[ordinal] = next;
+            holderUser[ordinal] = 0L;
+            holderSession[ordinal] = null;
+            holdToken[ordinal] = 0L;
+            expiresAt[ordinal] = 0L;
+        }
+
+        /**
+         * 다른 사용자가 유효하게 점유 중인지 (점유자를 모르거나 만료됐으면 DB에 맡기기 위해 false)
+         */
+        boolean isHeldByOther(int ordinal, Long userId, String sessionId) {
+            if (holderUser[ordinal] == 0L || expiresAt[ordinal] <= System.currentTimeMillis()) {
+                return false;
+            }
+            return !isSameHolder(ordinal, userId, sessionId);
+        }
+
+        /**
+         * 본인(사용자 또는 세션)의 유효한 점유인지
+         */
+        boolean isLiveHoldOf(int ordinal, Long userId, String sessionId) {
+            return status[ordinal] == SeatMapSnapshot.STATUS_LOCKED
+                    && holderUser[ordinal] != 0L
+                    && expiresAt[ordinal] > System.currentTimeMillis()
+                    && isSameHolder(ordinal, userId, sessionId);
+        }
+
+        /**
+         * 사용자(userId) 또는 세션(sessionId)의 유효한 점유 좌석 수
+         */
+        int countLiveHolds(Long userId, String sessionId) {
+            long now = System.currentTimeMillis();
+            int count = 0;
+            for (int i = 0; i < status.length; i++) {
+                if (status[i] != SeatMapSnapshot.STATUS_LOCKED || expiresAt[i] <= now) {
+                    continue;
+                }
+                if ((userId != null && holderUser[i] == userId) || (sessionId != null && sessionId.equals(holderSession[i]))) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private boolean isSameHolder(int ordinal, Long userId, String sessionId) {
+            boolean sameUser = userId != null && holderUser[ordinal] == userId;
+            boolean sameSession = holderSession[ordinal] != null && Objects.equals(holderSession[ordinal], sessionId);
+            return sameUser || sameSession;
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package org.ddcn41.ticketing_system.domain.seat.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.domain.performance.entity.PerformanceSchedule;
 import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.domain.performance.service.ScheduleInventoryService;
+import org.ddcn41.ticketing_system.domain.performance.service.SchedulePriceService;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.InitializeSeatsResponse;
-import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatMapChangedEvent;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
 import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
+import org.ddcn41.ticketing_system.domain.venue.entity.Venue;
+import org.ddcn41.ticketing_system.domain.venue.service.VenueSeatMapIndex;
+import org.ddcn41.ticketing_system.domain.venue.service.VenueSeatTemplateService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,7 +25,11 @@ public class ScheduleSeatInitializationService {
 
     private final PerformanceScheduleRepository scheduleRepository;
     private final ScheduleSeatRepository scheduleSeatRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduleInventoryService inventoryService;
+    private final SchedulePriceService schedulePriceService;
+    private final SeatDirectory seatDirectory;
+    private final VenueSeatTemplateService templateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 스케줄에 대해 좌석 초기화 수행
@@ -47,6 +55,11 @@ public class ScheduleSeatInitializationService {
         return results;
     }
 
+    /**
+     * 스케줄 좌석 초기화
+     * 공연장 좌석 맵을 공연장 좌석 템플릿에 반영한 뒤, 스케줄에 없는 좌석만 템플릿에서 INSERT ... SELECT로 복사한다.
+     * 기존 좌석은 유지하며, 좌석 맵 pricing은 스케줄 등급별 가격표에 반영한다 (좌석 수와 무관하게 SQL 몇 번으로 처리).
+     */
     @Transactional
     public InitializeSeatsResponse initialize(Long scheduleId, boolean dryRun) {
         PerformanceSchedule schedule = scheduleRepository.findById(scheduleId)
@@ -56,123 +69,48 @@ public class ScheduleSeatInitializationService {
             throw new IllegalArgumentException("스케줄에 공연장 정보가 없습니다: " + scheduleId);
         }
 
-        String seatMapJson = schedule.getPerformance().getVenue().getSeatMapJson();
-        if (seatMapJson == null || seatMapJson.isBlank()) {
-            throw new IllegalArgumentException("공연장의 좌석 맵 JSON이 비어있습니다");
-        }
-
-        JsonNode root;
-        try {
-            root = objectMapper.readTree(seatMapJson);
-        } catch (IOException e) {
-            throw new IllegalArgumentException("좌석 맵 JSON 파싱 실패", e);
-        }
-
-        JsonNode sections = root.path("sections");
-        // pricing map: grade -> price
-        java.util.Map<String, java.math.BigDecimal> pricing = new java.util.HashMap<>();
-        JsonNode pricingNode = root.path("pricing");
-        if (pricingNode.isObject()) {
-            java.util.Iterator<java.util.Map.Entry<String, JsonNode>> it = pricingNode.fields();
-            while (it.hasNext()) {
-                java.util.Map.Entry<String, JsonNode> e = it.next();
-                try {
-                    pricing.put(e.getKey(), new java.math.BigDecimal(e.getValue().asText()));
-                } catch (Exception ignored) {}
-            }
-        }
-        if (!sections.isArray()) {
-            throw new IllegalArgumentException("좌석 맵 JSON의 sections 형식이 올바르지 않습니다");
-        }
-
-        int created = 0;
-        List<ScheduleSeat> newBatch = new ArrayList<>();
-        List<ScheduleSeat> updateBatch = new ArrayList<>();
+        Venue venue = schedule.getPerformance().getVenue();
 
-        // 기존 좌석 유지: 존재하는 좌석은 그대로 두고, 없는 좌석만 생성
-        List<ScheduleSeat> existingSeats = scheduleSeatRepository.findBySchedule_ScheduleId(scheduleId);
-        java.util.Map<String, ScheduleSeat> existingMap = new java.util.HashMap<>();
-        for (ScheduleSeat s : existingSeats) {
-            existingMap.put(key(s.getZone(), s.getRowLabel(), s.getColNum()), s);
-        }
-        long existingTotal = existingSeats.size();
-        int existingAvailable = scheduleSeatRepository.countAvailableSeatsByScheduleId(scheduleId);
-
-        for (JsonNode sec : sections) {
-            String zone = textOrNull(sec, "zone");
-            String grade = textOrNull(sec, "grade");
-            int rows = intOrDefault(sec, "rows", 0);
-            int cols = intOrDefault(sec, "cols", 0);
-            String rowLabelFrom = textOrNull(sec, "rowLabelFrom");
-            int seatStart = intOrDefault(sec, "seatStart", 1);
-
-            if (rows <= 0 || cols <= 0 || rowLabelFrom == null || rowLabelFrom.isBlank()) {
-                continue; // 불완전 섹션은 스킵
-            }
-
-            for (int r = 0; r < rows; r++) {
-                String rowLabel = incrementAlpha(rowLabelFrom, r);
-                for (int c = 0; c < cols; c++) {
-                    String colNum = String.valueOf(seatStart + c);
-                    java.math.BigDecimal price = pricing.getOrDefault(grade == null ? "" : grade, java.math.BigDecimal.ZERO);
-                    String k = key(zone, rowLabel, colNum);
-                    ScheduleSeat existingSeat = existingMap.get(k);
-                    if (existingSeat != null) {
-                        // 기존 좌석: 가격만 JSON pricing으로 동기화(필요 시)
-                        if (price != null) {
-                            java.math.BigDecimal current = existingSeat.getPrice() == null ? java.math.BigDecimal.ZERO : existingSeat.getPrice();
-                            if (current.compareTo(price) != 0) {
-                                existingSeat.setPrice(price);
-                                if (!dryRun) updateBatch.add(existingSeat);
-                            }
-                        }
-                        // 생성 카운트 증가 없음
-                    } else {
-                        // 신규 좌석 생성
-                        ScheduleSeat seat = ScheduleSeat.builder()
-                                .schedule(schedule)
-                                .grade(grade == null ? "" : grade)
-                                .zone(zone)
-                                .rowLabel(rowLabel)
-                                .colNum(colNum)
-                                .price(price)
-                                .build();
-
-                        if (!dryRun) {
-                            newBatch.add(seat);
-                            if (newBatch.size() >= 500) {
-                                scheduleSeatRepository.saveAll(newBatch);
-                                newBatch.clear();
-                            }
-                        }
-                        created++;
-                    }
+        if (dryRun) {
+            // 템플릿/좌석을 쓰지 않고 좌석 맵과 현재 좌석 디렉터리만 비교
+            ScheduleSeatDirectory directory = seatDirectory.forSchedule(scheduleId);
+            int created = 0;
+            for (VenueSeatMapIndex.Seat seat : templateService.indexOf(venue).seats()) {
+                if (directory.findSeatId(seat.zone(), seat.rowLabel(), seat.colNum()) == null) {
+                    created++;
                 }
             }
+            return InitializeSeatsResponse.builder()
+                    .scheduleId(scheduleId)
+                    .created(created)
+                    .total(directory.size() + created)
+                    .available(scheduleSeatRepository.countAvailableSeatsByScheduleId(scheduleId) + created) // 신규 좌석은 AVAILABLE로 시작
+                    .dryRun(true)
+                    .build();
         }
 
-        if (!dryRun) {
-            if (!newBatch.isEmpty()) {
-                scheduleSeatRepository.saveAll(newBatch);
-            }
-            if (!updateBatch.isEmpty()) {
-                scheduleSeatRepository.saveAll(updateBatch);
-            }
-        }
+        int[] ordinals = templateService.syncTemplate(venue);
+        scheduleSeatRepository.linkTemplateOrdinals(scheduleId, venue.getVenueId());
+        int created = scheduleSeatRepository.copyFromTemplate(scheduleId, venue.getVenueId(), ordinals);
+        // 가격은 등급별 가격표만 좌석 맵 pricing과 맞춤 (좌석 행은 바꾸지 않음)
+        int priceUpdated = schedulePriceService.reconcile(scheduleId);
 
         // 카운터 재계산 및 반영
-        long total;
-        int available;
-        if (dryRun) {
-            total = existingTotal + created;
-            available = existingAvailable + created; // 신규 좌석은 AVAILABLE로 시작
-        } else {
-            total = scheduleSeatRepository.countBySchedule_ScheduleId(scheduleId);
-            available = scheduleSeatRepository.countAvailableSeatsByScheduleId(scheduleId);
-            schedule.setTotalSeats(Math.toIntExact(total));
-            schedule.setAvailableSeats(available);
-            scheduleRepository.save(schedule);
-            scheduleRepository.refreshScheduleStatus(scheduleId);
+        long total = scheduleSeatRepository.countBySchedule_ScheduleId(scheduleId);
+        int available = scheduleSeatRepository.countAvailableSeatsByScheduleId(scheduleId);
+        schedule.setTotalSeats(Math.toIntExact(total));
+        schedule.setAvailableSeats(available);
+        scheduleRepository.save(schedule);
+        scheduleRepository.refreshScheduleStatus(scheduleId);
+        // 재계산한 DB 값이 새 기준이므로 Redis 카운터는 폐기 (다음 증감 시 다시 적재)
+        inventoryService.invalidate(scheduleId);
+        if (created > 0) {
+            seatDirectory.invalidate(scheduleId);
+        }
+
+        // 좌석 구성/가격이 바뀌었으면 좌석 버전 갱신 (ETag 무효화 및 스트림 resync)
+        if (created > 0 || priceUpdated > 0) {
+            eventPublisher.publishEvent(new SeatMapChangedEvent(scheduleId));
         }
 
         return InitializeSeatsResponse.builder()
@@ -180,49 +118,7 @@ public class ScheduleSeatInitializationService {
                 .created(created)
                 .total(Math.toIntExact(total))
                 .available(available)
-                .dryRun(dryRun)
+                .dryRun(false)
                 .build();
     }
-
-    private static String key(String zone, String rowLabel, String colNum) {
-        return (zone == null ? "" : zone) + "|" + (rowLabel == null ? "" : rowLabel) + "|" + (colNum == null ? "" : colNum);
-    }
-
-    private static String textOrNull(JsonNode node, String field) {
-        JsonNode n = node.get(field);
-        return n == null || n.isNull() ? null : n.asText();
-    }
-
-    private static int intOrDefault(JsonNode node, String field, int def) {
-        JsonNode n = node.get(field);
-        return n == null || !n.canConvertToInt() ? def : n.asInt();
-    }
-
-    // A..Z, AA..AZ, BA.. 증가
-    private static String incrementAlpha(String start, int offset) {
-        String base = start.toUpperCase();
-        int value = alphaToInt(base) + offset;
-        return intToAlpha(value);
-    }
-
-    private static int alphaToInt(String s) {
-        int v = 0;
-        for (int i = 0; i < s.length(); i++) {
-            char ch = s.charAt(i);
-            if (ch < 'A' || ch > 'Z') throw new IllegalArgumentException("Invalid row label: " + s);
-            v = v * 26 + (ch - 'A' + 1);
-        }
-        return v - 1; // zero-based
-    }
-
-    private static String intToAlpha(int v) {
-        v = v + 1; // one-based
-        StringBuilder sb = new StringBuilder();
-        while (v > 0) {
-            int rem = (v - 1) % 26;
-            sb.append((char) ('A' + rem));
-            v = (v - 1) / 26;
-        }
-        return sb.reverse().toString();
-    }
 }
@@ -0,0 +1,138 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.domain.performance.service.ScheduleInventoryService;
+import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatBlockRequest;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatBlockResponse;
+import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 운영용 좌석 일괄 보류/해제 (제작 보류석, 카메라석, 초대석 등)
+ * - 대상 좌석은 좌석 디렉터리에서 SQL 없이 고르고, 상태 전이는 조건부 UPDATE 1회로 처리
+ * - 보류는 AVAILABLE 좌석만, 해제는 BLOCKED 좌석만 전이하므로 점유/예매 중인 좌석은 건드리지 않는다
+ * - 가용 좌석 카운터 증감과 상태 변경 이벤트는 요청당 1회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatBlockService {
+
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final ScheduleInventoryService inventoryService;
+    private final SeatDirectory seatDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public SeatBlockResponse block(Long scheduleId, SeatBlockRequest request) {
+        List<Long> targets = resolveTargets(scheduleId, request);
+        List<Long> changed = scheduleSeatRepository.transitionReturningIds(scheduleId, targets,
+                ScheduleSeat.SeatStatus.AVAILABLE, ScheduleSeat.SeatStatus.BLOCKED);
+
+        if (!changed.isEmpty()) {
+            if (!inventoryService.adjust(scheduleId, -changed.size())) {
+                throw new IllegalStateException("잔여 좌석 수 갱신 실패: scheduleId=" + scheduleId);
+            }
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(scheduleId, changed, ScheduleSeat.SeatStatus.BLOCKED));
+        }
+        return response(scheduleId, true, targets, changed);
+    }
+
+    @Transactional
+    public SeatBlockResponse unblock(Long scheduleId, SeatBlockRequest request) {
+        List<Long> targets = resolveTargets(scheduleId, request);
+        List<Long> changed = scheduleSeatRepository.transitionReturningIds(scheduleId, targets,
+                ScheduleSeat.SeatStatus.BLOCKED, ScheduleSeat.SeatStatus.AVAILABLE);
+
+        if (!changed.isEmpty()) {
+            if (!inventoryService.adjust(scheduleId, changed.size())) {
+                log.warn("보류 해제 중 가용 좌석 수가 이미 최대치에 도달했습니다: scheduleId={}, restored={}", scheduleId, changed.size());
+                scheduleRepository.refreshScheduleStatus(scheduleId);
+            }
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(scheduleId, changed, ScheduleSeat.SeatStatus.AVAILABLE));
+        }
+        return response(scheduleId, false, targets, changed);
+    }
+
+    /**
+     * 요청 조건에 맞는 스케줄 좌석 ID (좌석 디렉터리 기준, seatId 오름차순)
+     */
+    private List<Long> resolveTargets(Long scheduleId, SeatBlockRequest request) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "스케줄을 찾을 수 없습니다: " + scheduleId);
+        }
+        ScheduleSeatDirectory directory = seatDirectory.forSchedule(scheduleId);
+
+        if (request.getSeatIds() != null && !request.getSeatIds().isEmpty()) {
+            List<Long> seatIds = new ArrayList<>(new LinkedHashSet<>(request.getSeatIds()));
+            if (!directory.containsAll(seatIds)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청한 좌석이 해당 스케줄에 속하지 않습니다");
+            }
+            return seatIds;
+        }
+
+        String zone = normalizeLabel(request.getZone());
+        String rowFrom = normalizeLabel(request.getRowFrom());
+        String rowTo = normalizeLabel(request.getRowTo());
+        if (zone == null && rowFrom == null && rowTo == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "좌석 ID 목록 또는 구역/열 범위를 지정해야 합니다");
+        }
+        if (rowFrom != null && rowTo != null && compareRows(rowFrom, rowTo) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "열 범위가 올바르지 않습니다: " + rowFrom + " ~ " + rowTo);
+        }
+
+        List<Long> seatIds = new ArrayList<>();
+        for (int ordinal = 0; ordinal < directory.size(); ordinal++) {
+            if (zone != null && !zone.equals(normalizeLabel(directory.zoneAt(ordinal)))) {
+                continue;
+            }
+            String row = normalizeLabel(directory.rowLabelAt(ordinal));
+            if (rowFrom != null && (row == null || compareRows(row, rowFrom) < 0)) {
+                continue;
+            }
+            if (rowTo != null && (row == null || compareRows(row, rowTo) > 0)) {
+                continue;
+            }
+            seatIds.add(directory.seatIdAt(ordinal));
+        }
+        return seatIds;
+    }
+
+    private static SeatBlockResponse response(Long scheduleId, boolean blocked, List<Long> targets, List<Long> changed) {
+        return SeatBlockResponse.builder()
+                .scheduleId(scheduleId)
+                .blocked(blocked)
+                .matched(targets.size())
+                .changed(changed.size())
+                .build();
+    }
+
+    // 열 라벨 순서 (A..Z, AA..AZ, BA..): 길이가 짧을수록 앞, 같으면 사전순
+    private static int compareRows(String a, String b) {
+        return a.length() != b.length() ? Integer.compare(a.length(), b.length()) : a.compareTo(b);
+    }
+
+    // 구역/열 라벨 비교용 (앞뒤 공백 제거, 대문자)
+    private static String normalizeLabel(String label) {
+        String value = blankToNull(label);
+        return value == null ? null : value.trim().toUpperCase();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
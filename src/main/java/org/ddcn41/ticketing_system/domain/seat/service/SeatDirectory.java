@@ -0,0 +1,115 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스케줄별 좌석 디렉터리 캐시 (노드 로컬)
+ * - 처음 조회될 때 스케줄 좌석 메타데이터를 한 번에 적재하고, 이후 좌석 소속/좌표 검증은 SQL 없이 처리
+ * - 좌석 초기화 시 무효화되며, 다른 노드의 초기화는 좌석 상태 스트림의 resync 변경분으로 전달받는다
+ * - 무효화 누락에 대비해 적재 후 seat.directory.ttl-ms가 지나면 다시 적재
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatDirectory {
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final SeatStatusStreamService seatStatusStreamService;
+
+    @Value("${seat.directory.ttl-ms:600000}")
+    private long ttlMs;
+
+    private final Map<Long, Entry> directories = new ConcurrentHashMap<>();
+    // 무효화마다 증가. 적재 중에 무효화가 있었으면 적재 결과를 캐시하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        seatStatusStreamService.addDeltaListener(this::applyDelta);
+    }
+
+    /**
+     * 스케줄 좌석 디렉터리 (캐시에 없으면 적재)
+     */
+    public ScheduleSeatDirectory forSchedule(Long scheduleId) {
+        long now = System.currentTimeMillis();
+        Entry entry = directories.get(scheduleId);
+        if (entry != null && !entry.isExpired(now, ttlMs)) {
+            return entry.directory();
+        }
+
+        long loadGeneration = generation.get();
+        ScheduleSeatDirectory directory = scheduleSeatRepository.loadSeatDirectory(scheduleId);
+        if (generation.get() == loadGeneration) {
+            directories.put(scheduleId, new Entry(directory, now));
+        }
+        return directory;
+    }
+
+    /**
+     * 좌석들이 모두 해당 스케줄에 속하는지 확인
+     */
+    public boolean containsAll(Long scheduleId, Collection<Long> seatIds) {
+        return scheduleId != null && forSchedule(scheduleId).containsAll(seatIds);
+    }
+
+    /**
+     * 좌석이 속한 스케줄 ID (적재된 디렉터리에서 먼저 찾고, 없으면 1회 조회 후 해당 스케줄 적재)
+     * @return 존재하지 않는 좌석이면 null
+     */
+    public Long findScheduleId(Long seatId) {
+        if (seatId == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, Entry> e : directories.entrySet()) {
+            Entry entry = e.getValue();
+            if (!entry.isExpired(now, ttlMs) && entry.directory().contains(seatId)) {
+                return e.getKey();
+            }
+        }
+
+        Long scheduleId = scheduleSeatRepository.findScheduleIdBySeatId(seatId);
+        if (scheduleId != null) {
+            forSchedule(scheduleId);
+        }
+        return scheduleId;
+    }
+
+    /**
+     * 디렉터리 무효화 (다음 조회 시 다시 적재)
+     */
+    public void invalidate(Long scheduleId) {
+        generation.incrementAndGet();
+        directories.remove(scheduleId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        directories.values().removeIf(entry -> entry.isExpired(now, ttlMs));
+    }
+
+    private void applyDelta(SeatStatusDelta delta) {
+        if (delta.getScheduleId() != null && delta.getStatus() == null) {
+            invalidate(delta.getScheduleId()); // 좌석 구성 변경
+        }
+    }
+
+    private record Entry(ScheduleSeatDirectory directory, long loadedAt) {
+        boolean isExpired(long now, long ttlMs) {
+            return now - loadedAt >= ttlMs;
+        }
+    }
+}
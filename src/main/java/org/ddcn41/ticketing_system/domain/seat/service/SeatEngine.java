@@ -0,0 +1,475 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.dto.request.SeatEngineCommandRequest;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.domain.seat.entity.SeatLock;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
+import org.ddcn41.ticketing_system.domain.seat.repository.SeatLockRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스케줄 단위 좌석 엔진 (선택 기능, seat.engine.enabled)
+ * - 열린 스케줄마다 소유 노드 하나가 인메모리 좌석 상태를 가진 액터(ScheduleSeatActor)로 점유/해제/확정을 한 줄로 처리한다
+ * - 소유 노드는 일관 해시 + Redis 소유 리스로 정하며(SeatEngineOwnership), 다른 노드는 받은 명령을 소유 노드의 내부 API로 전달한다
+ * - 소유 노드에 연결하지 못하면(주소 없음/연결 실패) 받은 노드가 SeatService로 직접 처리한다. DB가 기준값이므로 정합성은 유지되고 경합만 늘어난다
+ * - 전달 후 응답 시간 초과나 HTTP 오류면 소유 노드가 이미 처리했을 수 있으므로 직접 처리하지 않고 재시도 가능 오류(503)로 응답한다
+ * - 저널(seat.engine.journal.enabled)을 켜면 점유/해제는 노드 로컬 저널 내구화 후 응답하고 DB에는 비동기로 반영한다.
+ *   시작 시 DB에 반영되지 못한 저널 명령을 먼저 다시 적용하고, 주기적으로 액터 상태를 스냅샷으로 남긴다
+ * 비활성화 시에는 모든 명령을 SeatService로 바로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatEngine {
+
+    public static final String INTERNAL_TOKEN_HEADER = "X-Seat-Engine-Token";
+
+    private final SeatService seatService;
+    private final SeatDirectory seatDirectory;
+    private final SeatStatusStreamService seatStatusStreamService;
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final SeatLockRepository seatLockRepository;
+    private final SeatEngineOwnership ownership;
+    private final SeatJournal journal;
+    private final SeatLockStore seatLockStore;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${seat.engine.enabled:false}")
+    private boolean enabled;
+
+    @Value("${seat.engine.internal-token:}")
+    private String internalToken;
+
+    @Value("${seat.engine.worker-threads:8}")
+    private int workerThreads;
+
+    @Value("${seat.engine.command-timeout-ms:5000}")
+    private long commandTimeoutMs;
+
+    @Value("${seat.engine.idle-ms:600000}")
+    private long idleMs;
+
+    @Value("${seatlock.ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    @Value("${seatlock.max-holds-per-user:10}")
+    private int maxHoldsPerUser;
+
+    @Value("${seatlock.max-holds-per-session:10}")
+    private int maxHoldsPerSession;
+
+    @Value("${seatlock.mode:redis}")
+    private String seatLockMode;
+
+    private final Map<Long, ScheduleSeatActor> actors = new ConcurrentHashMap<>();
+
+    // 저널 스냅샷에서 복원한 상태 (해당 스케줄 액터가 처음 적재될 때 한 번만 사용)
+    private final Map<Long, SeatJournal.StateSnapshot> recoveredStates = new ConcurrentHashMap<>();
+
+    private ExecutorService workers;
+    private RestClient restClient;
+    private ScheduleSeatActor.Settings actorSettings;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // 저널 점유는 DB 반영 전까지 점유 저장소만이 다른 경로를 막으므로, 트랜잭션이 끝나면 풀리는 db 모드와는 함께 쓸 수 없다
+        if (journal.isEnabled() && !"redis".equals(seatLockMode) && !"local".equals(seatLockMode)) {
+            throw new IllegalStateException("seat.engine.journal.enabled는 seatlock.mode가 redis 또는 local일 때만 사용할 수 있습니다: " + seatLockMode);
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-engine-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) Math.min(commandTimeoutMs, 1000));
+        requestFactory.setReadTimeout((int) commandTimeoutMs);
+        restClient = RestClient.builder().requestFactory(requestFactory).build();
+        actorSettings = new ScheduleSeatActor.Settings(TimeUnit.SECONDS.toMillis(lockTtlSeconds),
+                maxHoldsPerUser, maxHoldsPerSession);
+
+        if (journal.isEnabled()) {
+            recover(journal.open());
+        }
+        seatStatusStreamService.addDeltaListener(this::applyDelta);
+        ownership.heartbeat();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ownership.leave();
+        } catch (RuntimeException e) {
+            log.warn("좌석 엔진 노드 등록 해제 실패: {}", e.getMessage());
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(commandTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal.isEnabled()) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좌석 점유 (호출 측에서 좌석 소속 검증을 마친 상태)
+     */
+    public SeatLockResponse lockSeats(Long scheduleId, List<Long> seatIds, Long userId, String sessionId) {
+        if (!enabled) {
+            return seatService.lockSeats(seatIds, userId, sessionId);
+        }
+        SeatEngineOwnership.Owner owner = ownership.ownerOf(scheduleId);
+        if (owner.local()) {
+            return await(actorFor(scheduleId).lock(seatIds, userId, sessionId));
+        }
+        SeatLockResponse forwarded = forward(owner, scheduleId, "lock",
+                command(seatIds, userId, sessionId, null), SeatLockResponse.class);
+        return forwarded != null ? forwarded : seatService.lockSeats(seatIds, userId, sessionId);
+    }
+
+    /**
+     * 좌석 점유 해제 (호출 측에서 좌석 소속 검증을 마친 상태)
+     */
+    public boolean releaseSeats(Long scheduleId, List<Long> seatIds, Long userId, String sessionId) {
+        if (!enabled) {
+            return seatService.releaseSeats(seatIds, userId, sessionId);
+        }
+        SeatEngineOwnership.Owner owner = ownership.ownerOf(scheduleId);
+        if (owner.local()) {
+            return await(actorFor(scheduleId).release(seatIds, userId, sessionId));
+        }
+        Boolean forwarded = forward(owner, scheduleId, "release",
+                command(seatIds, userId, sessionId, null), Boolean.class);
+        return forwarded != null ? forwarded : seatService.releaseSeats(seatIds, userId, sessionId);
+    }
+
+    /**
+     * 좌석 예약 확정 (스케줄은 첫 좌석의 소속으로 정하며, 다른 스케줄 좌석이 섞여 있으면 SeatService 확정에서 걸러진다)
+     */
+    public boolean confirmSeats(List<Long> seatIds, Long userId, Long holdToken) {
+        Long scheduleId = !enabled || seatIds == null || seatIds.isEmpty() ? null : seatDirectory.findScheduleId(seatIds.get(0));
+        if (scheduleId == null) {
+            return seatService.confirmSeats(seatIds, userId, holdToken);
+        }
+        SeatEngineOwnership.Owner owner = ownership.ownerOf(scheduleId);
+        if (owner.local()) {
+            return await(actorFor(scheduleId).confirm(seatIds, userId, holdToken));
+        }
+        Boolean forwarded = forward(owner, scheduleId, "confirm",
+                command(seatIds, userId, null, holdToken), Boolean.class);
+        return forwarded != null ? forwarded : seatService.confirmSeats(seatIds, userId, holdToken);
+    }
+
+    /**
+     * 좌석 예약 취소 (스케줄은 첫 좌석의 소속으로 정함)
+     */
+    public boolean cancelSeats(List<Long> seatIds) {
+        Long scheduleId = !enabled || seatIds == null || seatIds.isEmpty() ? null : seatDirectory.findScheduleId(seatIds.get(0));
+        if (scheduleId == null) {
+            return seatService.cancelSeats(seatIds);
+        }
+        SeatEngineOwnership.Owner owner = ownership.ownerOf(scheduleId);
+        if (owner.local()) {
+            return await(actorFor(scheduleId).cancel(seatIds));
+        }
+        Boolean forwarded = forward(owner, scheduleId, "cancel", command(seatIds, null, null, null), Boolean.class);
+        return forwarded != null ? forwarded : seatService.cancelSeats(seatIds);
+    }
+
+    /**
+     * 다른 노드에서 전달받은 명령 처리 (다시 전달하지 않음: 소유 리스를 얻지 못하면 SeatService로 직접 처리)
+     */
+    public SeatLockResponse handleForwardedLock(Long scheduleId, SeatEngineCommandRequest request) {
+        if (enabled && ownership.claim(scheduleId)) {
+            return await(actorFor(scheduleId).lock(request.getSeatIds(), request.getUserId(), request.getSessionId()));
+        }
+        return seatService.lockSeats(request.getSeatIds(), request.getUserId(), request.getSessionId());
+    }
+
+    public boolean handleForwardedRelease(Long scheduleId, SeatEngineCommandRequest request) {
+        if (enabled && ownership.claim(scheduleId)) {
+            return await(actorFor(scheduleId).release(request.getSeatIds(), request.getUserId(), request.getSessionId()));
+        }
+        return seatService.releaseSeats(request.getSeatIds(), request.getUserId(), request.getSessionId());
+    }
+
+    public boolean handleForwardedConfirm(Long scheduleId, SeatEngineCommandRequest request) {
+        if (enabled && ownership.claim(scheduleId)) {
+            return await(actorFor(scheduleId).confirm(request.getSeatIds(), request.getUserId(), request.getHoldToken()));
+        }
+        return seatService.confirmSeats(request.getSeatIds(), request.getUserId(), request.getHoldToken());
+    }
+
+    public boolean handleForwardedCancel(Long scheduleId, SeatEngineCommandRequest request) {
+        if (enabled && ownership.claim(scheduleId)) {
+            return await(actorFor(scheduleId).cancel(request.getSeatIds()));
+        }
+        return seatService.cancelSeats(request.getSeatIds());
+    }
+
+    /**
+     * 노드 간 전달 요청의 내부 토큰 확인 (토큰이 설정되지 않았으면 전달 요청을 받지 않음)
+     */
+    public boolean isTrustedForward(String token) {
+        return enabled && internalToken != null && !internalToken.isBlank() && internalToken.equals(token);
+    }
+
+    /**
+     * 노드 등록/소유 리스 갱신, 소유하지 않게 된 스케줄과 오래 쓰이지 않은 스케줄의 액터 정리
+     */
+    @Scheduled(fixedDelayString = "${seat.engine.heartbeat-interval-ms:2000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ownership.heartbeat().forEach(actors::remove);
+        } catch (RuntimeException e) {
+            log.warn("좌석 엔진 heartbeat 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 유휴 판정과 제거를 액터 조회(actorFor)와 같은 키 단위 원자 연산으로 처리해, 한 스케줄에 액터가 둘 생기지 않게 함
+        long now = System.currentTimeMillis();
+        List<Long> evicted = new ArrayList<>();
+        for (Long scheduleId : List.copyOf(actors.keySet())) {
+            actors.compute(scheduleId, (id, actor) -> {
+                if (actor == null || now - actor.lastUsedAt() < idleMs || !actor.isIdle()) {
+                    return actor;
+                }
+                evicted.add(id);
+                return null;
+            });
+        }
+        evicted.forEach(ownership::release);
+    }
+
+    /**
+     * 저널 스냅샷 기록 (적재된 액터 상태를 각 액터 스레드에서 복사해 모음)
+     */
+    @Scheduled(fixedDelayString = "${seat.engine.journal.snapshot-interval-ms:60000}",
+            initialDelayString = "${seat.engine.journal.snapshot-interval-ms:60000}")
+    public void checkpoint() {
+        if (!enabled || !journal.isEnabled()) {
+            return;
+        }
+        List<CompletableFuture<SeatJournal.StateSnapshot>> pending = actors.values().stream()
+                .map(ScheduleSeatActor::snapshot)
+                .toList();
+        List<SeatJournal.StateSnapshot> states = new ArrayList<>();
+        for (CompletableFuture<SeatJournal.StateSnapshot> future : pending) {
+            try {
+                SeatJournal.StateSnapshot state = future.get(commandTimeoutMs, TimeUnit.MILLISECONDS);
+                if (state != null) {
+                    states.add(state);
+                }
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("좌석 액터 스냅샷 수집 실패: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        journal.checkpoint(states);
+    }
+
+    /**
+     * 시작 시 저널 복구: DB에 반영되지 못한 점유/해제를 순서대로 다시 적용 (만료 시각이 지난 점유는 건너뜀)
+     */
+    private void recover(SeatJournal.Recovery recovery) {
+        long now = System.currentTimeMillis();
+        recovery.unpersisted().forEach((scheduleId, records) -> {
+            int applied = 0;
+            for (SeatJournalRecord record : records) {
+                try {
+                    if (record.type() == SeatJournalRecord.Type.LOCK && record.expiresAt() > now) {
+                        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(record.expiresAt()), ZoneId.systemDefault());
+                        if (seatService.applyJournaledLock(record.seatIds(), record.userId(), record.sessionId(),
+                                record.holdToken(), expiresAt).isSuccess()) {
+                            applied++;
+                        }
+                    } else if (record.type() == SeatJournalRecord.Type.RELEASE
+                            && seatService.releaseSeats(record.seatIds(), record.userId(), record.sessionId(), record.fencedToken())) {
+                        applied++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("저널 명령 재적용 실패: scheduleId={}, type={}, {}", scheduleId, record.type(), e.getMessage());
+                }
+            }
+            journal.markPersisted(scheduleId);
+            log.info("저널 명령 재적용: scheduleId={}, {}/{}건", scheduleId, applied, records.size());
+        });
+        recoveredStates.putAll(recovery.snapshots());
+    }
+
+    private ScheduleSeatActor actorFor(Long scheduleId) {
+        return actors.compute(scheduleId, (id, existing) -> {
+            ScheduleSeatActor actor = existing != null ? existing : new ScheduleSeatActor(id, workers, seatService, this::loadSeats,
+                    journal.isEnabled() ? journal : null, seatLockStore, actorSettings);
+            actor.touch();
+            return actor;
+        });
+    }
+
+    /**
+     * 액터 상태 적재
+     * 저널 스냅샷이 있고 그 뒤로 좌석 상태 버전이 바뀌지 않았으면 스냅샷을, 아니면 DB(좌석 디렉터리 + 상태 스냅샷 + 활성 락의 점유자)를 읽는다.
+     */
+    private ScheduleSeatActor.Seats loadSeats(Long scheduleId) {
+        long version = seatStatusStreamService.currentVersion(scheduleId);
+        SeatJournal.StateSnapshot recovered = recoveredStates.remove(scheduleId);
+        if (recovered != null && recovered.seenVersion() == version) {
+            ScheduleSeatActor.Seats seats = ScheduleSeatActor.Seats.fromSnapshot(seatDirectory.forSchedule(scheduleId), recovered);
+            if (seats != null) {
+                return seats;
+            }
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> {
+            ScheduleSeatDirectory directory = seatDirectory.forSchedule(scheduleId);
+            ScheduleSeatActor.Seats seats = new ScheduleSeatActor.Seats(directory,
+                    scheduleSeatRepository.loadSeatMapSnapshot(scheduleId), version);
+            for (SeatLock lock : seatLockRepository.findActiveLocksByScheduleId(scheduleId)) {
+                int ordinal = seats.ordinalOf(lock.getSeat().getSeatId());
+                if (ordinal >= 0 && lock.getUser() != null) {
+                    seats.hold(ordinal, lock.getUser().getUserId(), lock.getSessionId(),
+                            lock.getFencingToken() == null ? 0L : lock.getFencingToken(), lock.getExpiresAt());
+                }
+            }
+            return seats;
+        });
+    }
+
+    private void applyDelta(SeatStatusDelta delta) {
+        ScheduleSeatActor actor = delta.getScheduleId() == null ? null : actors.get(delta.getScheduleId());
+        if (actor != null) {
+            actor.tell(delta);
+        }
+    }
+
+    /**
+     * 소유 노드로 명령 전달
+     * @return 소유 노드 주소가 없거나 연결 자체를 맺지 못했으면 null (명령이 소유 노드에 닿지 않았으므로 직접 처리해도 됨)
+     * @throws ResponseStatusException 연결 후 응답 시간 초과/HTTP 오류 등 소유 노드가 이미 처리했을 수 있는 경우 (503, 재시도 가능)
+     */
+    private <T> T forward(SeatEngineOwnership.Owner owner, Long scheduleId, String action,
+                          SeatEngineCommandRequest request, Class<T> responseType) {
+        if (owner.url() == null) {
+            return null;
+        }
+        try {
+            return restClient.post()
+                    .uri(owner.url() + "/v1/internal/seat-engine/schedules/{scheduleId}/" + action, scheduleId)
+                    .header(INTERNAL_TOKEN_HEADER, internalToken)
+                    .body(request)
+                    .retrieve()
+                    .body(responseType);
+        } catch (RestClientException e) {
+            if (isConnectFailure(e)) {
+                log.warn("좌석 엔진 소유 노드 연결 실패, 직접 처리: scheduleId={}, owner={}, {}", scheduleId, owner.nodeId(), e.getMessage());
+                return null;
+            }
+            // 소유 노드가 명령을 이미 적용했을 수 있으므로 직접 처리하지 않음 (중복 확정/취소 및 액터 직렬화 우회 방지)
+            log.warn("좌석 엔진 명령 결과 확인 실패: scheduleId={}, owner={}, action={}, {}", scheduleId, owner.nodeId(), action, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "좌석 처리 결과를 확인하지 못했습니다. 좌석 상태를 확인한 뒤 다시 시도해주세요.", e);
+        }
+    }
+
+    /**
+     * 요청을 보내기 전 단계(주소 해석/연결)에서 실패했는지
+     */
+    private static boolean isConnectFailure(RestClientException e) {
+        if (!(e instanceof ResourceAccessException)) {
+            return false; // HTTP 오류 응답, 응답 변환 실패 등
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+                    || cause instanceof UnknownHostException) {
+                return true;
+            }
+            if (cause instanceof SocketTimeoutException timeout) {
+                // 연결 시간 초과만 해당 (읽기 시간 초과는 요청이 이미 전달된 뒤)
+                return timeout.getMessage() != null && timeout.getMessage().toLowerCase().contains("connect");
+            }
+        }
+        return false;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(commandTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("좌석 처리 중 오류 발생", e.getCause());
+        } catch (TimeoutException e) {
+            // 명령은 메일박스에 남아 처리될 수 있으므로 결과를 알 수 없음 (클라이언트는 좌석 상태를 다시 조회)
+            throw new IllegalStateException("좌석 처리 대기 시간을 초과했습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좌석 처리 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private static SeatEngineCommandRequest command(List<Long> seatIds, Long userId, String sessionId, Long holdToken) {
+        return SeatEngineCommandRequest.builder()
+                .seatIds(seatIds)
+                .userId(userId)
+                .sessionId(sessionId)
+                .holdToken(holdToken)
+                .build();
+    }
+}
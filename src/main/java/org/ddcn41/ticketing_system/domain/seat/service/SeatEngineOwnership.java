@@ -0,0 +1,202 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.global.util.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 엔진 스케줄 소유권 (노드 멤버십 + 일관 해시 + 소유 리스)
+ * - 노드는 seat_engine:nodes(만료 시각 점수, RedisKeys 참고)에 주기적으로 자신을 등록하고, 살아 있는 노드 목록으로 해시 링을 만든다
+ * - 스케줄의 소유자는 seat_engine_owner:{schedule:S} 리스를 가진 노드이며, 리스가 없으면 링이 가리키는 노드가 첫 명령 때 획득한다
+ * - 링이 바뀌어(노드 추가) 다른 노드가 맡아야 하는 스케줄은 갱신 시 리스를 내려놓아 새 노드가 이어받게 한다
+ * 리스가 링보다 우선하므로 링 갱신 시점이 노드마다 조금 달라도 한 스케줄의 소유자는 하나다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatEngineOwnership {
+
+    private static final int VIRTUAL_NODES = 64;
+
+    /**
+     * 소유 리스 획득/갱신 (이미 보유 중이면 TTL만 연장)
+     */
+    private static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 소유 리스 반납 (자신이 가진 리스만 삭제)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${seat.engine.node-url:}")
+    private String nodeUrl;
+
+    @Value("${seat.engine.lease-ms:10000}")
+    private long leaseMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile ConsistentHashRing ring = ConsistentHashRing.EMPTY;
+    private volatile Map<String, String> nodeUrls = Map.of();
+
+    // 이 노드가 가진 리스 (scheduleId -> 로컬 기준 만료 시각, 만료 전에 갱신되지 않으면 소유하지 않은 것으로 본다)
+    private final Map<Long, Long> ownedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * 스케줄 소유 노드
+     * @param local 이 노드가 소유자면 true
+     * @param url 다른 노드가 소유자일 때 전달할 주소 (local이면 null)
+     */
+    public record Owner(boolean local, String nodeId, String url) {
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드 등록 갱신 및 해시 링 재구성, 소유 리스 갱신
+     * @return 더 이상 이 노드가 소유하지 않는 스케줄 (호출 측에서 인메모리 상태를 내려놓음)
+     */
+    public List<Long> heartbeat() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(RedisKeys.seatEngineNodes(), nodeId, now + leaseMs);
+        if (nodeUrl != null && !nodeUrl.isBlank()) {
+            redisTemplate.opsForHash().put(RedisKeys.seatEngineNodeUrls(), nodeId, nodeUrl);
+        }
+        redisTemplate.opsForZSet().removeRangeByScore(RedisKeys.seatEngineNodes(), Double.NEGATIVE_INFINITY, now);
+
+        Set<String> live = redisTemplate.opsForZSet().rangeByScore(RedisKeys.seatEngineNodes(), now, Double.POSITIVE_INFINITY);
+        if (live != null && !ring.sameNodes(live)) {
+            ring = new ConsistentHashRing(live, VIRTUAL_NODES);
+            log.info("좌석 엔진 노드 구성 변경: {}개 노드", live.size());
+        }
+        Map<String, String> urls = new HashMap<>();
+        redisTemplate.opsForHash().entries(RedisKeys.seatEngineNodeUrls()).forEach((k, v) -> urls.put(k.toString(), v.toString()));
+        nodeUrls = urls;
+
+        List<Long> lost = new ArrayList<>();
+        for (Long scheduleId : List.copyOf(ownedUntil.keySet())) {
+            String assigned = ring.nodeFor(scheduleId);
+            if (assigned != null && !nodeId.equals(assigned)) {
+                // 링이 다른 노드를 가리키면 리스를 반납해 그 노드가 이어받게 함
+                release(scheduleId);
+                lost.add(scheduleId);
+            } else if (!tryAcquire(scheduleId)) {
+                ownedUntil.remove(scheduleId);
+                lost.add(scheduleId);
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * 스케줄 소유 노드 조회 (리스가 비어 있고 링이 이 노드를 가리키면 리스를 획득)
+     */
+    public Owner ownerOf(Long scheduleId) {
+        if (isOwnedLocally(scheduleId)) {
+            return new Owner(true, nodeId, null);
+        }
+
+        String leaseholder = redisTemplate.opsForValue().get(RedisKeys.seatEngineOwner(scheduleId));
+        if (leaseholder != null) {
+            if (nodeId.equals(leaseholder)) {
+                return claim(scheduleId) ? new Owner(true, nodeId, null) : remoteLeaseholder(scheduleId);
+            }
+            String url = nodeUrls.get(leaseholder);
+            if (url != null && ring.nodes().contains(leaseholder)) {
+                return new Owner(false, leaseholder, url);
+            }
+            // 리스를 가진 노드가 이미 빠졌으면 리스 만료 전이라도 링 기준으로 전달 (해당 노드는 리스를 갱신하지 못함)
+        }
+
+        String assigned = ring.nodeFor(scheduleId);
+        if (assigned == null || nodeId.equals(assigned) || !nodeUrls.containsKey(assigned)) {
+            return claim(scheduleId) ? new Owner(true, nodeId, null) : remoteLeaseholder(scheduleId);
+        }
+        return new Owner(false, assigned, nodeUrls.get(assigned));
+    }
+
+    /**
+     * 소유 리스 획득 시도 (전달받은 명령을 처리하는 노드에서 호출)
+     * @return 이 노드가 소유자가 됐으면 true
+     */
+    public boolean claim(Long scheduleId) {
+        return isOwnedLocally(scheduleId) || tryAcquire(scheduleId);
+    }
+
+    /**
+     * 소유 리스 반납
+     */
+    public void release(Long scheduleId) {
+        ownedUntil.remove(scheduleId);
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(RedisKeys.seatEngineOwner(scheduleId)), nodeId);
+        } catch (RuntimeException e) {
+            log.warn("좌석 엔진 소유 리스 반납 실패: scheduleId={}, {}", scheduleId, e.getMessage());
+        }
+    }
+
+    /**
+     * 노드 종료 시 등록과 모든 리스 반납 (다른 노드가 리스 만료를 기다리지 않고 이어받음)
+     */
+    public void leave() {
+        List.copyOf(ownedUntil.keySet()).forEach(this::release);
+        redisTemplate.opsForZSet().remove(RedisKeys.seatEngineNodes(), nodeId);
+        redisTemplate.opsForHash().delete(RedisKeys.seatEngineNodeUrls(), nodeId);
+    }
+
+    private boolean isOwnedLocally(Long scheduleId) {
+        Long until = ownedUntil.get(scheduleId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    private boolean tryAcquire(Long scheduleId) {
+        long acquiredAt = System.currentTimeMillis();
+        Long acquired = redisTemplate.execute(LEASE_SCRIPT, List.of(RedisKeys.seatEngineOwner(scheduleId)),
+                nodeId, String.valueOf(leaseMs));
+        if (acquired == null || acquired != 1L) {
+            return false;
+        }
+        // Redis와의 시계 차이를 감안해 로컬 만료는 리스의 절반 시점으로 잡음
+        ownedUntil.put(scheduleId, acquiredAt + leaseMs / 2);
+        return true;
+    }
+
+    private Owner remoteLeaseholder(Long scheduleId) {
+        String leaseholder = redisTemplate.opsForValue().get(RedisKeys.seatEngineOwner(scheduleId));
+        String url = leaseholder == null ? null : nodeUrls.get(leaseholder);
+        return new Owner(false, leaseholder, url);
+    }
+}
@@ -0,0 +1,32 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+/**
+ * 좌석 점유 소유자 (점유 저장소에 "userId:sessionId" 문자열로 기록)
+ */
+public record SeatHolder(Long userId, String sessionId) {
+
+    public String value() {
+        return userId + ":" + sessionId;
+    }
+
+    /**
+     * 점유 저장소 값에서 소유자 복원 (형식이 다르면 userId/sessionId가 null)
+     */
+    public static SeatHolder parse(String value) {
+        if (value == null) {
+            return new SeatHolder(null, null);
+        }
+        int sep = value.indexOf(':');
+        if (sep < 0) {
+            return new SeatHolder(null, null);
+        }
+        Long userId;
+        try {
+            userId = Long.valueOf(value.substring(0, sep));
+        } catch (NumberFormatException e) {
+            userId = null;
+        }
+        String sessionId = value.substring(sep + 1);
+        return new SeatHolder(userId, "null".equals(sessionId) ? null : sessionId);
+    }
+}
@@ -0,0 +1,419 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 좌석 명령 저널 (노드 로컬 write-ahead log, 좌석 엔진 전용)
+ * - 고정 크기 세그먼트 파일을 MappedByteBuffer로 매핑해 레코드를 이어 붙인다 ([길이][CRC32][본문], 길이 0이면 세그먼트 끝)
+ * - 동기화 스레드가 seat.engine.journal.group-commit-ms마다 한 번 force()해 그 사이에 쌓인 레코드를 함께 내구화하며(group commit),
+ *   append가 돌려준 future는 해당 레코드가 내구화된 뒤 완료된다
+ * - 스냅샷은 스케줄별 좌석 상태 배열을 별도 파일로 기록하고, DB 반영이 끝난 레코드만 남은 세그먼트는 삭제한다
+ * - 시작 시 세그먼트를 순서대로 읽어(CRC가 맞지 않는 꼬리는 중단된 기록으로 보고 버림) 스케줄별 DB 미반영 명령과 최근 스냅샷을 돌려준다
+ * 저널은 노드 디스크에만 있으므로 DB 미반영 명령은 같은 노드가 재시작할 때만 다시 적용된다.
+ * 그 전에 다른 노드가 스케줄을 이어받으면 해당 점유는 점유 저장소에만 남아 확정할 수 없고 TTL이 지나야 풀린다.
+ */
+@Component
+@Slf4j
+public class SeatJournal {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int SNAPSHOT_MAGIC = 0x53454154; // "SEAT"
+    private static final int HEADER_BYTES = 8;
+
+    @Value("${seat.engine.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${seat.engine.journal.dir:./data/seat-journal}")
+    private String dir;
+
+    @Value("${seat.engine.journal.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${seat.engine.journal.group-commit-ms:2}")
+    private long groupCommitMs;
+
+    private Path directory;
+
+    // 세그먼트 첫 LSN -> 파일 (this로 보호)
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long lastLsn;
+    // 내구화를 기다리는 append (LSN -> future, this로 보호)
+    private final NavigableMap<Long, CompletableFuture<Long>> waiters = new TreeMap<>();
+
+    private volatile long durableLsn;
+    private volatile boolean running;
+    private Thread syncer;
+
+    // DB 반영을 기다리는 명령이 있는 스케줄 -> 그중 가장 앞선 LSN (세그먼트 삭제 기준)
+    private final Map<Long, Long> firstUnpersisted = new ConcurrentHashMap<>();
+
+    /**
+     * 시작 시 복구 결과
+     * @param unpersisted 스케줄별 DB 미반영 LOCK/RELEASE 명령 (LSN 순)
+     * @param snapshots 최근 스냅샷의 스케줄별 좌석 상태
+     */
+    public record Recovery(Map<Long, List<SeatJournalRecord>> unpersisted, Map<Long, StateSnapshot> snapshots) {
+    }
+
+    /**
+     * 스케줄 좌석 상태 스냅샷 (좌석 서수 순 배열, seenVersion은 스냅샷 시점까지 반영한 좌석 상태 버전)
+     */
+    public record StateSnapshot(Long scheduleId, long seenVersion, long[] seatIds, byte[] status,
+                                long[] holderUser, String[] holderSession, long[] holdToken, long[] expiresAt) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저널 열기: 기존 세그먼트/스냅샷을 읽어 복구 정보를 만들고 새 세그먼트에 이어 쓴다
+     */
+    public synchronized Recovery open() {
+        try {
+            directory = Path.of(dir);
+            Files.createDirectories(directory);
+
+            Map<Long, List<SeatJournalRecord>> unpersisted = new LinkedHashMap<>();
+            for (Path segment : listFiles(SEGMENT_SUFFIX)) {
+                segments.put(firstLsnOf(segment), segment);
+                for (SeatJournalRecord record : readSegment(segment)) {
+                    lastLsn = Math.max(lastLsn, record.lsn());
+                    if (record.type().marksPersisted()) {
+                        unpersisted.remove(record.scheduleId());
+                    } else {
+                        unpersisted.computeIfAbsent(record.scheduleId(), k -> new ArrayList<>()).add(record);
+                    }
+                }
+            }
+            unpersisted.forEach((scheduleId, records) -> firstUnpersisted.put(scheduleId, records.get(0).lsn()));
+            Map<Long, StateSnapshot> snapshots = readLatestSnapshot();
+
+            durableLsn = lastLsn;
+            rollSegment(lastLsn + 1);
+            running = true;
+            syncer = new Thread(this::syncLoop, "seat-journal-sync");
+            syncer.setDaemon(true);
+            syncer.start();
+
+            log.info("좌석 저널 열기: lastLsn={}, 세그먼트 {}개, DB 미반영 스케줄 {}개", lastLsn, segments.size(), unpersisted.size());
+            return new Recovery(unpersisted, snapshots);
+        } catch (IOException e) {
+            throw new UncheckedIOException("좌석 저널을 열 수 없습니다: " + dir, e);
+        }
+    }
+
+    public void close() {
+        running = false;
+        if (syncer != null) {
+            LockSupport.unpark(syncer);
+            try {
+                syncer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (buffer != null) {
+                buffer.force();
+            }
+            completeWaiters(lastLsn, null);
+            closeChannel();
+        }
+    }
+
+    /**
+     * 레코드 추가
+     * @return 내구화(fsync)된 뒤 LSN으로 완료되는 future
+     */
+    public CompletableFuture<Long> append(SeatJournalRecord record) {
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        synchronized (this) {
+            long lsn = lastLsn + 1;
+            byte[] payload = record.withLsn(lsn).encode();
+            if (payload.length + HEADER_BYTES > segmentBytes - HEADER_BYTES) {
+                throw new IllegalArgumentException("저널 레코드가 세그먼트보다 큽니다: " + payload.length);
+            }
+            if (buffer.remaining() < payload.length + 2 * HEADER_BYTES) {
+                buffer.force(); // 다 찬 세그먼트는 닫기 전에 바로 내구화 (대기 중인 append는 다음 동기화 때 함께 완료)
+                rollSegment(lsn);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            buffer.putInt(payload.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(payload);
+            lastLsn = lsn;
+
+            if (!record.type().marksPersisted()) {
+                firstUnpersisted.putIfAbsent(record.scheduleId(), lsn);
+            }
+            waiters.put(lsn, durable);
+        }
+        return durable;
+    }
+
+    /**
+     * 스케줄의 앞선 명령이 모두 DB에 반영됐음을 기록 (내구화를 기다리지 않음: 유실되면 재시작 시 한 번 더 적용될 뿐)
+     */
+    public void markPersisted(Long scheduleId) {
+        if (firstUnpersisted.remove(scheduleId) != null) {
+            append(SeatJournalRecord.persisted(scheduleId));
+        }
+    }
+
+    /**
+     * 스케줄별 좌석 상태 스냅샷 기록 후, DB 반영이 끝난 세그먼트와 이전 스냅샷 삭제
+     */
+    public void checkpoint(Collection<StateSnapshot> states) {
+        long snapshotLsn;
+        synchronized (this) {
+            snapshotLsn = lastLsn;
+        }
+        Path target = directory.resolve(String.format("%020d%s", snapshotLsn, SNAPSHOT_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                 DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out)))) {
+                writeSnapshot(data, states);
+                data.flush();
+                out.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (Path old : listFiles(SNAPSHOT_SUFFIX)) {
+                if (!old.equals(target)) {
+                    Files.deleteIfExists(old);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("좌석 저널 스냅샷 기록 실패: {}", e.getMessage());
+            return;
+        }
+        truncatePersistedSegments();
+    }
+
+    private void truncatePersistedSegments() {
+        long keepFrom = firstUnpersisted.values().stream().mapToLong(Long::longValue).min().orElse(Long.MAX_VALUE);
+        List<Path> deletable = new ArrayList<>();
+        synchronized (this) {
+            // 다음 세그먼트의 첫 LSN 이전이 모두 반영됐으면 삭제 (현재 세그먼트는 유지)
+            Long current = segments.lastKey();
+            for (Map.Entry<Long, Path> entry : List.copyOf(segments.entrySet())) {
+                Long next = segments.higherKey(entry.getKey());
+                if (entry.getKey().equals(current) || next == null || next > keepFrom) {
+                    break;
+                }
+                deletable.add(entry.getValue());
+                segments.remove(entry.getKey());
+            }
+        }
+        for (Path segment : deletable) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("좌석 저널 세그먼트 삭제 실패: {}, {}", segment, e.getMessage());
+            }
+        }
+    }
+
+    private void syncLoop() {
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(groupCommitMs));
+            long target;
+            MappedByteBuffer current;
+            synchronized (this) {
+                target = lastLsn;
+                current = buffer;
+            }
+            if (target <= durableLsn) {
+                continue;
+            }
+            try {
+                current.force();
+                durableLsn = target;
+                completeWaiters(target, null);
+            } catch (UncheckedIOException e) {
+                log.error("좌석 저널 동기화 실패", e);
+                completeWaiters(target, e);
+            }
+        }
+    }
+
+    private void completeWaiters(long upToLsn, Throwable failure) {
+        List<Map.Entry<Long, CompletableFuture<Long>>> ready;
+        synchronized (this) {
+            NavigableMap<Long, CompletableFuture<Long>> head = waiters.headMap(upToLsn, true);
+            ready = new ArrayList<>(head.entrySet());
+            head.clear();
+        }
+        for (Map.Entry<Long, CompletableFuture<Long>> entry : ready) {
+            if (failure == null) {
+                entry.getValue().complete(entry.getKey());
+            } else {
+                entry.getValue().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private void rollSegment(long firstLsn) {
+        closeChannel();
+        Path segment = directory.resolve(String.format("%020d%s", firstLsn, SEGMENT_SUFFIX));
+        try {
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("좌석 저널 세그먼트를 만들 수 없습니다: " + segment, e);
+        }
+        segments.put(firstLsn, segment);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("좌석 저널 세그먼트 닫기 실패: {}", e.getMessage());
+        }
+        channel = null;
+    }
+
+    private static List<SeatJournalRecord> readSegment(Path segment) throws IOException {
+        List<SeatJournalRecord> records = new ArrayList<>();
+        try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            while (mapped.remaining() >= HEADER_BYTES) {
+                int length = mapped.getInt();
+                int checksum = mapped.getInt();
+                if (length <= 0 || length > mapped.remaining()) {
+                    break; // 세그먼트 끝
+                }
+                byte[] payload = new byte[length];
+                mapped.get(payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("좌석 저널 손상된 꼬리 레코드 무시: {}", segment.getFileName());
+                    break; // 기록 도중 중단된 레코드
+                }
+                records.add(SeatJournalRecord.decode(ByteBuffer.wrap(payload)));
+            }
+        }
+        return records;
+    }
+
+    private Map<Long, StateSnapshot> readLatestSnapshot() throws IOException {
+        List<Path> snapshots = listFiles(SNAPSHOT_SUFFIX);
+        if (snapshots.isEmpty()) {
+            return Map.of();
+        }
+        Path latest = snapshots.get(snapshots.size() - 1);
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest)))) {
+            return readSnapshot(data);
+        } catch (IOException | RuntimeException e) {
+            log.warn("좌석 저널 스냅샷 읽기 실패, 무시: {}, {}", latest.getFileName(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream data, Collection<StateSnapshot> states) throws IOException {
+        data.writeInt(SNAPSHOT_MAGIC);
+        data.writeInt(states.size());
+        for (StateSnapshot state : states) {
+            data.writeLong(state.scheduleId());
+            data.writeLong(state.seenVersion());
+            data.writeInt(state.seatIds().length);
+            for (int i = 0; i < state.seatIds().length; i++) {
+                data.writeLong(state.seatIds()[i]);
+                data.writeByte(state.status()[i]);
+                data.writeLong(state.holderUser()[i]);
+                data.writeLong(state.holdToken()[i]);
+                data.writeLong(state.expiresAt()[i]);
+                data.writeBoolean(state.holderSession()[i] != null);
+                if (state.holderSession()[i] != null) {
+                    data.writeUTF(state.holderSession()[i]);
+                }
+            }
+        }
+    }
+
+    private static Map<Long, StateSnapshot> readSnapshot(DataInputStream data) throws IOException {
+        if (data.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("스냅샷 형식이 아닙니다");
+        }
+        int count = data.readInt();
+        Map<Long, StateSnapshot> states = new HashMap<>();
+        for (int s = 0; s < count; s++) {
+            long scheduleId = data.readLong();
+            long seenVersion = data.readLong();
+            int size = data.readInt();
+            long[] seatIds = new long[size];
+            byte[] status = new byte[size];
+            long[] holderUser = new long[size];
+            String[] holderSession = new String[size];
+            long[] holdToken = new long[size];
+            long[] expiresAt = new long[size];
+            for (int i = 0; i < size; i++) {
+                seatIds[i] = data.readLong();
+                status[i] = data.readByte();
+                holderUser[i] = data.readLong();
+                holdToken[i] = data.readLong();
+                expiresAt[i] = data.readLong();
+                holderSession[i] = data.readBoolean() ? data.readUTF() : null;
+            }
+            states.put(scheduleId, new StateSnapshot(scheduleId, seenVersion, seatIds, status,
+                    holderUser, holderSession, holdToken, expiresAt));
+        }
+        return states;
+    }
+
+    private List<Path> listFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(suffix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstLsnOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
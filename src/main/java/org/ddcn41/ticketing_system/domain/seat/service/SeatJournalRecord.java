@@ -0,0 +1,96 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 저널 레코드 (좌석 명령 1건)
+ * - LOCK/RELEASE: 인메모리 상태에 먼저 반영되고 DB에는 비동기로 반영되는 명령 (재시작 시 미반영분을 다시 적용)
+ * - CONFIRM/CANCEL: DB 반영 후 기록되며, 그 스케줄의 앞선 명령이 모두 DB에 반영됐음을 함께 뜻한다
+ * - PERSISTED: 그 스케줄의 앞선 명령이 모두 DB에 반영됐음을 표시
+ */
+record SeatJournalRecord(long lsn, Type type, Long scheduleId, List<Long> seatIds,
+                         Long userId, String sessionId, long holdToken, long expiresAt) {
+
+    enum Type {
+        LOCK, RELEASE, CONFIRM, CANCEL, PERSISTED;
+
+        /**
+         * 이 레코드까지 스케줄의 DB 반영이 끝났음을 뜻하는지
+         */
+        boolean marksPersisted() {
+            return this == CONFIRM || this == CANCEL || this == PERSISTED;
+        }
+    }
+
+    static SeatJournalRecord of(Type type, Long scheduleId, List<Long> seatIds,
+                                Long userId, String sessionId, long holdToken, long expiresAt) {
+        return new SeatJournalRecord(0L, type, scheduleId, seatIds == null ? List.of() : seatIds,
+                userId, sessionId, holdToken, expiresAt);
+    }
+
+    static SeatJournalRecord persisted(Long scheduleId) {
+        return of(Type.PERSISTED, scheduleId, List.of(), null, null, 0L, 0L);
+    }
+
+    /**
+     * 해제 재적용 시 확인할 점유 토큰 (기록되지 않았으면 null)
+     */
+    Long fencedToken() {
+        return holdToken == 0L ? null : holdToken;
+    }
+
+    SeatJournalRecord withLsn(long lsn) {
+        return new SeatJournalRecord(lsn, type, scheduleId, seatIds, userId, sessionId, holdToken, expiresAt);
+    }
+
+    /**
+     * 본문 인코딩 (길이/체크섬 헤더 제외)
+     * lsn(8) type(1) scheduleId(8) userId(8) holdToken(8) expiresAt(8) sessionLen(2) session seatCount(4) seatIds(8*n)
+     */
+    byte[] encode() {
+        byte[] session = sessionId == null ? null : sessionId.getBytes(StandardCharsets.UTF_8);
+        int size = 8 + 1 + 8 + 8 + 8 + 8 + 2 + (session == null ? 0 : session.length) + 4 + 8 * seatIds.size();
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(lsn);
+        buffer.put((byte) type.ordinal());
+        buffer.putLong(scheduleId == null ? 0L : scheduleId);
+        buffer.putLong(userId == null ? 0L : userId);
+        buffer.putLong(holdToken);
+        buffer.putLong(expiresAt);
+        buffer.putShort((short) (session == null ? -1 : session.length));
+        if (session != null) {
+            buffer.put(session);
+        }
+        buffer.putInt(seatIds.size());
+        for (Long seatId : seatIds) {
+            buffer.putLong(seatId);
+        }
+        return buffer.array();
+    }
+
+    static SeatJournalRecord decode(ByteBuffer buffer) {
+        long lsn = buffer.getLong();
+        Type type = Type.values()[buffer.get()];
+        long scheduleId = buffer.getLong();
+        long userId = buffer.getLong();
+        long holdToken = buffer.getLong();
+        long expiresAt = buffer.getLong();
+        short sessionLength = buffer.getShort();
+        String sessionId = null;
+        if (sessionLength >= 0) {
+            byte[] session = new byte[sessionLength];
+            buffer.get(session);
+            sessionId = new String(session, StandardCharsets.UTF_8);
+        }
+        int count = buffer.getInt();
+        List<Long> seatIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            seatIds.add(buffer.getLong());
+        }
+        return new SeatJournalRecord(lsn, type, scheduleId, seatIds,
+                userId == 0L ? null : userId, sessionId, holdToken, expiresAt);
+    }
+}
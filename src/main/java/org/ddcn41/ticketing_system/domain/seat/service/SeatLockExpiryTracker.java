@@ -0,0 +1,138 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 락 만료 시각 추적 (Redis deadline set)
+ * - ZSET member = seatId, score = 만료 시각(epoch ms)
+ * - 락 획득/연장 시 ZADD, 해제/확정 시 ZREM
+ * - 스위퍼는 score <= now 인 항목만 배치로 꺼내 처리하므로 seat_locks 전체 스캔이 필요 없다
+ * - 여러 노드 중 리스를 가진 한 노드만 스윕을 수행한다
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatLockExpiryTracker {
+
+    private static final String DEADLINES_KEY = "seat_lock:deadlines";
+    private static final String SWEEPER_LEASE_KEY = "seat_lock:sweeper";
+
+    /**
+     * 처리한 항목 중 아직 만료 상태인 것만 제거 (그 사이 연장되어 score가 커진 항목은 유지)
+     * ARGV[1] = 기준 시각(ms), ARGV[2..] = seatId
+     */
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) <= tonumber(ARGV[1]) then
+                    redis.call('ZREM', KEYS[1], ARGV[i])
+                    removed = removed + 1
+                end
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * 스위퍼 리스 획득/갱신 (이미 보유 중이면 TTL만 연장)
+     * ARGV[1] = nodeId, ARGV[2] = ttl(ms)
+     */
+    private static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${seatlock.sweep-interval-ms:1000}")
+    private long sweepIntervalMs;
+
+    /**
+     * 좌석들의 만료 시각 등록/갱신 (ZADD 1회)
+     */
+    public void track(Collection<Long> seatIds, LocalDateTime expiresAt) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return;
+        }
+        double score = toEpochMillis(expiresAt);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Long seatId : seatIds) {
+            tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(seatId), score));
+        }
+        redisTemplate.opsForZSet().add(DEADLINES_KEY, tuples);
+    }
+
+    /**
+     * 좌석들의 만료 추적 해제 (ZREM 1회)
+     */
+    public void untrack(Collection<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(DEADLINES_KEY, seatIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 기준 시각까지 만료된 좌석 ID를 최대 batchSize개 조회
+     */
+    public List<Long> pollDue(long nowMillis, int batchSize) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(DEADLINES_KEY, Double.NEGATIVE_INFINITY, nowMillis, 0, batchSize);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * 처리 완료된 좌석을 추적 목록에서 제거
+     */
+    public void acknowledge(Collection<Long> seatIds, long nowMillis) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(seatIds.size() + 1);
+        args.add(String.valueOf(nowMillis));
+        seatIds.forEach(id -> args.add(String.valueOf(id)));
+        redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(DEADLINES_KEY), args.toArray());
+    }
+
+    /**
+     * 스위퍼 리스 획득 시도 - 한 시점에 하나의 노드만 스윕한다
+     */
+    public boolean tryAcquireSweeperLease() {
+        long ttlMillis = Math.max(sweepIntervalMs * 3, 5000L);
+        Long acquired = redisTemplate.execute(LEASE_SCRIPT, List.of(SWEEPER_LEASE_KEY),
+                nodeId, String.valueOf(ttlMillis));
+        return acquired != null && acquired == 1L;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,331 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 좌석 점유(버킷 해시 필드)와 seat_locks 행 사이의 정합성 점검/복구 (백그라운드)
+ * - orphan_key: 활성 락이 없는데 남아 있는 점유 필드 → 점유자 비교 후 삭제 (만료된 필드 정리 포함)
+ * - missing_key: 유효한 활성 락이 있는데 점유가 없음 → 남은 만료 시간으로 다시 설정
+ * - holder_mismatch: 점유자가 락 소유자와 다름 → DB 소유자 기준으로 교체
+ * - stale_locked_seat: 활성 락 없이 LOCKED로 남은 좌석 → AVAILABLE로 복구
+ *
+ * 점유 버킷은 SCAN, DB는 fetch size를 지정한 스트리밍 커서로 배치 단위로 읽는다.
+ * 처리 중인 요청과 겹친 일시적 불일치를 복구하지 않도록 키 관련 항목은 연속 두 번 관찰된 경우에만 복구한다.
+ * 스위퍼 리스를 가진 노드에서 별도 스레드로 실행되므로 요청 처리/스윕 경로를 막지 않는다.
+ * Redis 키 점검은 seatlock.mode=redis일 때만 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatLockReconciler {
+
+    private static final String LIVE_LOCKS_SQL =
+            "SELECT l.seat_id, l.user_id, l.session_id, l.expires_at, s.schedule_id FROM seat_locks l " +
+            "JOIN schedule_seats s ON s.seat_id = l.seat_id " +
+            "WHERE l.status = 'ACTIVE' AND l.expires_at > ?";
+
+    private static final String STALE_LOCKED_SEATS_SQL =
+            "SELECT s.seat_id FROM schedule_seats s WHERE s.status = 'LOCKED' " +
+            "AND NOT EXISTS (SELECT 1 FROM seat_locks l WHERE l.seat_id = s.seat_id AND l.status = 'ACTIVE')";
+
+    private static final String ACTIVE_SEATS_SQL =
+            "SELECT DISTINCT seat_id FROM seat_locks WHERE status = 'ACTIVE' AND seat_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SeatLockStore seatLockStore;
+    private final SeatLockExpiryTracker expiryTracker;
+    private final SeatService seatService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${seatlock.reconcile-batch-size:500}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-lock-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이전 실행에서 관찰된 복구 후보 (seatId -> 관찰된 값)
+    private Map<Long, String> pendingOrphanKeys = new HashMap<>();
+    private Map<Long, String> pendingMissingKeys = new HashMap<>();
+
+    private Timer runTimer;
+
+    @PostConstruct
+    public void registerMeters() {
+        runTimer = Timer.builder("seatlock.reconcile.duration")
+                .description("좌석 락 정합성 점검 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 주기적으로 점검 실행 (이미 실행 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${seatlock.reconcile-interval-ms:60000}", initialDelay = 30000)
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    if (expiryTracker.tryAcquireSweeperLease()) {
+                        runTimer.record(this::reconcile);
+                    }
+                } catch (Exception e) {
+                    log.error("좌석 락 정합성 점검 중 오류 발생", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void reconcile() {
+        if (seatLockStore instanceof RedisSeatLockStore redisStore) {
+            reconcileOrphanKeys(redisStore);
+            reconcileMissingKeys(redisStore);
+        }
+        reconcileStaleLockedSeats();
+    }
+
+    /**
+     * 점유 버킷을 SCAN으로 훑어 활성 락이 없는 점유를 삭제
+     */
+    private void reconcileOrphanKeys(RedisSeatLockStore redisStore) {
+        Map<Long, String> candidates = new HashMap<>();
+        Map<Long, Long> scheduleOfSeat = new HashMap<>();
+        Map<Long, String> batch = new HashMap<>();
+
+        redisStore.scanHolds(batchSize, (scheduleId, held) -> {
+            held.keySet().forEach(seatId -> scheduleOfSeat.put(seatId, scheduleId));
+            batch.putAll(held);
+            if (batch.size() >= batchSize) {
+                collectOrphanKeys(batch, candidates);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            collectOrphanKeys(batch, candidates);
+        }
+
+        Map<Long, String> confirmed = confirm(candidates, pendingOrphanKeys);
+        pendingOrphanKeys = candidates;
+        if (!confirmed.isEmpty()) {
+            groupBySchedule(confirmed.keySet(), scheduleOfSeat).forEach((scheduleId, seatIds) ->
+                    seatLockStore.release(scheduleId, seatIds, seatIds.stream().map(confirmed::get).collect(Collectors.toList())));
+            drift("orphan_key", confirmed.size());
+        }
+    }
+
+    private void collectOrphanKeys(Map<Long, String> observed, Map<Long, String> candidates) {
+        Set<Long> heldSeatIds = new HashSet<>();
+        String placeholders = observed.keySet().stream().map(id -> "?").collect(Collectors.joining(","));
+        jdbcTemplate.query(String.format(ACTIVE_SEATS_SQL, placeholders),
+                (RowCallbackHandler) rs -> heldSeatIds.add(rs.getLong(1)), observed.keySet().toArray());
+
+        // 소유자 불일치는 활성 락 기준 점검(reconcileMissingKeys)에서 처리
+        observed.forEach((seatId, value) -> {
+            if (!heldSeatIds.contains(seatId)) {
+                candidates.put(seatId, value);
+            }
+        });
+    }
+
+    /**
+     * 유효한 활성 락을 스트리밍으로 읽어 키가 없거나 다른 값인 좌석을 복구
+     */
+    private void reconcileMissingKeys(RedisSeatLockStore redisStore) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, String> candidates = new HashMap<>();
+        Map<Long, Long> ttls = new HashMap<>();
+        Map<Long, Long> scheduleOfSeat = new HashMap<>();
+        List<long[]> batchTtl = new ArrayList<>(batchSize);
+        List<Long> batchSeatIds = new ArrayList<>(batchSize);
+        List<String> batchHolders = new ArrayList<>(batchSize);
+
+        streamInReadOnlyTransaction(LIVE_LOCKS_SQL, new Object[]{now}, rs -> {
+            long seatId = rs.getLong(1);
+            long ttlMs = rs.getTimestamp(4).getTime() - now.getTime();
+            batchSeatIds.add(seatId);
+            batchHolders.add(holderOf((Long) rs.getObject(2), rs.getString(3)));
+            batchTtl.add(new long[]{seatId, Math.max(1, ttlMs)});
+            scheduleOfSeat.put(seatId, rs.getLong(5));
+            if (batchSeatIds.size() >= batchSize) {
+                collectMissingKeys(redisStore, batchSeatIds, batchHolders, batchTtl, scheduleOfSeat, candidates, ttls);
+            }
+        });
+        if (!batchSeatIds.isEmpty()) {
+            collectMissingKeys(redisStore, batchSeatIds, batchHolders, batchTtl, scheduleOfSeat, candidates, ttls);
+        }
+
+        Map<Long, String> confirmed = confirm(candidates, pendingMissingKeys);
+        pendingMissingKeys = candidates;
+        if (confirmed.isEmpty()) {
+            return;
+        }
+
+        // 다른 값이 남아 있으면 먼저 제거한 뒤 DB 소유자 값으로 다시 설정 (스케줄 단위로 처리)
+        int mismatched = 0;
+        for (Map.Entry<Long, List<Long>> entry : groupBySchedule(confirmed.keySet(), scheduleOfSeat).entrySet()) {
+            Long scheduleId = entry.getKey();
+            List<Long> seatIds = entry.getValue();
+            List<String> current = redisStore.currentHolders(scheduleId, seatIds);
+            List<Long> mismatchedSeatIds = new ArrayList<>();
+            List<String> mismatchedValues = new ArrayList<>();
+            for (int i = 0; i < seatIds.size(); i++) {
+                String value = current.get(i);
+                if (value != null && !value.equals(confirmed.get(seatIds.get(i)))) {
+                    mismatchedSeatIds.add(seatIds.get(i));
+                    mismatchedValues.add(value);
+                }
+            }
+            if (!mismatchedSeatIds.isEmpty()) {
+                seatLockStore.release(scheduleId, mismatchedSeatIds, mismatchedValues);
+                mismatched += mismatchedSeatIds.size();
+            }
+
+            seatLockStore.renew(scheduleId, seatIds,
+                    seatIds.stream().map(confirmed::get).collect(Collectors.toList()),
+                    seatIds.stream().map(ttls::get).collect(Collectors.toList()));
+        }
+        drift("holder_mismatch", mismatched);
+        drift("missing_key", confirmed.size() - mismatched);
+    }
+
+    private void collectMissingKeys(RedisSeatLockStore redisStore, List<Long> seatIds, List<String> holders,
+                                    List<long[]> ttlPairs, Map<Long, Long> scheduleOfSeat,
+                                    Map<Long, String> candidates, Map<Long, Long> ttls) {
+        Map<Long, String> expected = new HashMap<>();
+        Map<Long, Long> ttlOfSeat = new HashMap<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            expected.put(seatIds.get(i), holders.get(i));
+            ttlOfSeat.put(seatIds.get(i), ttlPairs.get(i)[1]);
+        }
+        groupBySchedule(expected.keySet(), scheduleOfSeat).forEach((scheduleId, scheduleSeatIds) -> {
+            List<String> current = redisStore.currentHolders(scheduleId, scheduleSeatIds);
+            for (int i = 0; i < scheduleSeatIds.size(); i++) {
+                Long seatId = scheduleSeatIds.get(i);
+                if (!expected.get(seatId).equals(current.get(i))) {
+                    candidates.put(seatId, expected.get(seatId));
+                    ttls.put(seatId, ttlOfSeat.get(seatId));
+                }
+            }
+        });
+        seatIds.clear();
+        holders.clear();
+        ttlPairs.clear();
+    }
+
+    /**
+     * 활성 락 없이 LOCKED로 남은 좌석을 스트리밍으로 읽어 배치 단위로 복구
+     * (락 저장과 좌석 전이는 같은 트랜잭션이므로 커밋된 상태에서는 일시적 불일치가 없다)
+     */
+    private void reconcileStaleLockedSeats() {
+        List<Long> staleSeatIds = new ArrayList<>();
+        streamInReadOnlyTransaction(STALE_LOCKED_SEATS_SQL, new Object[0],
+                rs -> staleSeatIds.add(rs.getLong(1)));
+
+        int repaired = 0;
+        for (int from = 0; from < staleSeatIds.size(); from += batchSize) {
+            List<Long> batch = staleSeatIds.subList(from, Math.min(from + batchSize, staleSeatIds.size()));
+            repaired += seatService.releaseUnheldLockedSeats(new ArrayList<>(batch));
+        }
+        drift("stale_locked_seat", repaired);
+    }
+
+    /**
+     * fetch size를 지정해 결과를 한 번에 메모리에 올리지 않고 읽음 (Postgres는 트랜잭션 안에서만 커서 사용)
+     */
+    private void streamInReadOnlyTransaction(String sql, Object[] args, RowCallbackHandler handler) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(batchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, handler));
+    }
+
+    /**
+     * 이번과 이전 실행에서 같은 값으로 관찰된 후보만 확정
+     */
+    private static Map<Long, String> confirm(Map<Long, String> current, Map<Long, String> previous) {
+        Map<Long, String> confirmed = new HashMap<>();
+        current.forEach((seatId, value) -> {
+            if (value.equals(previous.get(seatId))) {
+                confirmed.put(seatId, value);
+            }
+        });
+        confirmed.keySet().forEach(current::remove);
+        return confirmed;
+    }
+
+    private void drift(String type, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("seatlock.reconcile.drift")
+                .description("좌석 락 정합성 점검에서 복구한 불일치 건수")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(count);
+        log.warn("좌석 락 불일치 복구: type={}, count={}", type, count);
+    }
+
+    private static String holderOf(Long userId, String sessionId) {
+        return new SeatHolder(userId, sessionId).value();
+    }
+
+    /**
+     * 좌석 ID를 스케줄별로 묶기 (점유 저장소 연산은 스케줄 단위)
+     */
+    private static Map<Long, List<Long>> groupBySchedule(Set<Long> seatIds, Map<Long, Long> scheduleOfSeat) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (Long seatId : seatIds) {
+            grouped.computeIfAbsent(scheduleOfSeat.get(seatId), k -> new ArrayList<>()).add(seatId);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,64 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import java.util.List;
+
+/**
+ * 좌석 점유 상호배제 저장소
+ * SeatService가 DB 상태 전이 전에 동시 요청을 걸러내는 빠른 경로이며, seatlock.mode로 구현을 선택한다.
+ * - redis: Redis 스케줄별 버킷 해시 + 만료 시각 (다중 노드, 기본값)
+ * - local: 프로세스 내 스트라이프 락 (단일 노드 배포용)
+ * - db: schedule_seats 행의 SELECT ... FOR UPDATE SKIP LOCKED (트랜잭션 종료 시 해제)
+ * 점유 기록(seat_locks)과 좌석 상태는 모든 모드에서 동일하게 DB가 최종 판정한다.
+ * 모든 연산은 한 스케줄의 좌석 단위로 호출한다 (Redis Cluster에서 한 슬롯 안에서 처리되도록).
+ */
+public interface SeatLockStore {
+
+    // acquire 결과: 사용자/세션별 동시 점유 한도 초과
+    int USER_LIMIT_EXCEEDED = -1;
+    int SESSION_LIMIT_EXCEEDED = -2;
+
+    /**
+     * 스케줄 좌석 전체를 한 번에 점유 (all-or-nothing)
+     * 같은 holder가 이미 점유한 좌석은 TTL만 갱신한다.
+     * 한도가 지정되면 사용자/세션별 점유 좌석 수(전체 스케줄 합산)를 확인해 갱신하며, 좌석 충돌로 실패하면 갱신분을 되돌린다 (이미 점유 중인 좌석은 새로 세지 않음).
+     * @return 0이면 성공, 양수면 충돌한 좌석의 위치(1-based), 음수면 한도 초과(USER_LIMIT_EXCEEDED / SESSION_LIMIT_EXCEEDED)
+     */
+    int acquire(Long scheduleId, List<Long> seatIds, String holder, long ttlMillis, HoldQuota quota);
+
+    default int acquire(Long scheduleId, List<Long> seatIds, String holder, long ttlMillis) {
+        return acquire(scheduleId, seatIds, holder, ttlMillis, HoldQuota.NONE);
+    }
+
+    /**
+     * holders[i]가 점유 중인 seatIds[i]만 해제 (그 사이 다른 holder가 잡은 점유는 보호)
+     * holders[i]의 사용자/세션 점유 수에서도 제외한다.
+     */
+    void release(Long scheduleId, List<Long> seatIds, List<String> holders);
+
+    /**
+     * holders[i]가 점유 중인 seatIds[i]의 TTL을 ttlMillis[i]로 갱신 (이미 사라진 점유는 다시 설정)
+     */
+    void renew(Long scheduleId, List<Long> seatIds, List<String> holders, List<Long> ttlMillis);
+
+    /**
+     * 스케줄 단위 펜싱 토큰 발급 (점유 요청 1회당 1개, 이전에 발급한 값보다 항상 큼)
+     * DB는 좌석의 현재 hold_token보다 큰 토큰만 받아들이므로, 저장소가 초기화되더라도 역행한 토큰으로는 점유할 수 없다.
+     */
+    long nextFencingToken(Long scheduleId);
+
+    /**
+     * 사용자/세션별 동시 점유 한도, 전체 스케줄 합산 (0 이하면 제한 없음, sessionId가 null이면 세션 한도 미적용)
+     */
+    record HoldQuota(Long userId, String sessionId, int maxPerUser, int maxPerSession) {
+
+        public static final HoldQuota NONE = new HoldQuota(null, null, 0, 0);
+
+        public boolean limitsUser() {
+            return userId != null && maxPerUser > 0;
+        }
+
+        public boolean limitsSession() {
+            return sessionId != null && maxPerSession > 0;
+        }
+    }
+}
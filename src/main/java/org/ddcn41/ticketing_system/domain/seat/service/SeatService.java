@@ -2,23 +2,40 @@ package org.ddcn41.ticketing_system.domain.seat.service;
 
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.domain.performance.service.ScheduleInventoryService;
+import org.ddcn41.ticketing_system.domain.performance.service.SchedulePriceService;
 import org.ddcn41.ticketing_system.domain.seat.entity.ScheduleSeat;
 import org.ddcn41.ticketing_system.domain.seat.entity.SeatLock;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatMapChangedEvent;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatStatusChangedEvent;
 import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatRepository;
 import org.ddcn41.ticketing_system.domain.seat.repository.SeatLockRepository;
+import org.ddcn41.ticketing_system.domain.seat.repository.SeatMapSnapshot;
 import org.ddcn41.ticketing_system.domain.user.entity.User;
 import org.ddcn41.ticketing_system.domain.user.repository.UserRepository;
 import org.ddcn41.ticketing_system.domain.seat.dto.SeatDto;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.CompactSeatMapResponse;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatAvailabilityResponse;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatAvailabilitySummaryResponse;
 import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -34,24 +51,54 @@ import java.util.stream.Collectors;
 @Transactional
 public class SeatService {
 
+    // 바로 예매 시 점유 저장소 소유자의 세션 구분값과 점유 시간 (트랜잭션 종료 시 해제되며, 해제 누락 대비 안전 TTL)
+    private static final String DIRECT_BOOKING_SESSION = "direct-booking";
+    private static final long DIRECT_BOOKING_HOLD_MILLIS = 30_000L;
+
     private final ScheduleSeatRepository scheduleSeatRepository;
     private final SeatLockRepository seatLockRepository;
     private final PerformanceScheduleRepository scheduleRepository;
+    private final ScheduleInventoryService inventoryService;
+    private final SchedulePriceService schedulePriceService;
     private final UserRepository userRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatLockStore seatLockStore;
+    private final SeatLockExpiryTracker expiryTracker;
+    private final SeatStatusStreamService seatStatusStreamService;
+    private final SeatDirectory seatDirectory;
+    private final BestAvailableSeatIndex seatIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 좌석 점유(lease) 기본 유효 시간
+    @Value("${seatlock.ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    // 연장 요청 1회당 연장 시간 (연장 시점 기준)
+    @Value("${seatlock.extend-seconds:120}")
+    private long extendSeconds;
+
+    // 최초 점유 시각 기준 최대 점유 시간 (연장으로도 넘을 수 없음)
+    @Value("${seatlock.max-hold-seconds:1200}")
+    private long maxHoldSeconds;
 
-    private static final int LOCK_DURATION_MINUTES = 1;
-    private static final String REDIS_LOCK_PREFIX = "seat_lock:";
+    // 사용자/세션별 동시 점유 가능 좌석 수 (0 이하면 제한 없음)
+    @Value("${seatlock.max-holds-per-user:10}")
+    private int maxHoldsPerUser;
+
+    @Value("${seatlock.max-holds-per-session:10}")
+    private int maxHoldsPerSession;
 
     /**
      * 스케줄의 모든 좌석 상태 조회
      */
     @Transactional(readOnly = true)
     public SeatAvailabilityResponse getSeatsAvailability(Long scheduleId) {
+        // 좌석 조회 전에 버전을 읽어 응답이 해당 버전 이후 상태를 포함하도록 함
+        long version = seatStatusStreamService.currentVersion(scheduleId);
         List<ScheduleSeat> seats = scheduleSeatRepository.findBySchedule_ScheduleId(scheduleId);
 
+        Map<String, BigDecimal> prices = schedulePriceService.pricesOf(scheduleId);
         List<SeatDto> seatDtos = seats.stream()
-                .map(this::convertToSeatDto)
+                .map(seat -> convertToSeatDto(seat, prices))
                 .collect(Collectors.toList());
 
         long availableCount = seats.stream()
@@ -60,12 +107,59 @@ public class SeatService {
 
         return SeatAvailabilityResponse.builder()
                 .scheduleId(scheduleId)
+                .version(version)
                 .totalSeats(seats.size())
                 .availableSeats((int) availableCount)
                 .seats(seatDtos)
                 .build();
     }
 
+    /**
+     * 스케줄 좌석 맵 압축 조회
+     * 좌석별 DTO 없이 스냅샷 배열에서 사전/구간/상태 RLE 문자열을 바로 만든다.
+     */
+    @Transactional(readOnly = true)
+    public CompactSeatMapResponse getCompactSeatMap(Long scheduleId) {
+        long version = seatStatusStreamService.currentVersion(scheduleId);
+        SeatMapSnapshot snapshot = scheduleSeatRepository.loadSeatMapSnapshot(scheduleId);
+
+        List<CompactSeatMapResponse.GradeEntry> grades = new ArrayList<>(snapshot.getGrades().size());
+        for (int i = 0; i < snapshot.getGrades().size(); i++) {
+            grades.add(new CompactSeatMapResponse.GradeEntry(snapshot.getGrades().get(i), snapshot.getGradePrices().get(i)));
+        }
+
+        List<CompactSeatMapResponse.SeatRun> runs = new ArrayList<>(snapshot.getRunCount());
+        for (int i = 0; i < snapshot.getRunCount(); i++) {
+            runs.add(new CompactSeatMapResponse.SeatRun(
+                    snapshot.getRunZone(i),
+                    snapshot.getRunGrade(i),
+                    snapshot.getRunRowLabel(i),
+                    snapshot.getRunFirstSeatId(i),
+                    snapshot.getRunFirstCol(i),
+                    snapshot.getRunLength(i)));
+        }
+
+        return CompactSeatMapResponse.builder()
+                .scheduleId(scheduleId)
+                .version(version)
+                .totalSeats(snapshot.getSeatCount())
+                .availableSeats(snapshot.getAvailableCount())
+                .zones(snapshot.getZones())
+                .grades(grades)
+                .runs(runs)
+                .status(encodeStatusRunLength(snapshot))
+                .build();
+    }
+
+    /**
+     * 스케줄 등급별/구역별 잔여 좌석 요약
+     * 좌석 상태 변경분으로 증감되는 노드 로컬 카운터에서 응답하며, 좌석 조회나 GROUP BY를 수행하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public SeatAvailabilitySummaryResponse getAvailabilitySummary(Long scheduleId) {
+        return seatIndex.summarize(scheduleId);
+    }
+
     /**
      * 특정 좌석들의 가용성 확인
      */
@@ -83,221 +177,431 @@ public class SeatService {
 
     /**
      * 좌석 락 시도
+     * 좌석 조회/기존 락 조회/락 저장/상태 변경/카운터 갱신을 모두 좌석 수와 무관한 고정 횟수의 쿼리로 처리한다.
+     * 만료 처리는 SeatLockExpiryTracker 기반 백그라운드 스위퍼가 담당하며 이 경로에서는 수행하지 않는다.
+     * 점유마다 펜싱 토큰을 발급해 좌석(hold_token)과 락(fencing_token)에 기록하며, 응답으로도 돌려준다.
      */
     public SeatLockResponse lockSeats(List<Long> seatIds, Long userId, String sessionId) {
-        // 1. 만료된 락 정리
-        cleanupExpiredLocks();
+        return lockSeats(seatIds, userId, sessionId, null, null);
+    }
+
+    /**
+     * 저널에 먼저 기록된 좌석 점유를 DB에 반영 (좌석 엔진의 비동기 반영, 재시작 시 재적용)
+     * 점유 응답으로 이미 내려간 펜싱 토큰과 만료 시각을 그대로 사용한다.
+     */
+    public SeatLockResponse applyJournaledLock(List<Long> seatIds, Long userId, String sessionId,
+                                               long holdToken, LocalDateTime expiresAt) {
+        return lockSeats(seatIds, userId, sessionId, holdToken, expiresAt);
+    }
+
+    private SeatLockResponse lockSeats(List<Long> seatIds, Long userId, String sessionId,
+                                       Long presetHoldToken, LocalDateTime presetExpiresAt) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return SeatLockResponse.failure("선택한 좌석이 없습니다");
+        }
 
-        // 2. 사용자 정보 조회
+        // 1. 사용자 정보 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        // 3. 좌석 존재 및 가용성 확인
+        // 2. 좌석 존재 및 가용성 확인
         List<ScheduleSeat> seats = scheduleSeatRepository.findAllById(seatIds);
         if (seats.size() != seatIds.size()) {
             return SeatLockResponse.failure("일부 좌석을 찾을 수 없습니다");
         }
 
+        // 점유 저장소 연산은 스케줄 단위 (Redis Cluster에서 한 슬롯 안에서 처리)
+        Long lockScheduleId = seats.get(0).getSchedule().getScheduleId();
+        for (ScheduleSeat seat : seats) {
+            if (!lockScheduleId.equals(seat.getSchedule().getScheduleId())) {
+                return SeatLockResponse.failure("서로 다른 회차의 좌석은 함께 선택할 수 없습니다");
+            }
+        }
+
+        // 3. 요청 좌석들의 활성 락을 한 번에 조회 (seatId -> 유효한 lock, 만료됐지만 아직 스윕되지 않은 lock은 별도 수집)
+        List<SeatLock> staleLocks = new ArrayList<>();
+        Map<Long, SeatLock> liveLocks = findLiveLocksBySeatId(seatIds, staleLocks);
+
         // 4. 모든 좌석이 사용 가능한지 확인
         for (ScheduleSeat seat : seats) {
             if (seat.getStatus() == ScheduleSeat.SeatStatus.BOOKED) {
                 return SeatLockResponse.failure("이미 예약된 좌석이 포함되어 있습니다: " + seat.getSeatId());
             }
 
+            if (seat.getStatus() == ScheduleSeat.SeatStatus.BLOCKED) {
+                return SeatLockResponse.failure("판매하지 않는 좌석이 포함되어 있습니다: " + seat.getSeatId());
+            }
+
             if (seat.getStatus() == ScheduleSeat.SeatStatus.LOCKED) {
                 // 같은 사용자/세션이면 연장, 아니면 실패
-                Optional<SeatLock> existingLock = seatLockRepository
-                        .findBySeatAndStatusAndExpiresAtAfter(seat, SeatLock.LockStatus.ACTIVE, LocalDateTime.now());
-
-                if (existingLock.isPresent() && !isSameUserOrSession(existingLock.get(), user, sessionId)) {
+                SeatLock existingLock = liveLocks.get(seat.getSeatId());
+                if (existingLock != null && !isSameUserOrSession(existingLock, user, sessionId)) {
                     return SeatLockResponse.failure("다른 사용자가 선택 중인 좌석입니다: " + seat.getSeatId());
                 }
             }
         }
 
-        // 5. Redis 분산 락으로 동시성 제어
-        List<String> lockKeys = seatIds.stream()
-                .map(id -> REDIS_LOCK_PREFIX + id)
-                .collect(Collectors.toList());
-
-        String lockValue = userId + ":" + sessionId;
+        // 5. 점유 저장소로 동시성 제어 (전체 좌석 원자적 획득, seatlock.mode에 따라 Redis/로컬/DB)
+        //    사용자/세션별 동시 점유 한도도 같은 연산 안에서 확인 (이미 점유 중인 좌석은 새로 세지 않음)
+        String lockValue = new SeatHolder(userId, sessionId).value();
+        SeatLockStore.HoldQuota quota = new SeatLockStore.HoldQuota(userId, sessionId, maxHoldsPerUser, maxHoldsPerSession);
+
+        long holdMillis = presetExpiresAt == null
+                ? TimeUnit.SECONDS.toMillis(lockTtlSeconds)
+                : Math.max(1, Duration.between(LocalDateTime.now(), presetExpiresAt).toMillis());
+        int conflict = seatLockStore.acquire(lockScheduleId, seatIds, lockValue, holdMillis, quota);
+        if (conflict == SeatLockStore.USER_LIMIT_EXCEEDED) {
+            return SeatLockResponse.limitExceeded("동시에 점유할 수 있는 좌석 수(" + maxHoldsPerUser + "석)를 초과했습니다");
+        }
+        if (conflict == SeatLockStore.SESSION_LIMIT_EXCEEDED) {
+            return SeatLockResponse.limitExceeded("세션당 동시에 점유할 수 있는 좌석 수(" + maxHoldsPerSession + "석)를 초과했습니다");
+        }
+        if (conflict != 0) {
+            return SeatLockResponse.failure("좌석 락 획득 실패");
+        }
 
         try {
-            // 모든 좌석에 대해 Redis 락 획득 시도
-            for (String lockKey : lockKeys) {
-                Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
-                        lockKey, lockValue, LOCK_DURATION_MINUTES, TimeUnit.MINUTES
-                );
-
-                if (Boolean.FALSE.equals(acquired)) {
-                    // 실패 시 이미 획득한 락들 해제
-                    rollbackRedisLocks(lockKeys, lockValue);
-                    return SeatLockResponse.failure("좌석 락 획득 실패");
-                }
-            }
+            // 6. 펜싱 토큰 발급 후 DB에 락 정보 저장 (재점유는 UPDATE 1회, 신규는 JDBC 배치 INSERT 1회)
+            long holdToken = presetHoldToken != null ? presetHoldToken : seatLockStore.nextFencingToken(lockScheduleId);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = presetExpiresAt != null ? presetExpiresAt : now.plusSeconds(lockTtlSeconds);
+            LocalDateTime extendedExpiresAt = expiresAt;
+
+            List<Long> extendLockIds = new ArrayList<>();
+            List<Long> extendSeatIds = new ArrayList<>();
+            List<Long> newLockSeatIds = new ArrayList<>();
+            List<Long> availableSeatIds = new ArrayList<>();
+            List<Long> heldSeatIds = new ArrayList<>();
+            Map<Long, List<Long>> lockedPerSchedule = new HashMap<>();
 
-            // 6. DB에 락 정보 저장 및 좌석 상태 변경
-            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES);
-
-            int newlyLocked = 0;
-            Long scheduleIdForCounter = null;
             for (ScheduleSeat seat : seats) {
-                // 기존 락이 있다면 연장, 없다면 새로 생성
-                Optional<SeatLock> existingLock = seatLockRepository
-                        .findBySeatAndStatusAndExpiresAtAfter(seat, SeatLock.LockStatus.ACTIVE, LocalDateTime.now());
-
-                if (existingLock.isPresent() && isSameUserOrSession(existingLock.get(), user, sessionId)) {
-                    // 락 연장
-                    SeatLock lock = existingLock.get();
-                    lock.setExpiresAt(expiresAt);
-                    seatLockRepository.save(lock);
+                SeatLock existingLock = liveLocks.get(seat.getSeatId());
+                if (existingLock != null && isSameUserOrSession(existingLock, user, sessionId)) {
+                    // 재요청으로도 최대 점유 시간을 넘길 수 없음 (가장 먼저 점유한 좌석 기준)
+                    extendLockIds.add(existingLock.getLockId());
+                    extendSeatIds.add(seat.getSeatId());
+                    LocalDateTime cap = holdDeadline(existingLock, now);
+                    if (cap.isBefore(extendedExpiresAt)) {
+                        extendedExpiresAt = cap;
+                    }
                 } else {
-                    // 새 락 생성
-                    SeatLock newLock = SeatLock.builder()
-                            .seat(seat)
-                            .user(user)
-                            .sessionId(sessionId)
-                            .expiresAt(expiresAt)
-                            .status(SeatLock.LockStatus.ACTIVE)
-                            .build();
-                    seatLockRepository.save(newLock);
+                    newLockSeatIds.add(seat.getSeatId());
                 }
 
                 // 좌석 상태 변경 및 카운터 감소 대상 계산
                 if (seat.getStatus() == ScheduleSeat.SeatStatus.AVAILABLE) {
-                    newlyLocked++;
+                    availableSeatIds.add(seat.getSeatId());
+                    if (seat.getSchedule() != null) {
+                        lockedPerSchedule.computeIfAbsent(seat.getSchedule().getScheduleId(), k -> new ArrayList<>())
+                                .add(seat.getSeatId());
+                    }
+                } else {
+                    heldSeatIds.add(seat.getSeatId());
                 }
-                seat.setStatus(ScheduleSeat.SeatStatus.LOCKED);
-                scheduleSeatRepository.save(seat);
+            }
 
-                if (scheduleIdForCounter == null && seat.getSchedule() != null) {
-                    scheduleIdForCounter = seat.getSchedule().getScheduleId();
-                }
+            // 만료된 이전 락은 새 락으로 인수 (스위퍼가 좌석을 AVAILABLE로 되돌리지 않도록 EXPIRED 처리)
+            if (!staleLocks.isEmpty()) {
+                seatLockRepository.updateStatusByLockIds(
+                        staleLocks.stream().map(SeatLock::getLockId).collect(Collectors.toList()),
+                        SeatLock.LockStatus.EXPIRED);
+            }
+            if (!extendLockIds.isEmpty()) {
+                seatLockRepository.reassignLocks(extendLockIds, extendedExpiresAt, holdToken);
+            }
+            if (!newLockSeatIds.isEmpty()) {
+                seatLockRepository.insertActiveLocks(newLockSeatIds, user.getUserId(), sessionId, expiresAt, holdToken);
             }
 
-            // 7. 스케줄 가용 좌석 카운터 감소 (AVAILABLE -> LOCKED 전이 수만큼)
-            if (scheduleIdForCounter != null && newlyLocked > 0) {
-                int affected = scheduleRepository.decrementAvailableSeats(scheduleIdForCounter, newlyLocked);
-                if (affected == 0) {
-                    throw new RuntimeException("잔여 좌석 수 갱신 실패: 이미 매진된 스케줄입니다.");
+            // 7. AVAILABLE -> LOCKED 일괄 전이, 이미 LOCKED인 좌석(재점유/만료 락 인수)은 토큰만 교체
+            //    (조회 이후 다른 트랜잭션이 선점했거나 더 새로운 토큰이 기록돼 있으면 롤백)
+            holdSeats(availableSeatIds, ScheduleSeat.SeatStatus.AVAILABLE, holdToken);
+            holdSeats(heldSeatIds, ScheduleSeat.SeatStatus.LOCKED, holdToken);
+
+            // 8. 스케줄 가용 좌석 카운터 감소 (스케줄당 카운터 증감 1회) 및 상태 변경 이벤트 발행
+            lockedPerSchedule.forEach((scheduleId, lockedSeatIds) -> {
+                if (!inventoryService.adjust(scheduleId, -lockedSeatIds.size())) {
+                    throw new IllegalStateException("잔여 좌석 수 갱신 실패: 이미 매진된 스케줄입니다.");
                 }
-                scheduleRepository.refreshScheduleStatus(scheduleIdForCounter);
+                publishStatusChange(scheduleId, lockedSeatIds, ScheduleSeat.SeatStatus.LOCKED);
+            });
+
+            // 9. 만료 시각 등록 (ZADD 1회, 연장분은 상한이 적용된 시각으로 별도 등록)
+            if (extendSeatIds.isEmpty()) {
+                expiryTracker.track(seatIds, expiresAt);
+            } else {
+                expiryTracker.track(newLockSeatIds, expiresAt);
+                expiryTracker.track(extendSeatIds, extendedExpiresAt);
             }
 
-            return SeatLockResponse.success("좌석 락 성공", expiresAt);
+            SeatLockResponse response = SeatLockResponse.success("좌석 락 성공",
+                    extendedExpiresAt.isBefore(expiresAt) ? extendedExpiresAt : expiresAt);
+            response.setHoldToken(holdToken);
+            return response;
 
         } catch (Exception e) {
-            // 실패 시 Redis 락 정리
-            rollbackRedisLocks(lockKeys, lockValue);
+            // 실패 시 점유 정리
+            rollbackStoreLocks(lockScheduleId, seatIds, lockValue);
             throw new RuntimeException("좌석 락 처리 중 오류 발생", e);
         }
     }
 
     /**
-     * 좌석 락 해제
+     * 좌석 점유 연장 (lease 갱신)
+     * 사용자(세션 지정 시 해당 세션)의 모든 활성 락을 연장 시점 + extend-seconds로 연장하며,
+     * 최초 점유 시각 + max-hold-seconds를 넘지 않는다.
+     * DB는 만료 시각별 UPDATE 1회, 점유 저장소는 1회, 만료 셋은 만료 시각별 ZADD 1회로 처리한다.
      */
-    public boolean releaseSeats(List<Long> seatIds, Long userId, String sessionId) {
+    public SeatLockResponse renewLocks(Long userId, String sessionId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        boolean allReleased = true;
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatLock> locks = seatLockRepository.findActiveUserLocks(user, now).stream()
+                .filter(lock -> sessionId == null || sessionId.equals(lock.getSessionId()))
+                .collect(Collectors.toList());
+        if (locks.isEmpty()) {
+            return SeatLockResponse.failure("연장할 좌석 점유가 없습니다");
+        }
 
-        for (Long seatId : seatIds) {
-            Optional<SeatLock> lockOpt = seatLockRepository
-                    .findBySeatSeatIdAndStatus(seatId, SeatLock.LockStatus.ACTIVE);
+        // 연장 후 만료 시각별로 묶기 (대부분 하나의 그룹)
+        LocalDateTime requested = now.plusSeconds(extendSeconds);
+        Map<LocalDateTime, List<SeatLock>> locksByExpiry = new LinkedHashMap<>();
+        for (SeatLock lock : locks) {
+            LocalDateTime cap = holdDeadline(lock, now);
+            LocalDateTime target = cap.isBefore(requested) ? cap : requested;
+            if (target.isAfter(lock.getExpiresAt())) {
+                locksByExpiry.computeIfAbsent(target, k -> new ArrayList<>()).add(lock);
+            }
+        }
+        if (locksByExpiry.isEmpty()) {
+            return SeatLockResponse.failure("최대 점유 시간을 초과하여 더 이상 연장할 수 없습니다");
+        }
 
-            if (lockOpt.isPresent()) {
-                SeatLock lock = lockOpt.get();
+        List<SeatLock> renewedLocks = new ArrayList<>();
+        List<Long> ttls = new ArrayList<>();
+        List<Long> renewedSeatIds = new ArrayList<>();
+        LocalDateTime earliestExpiry = null;
 
-                // 권한 확인 (본인 또는 관리자)
-                if (isSameUserOrSession(lock, user, sessionId) || user.getRole() == User.Role.ADMIN) {
-                    releaseSingleSeat(lock);
-                } else {
-                    allReleased = false;
-                }
+        for (Map.Entry<LocalDateTime, List<SeatLock>> entry : locksByExpiry.entrySet()) {
+            LocalDateTime target = entry.getKey();
+            List<SeatLock> group = entry.getValue();
+            List<Long> seatIds = group.stream().map(lock -> lock.getSeat().getSeatId()).collect(Collectors.toList());
+
+            seatLockRepository.extendLocks(group.stream().map(SeatLock::getLockId).collect(Collectors.toList()), target);
+            expiryTracker.track(seatIds, target);
+
+            long ttlMs = Math.max(1, Duration.between(now, target).toMillis());
+            for (SeatLock lock : group) {
+                renewedLocks.add(lock);
+                ttls.add(ttlMs);
+            }
+            renewedSeatIds.addAll(seatIds);
+            if (earliestExpiry == null || target.isBefore(earliestExpiry)) {
+                earliestExpiry = target;
             }
         }
 
-        return allReleased;
+        // 점유 저장소 갱신 (스케줄당 1회)
+        Map<Long, Long> scheduleOfSeat = scheduleIdsOf(renewedSeatIds);
+        Map<Long, List<Integer>> bySchedule = new LinkedHashMap<>();
+        for (int i = 0; i < renewedSeatIds.size(); i++) {
+            bySchedule.computeIfAbsent(scheduleOfSeat.get(renewedSeatIds.get(i)), k -> new ArrayList<>()).add(i);
+        }
+        bySchedule.forEach((scheduleId, indexes) -> seatLockStore.renew(scheduleId,
+                indexes.stream().map(renewedSeatIds::get).collect(Collectors.toList()),
+                indexes.stream().map(i -> lockValueOf(renewedLocks.get(i))).collect(Collectors.toList()),
+                indexes.stream().map(ttls::get).collect(Collectors.toList())));
+
+        SeatLockResponse response = SeatLockResponse.success("좌석 점유 연장 성공", earliestExpiry);
+        response.setSeatIds(renewedSeatIds);
+        return response;
     }
 
     /**
-     * 좌석 예약 확정 (결제 완료 후 호출)
+     * 좌석 락 해제
      */
-    public boolean confirmSeats(List<Long> seatIds, Long userId) {
+    public boolean releaseSeats(List<Long> seatIds, Long userId, String sessionId) {
+        return releaseSeats(seatIds, userId, sessionId, null);
+    }
+
+    /**
+     * 좌석 락 해제 (펜싱 토큰 지정)
+     * 저널 해제 재적용용: 토큰이 다른 락(그 사이 같은 사용자가 새로 잡은 점유 등)은 해제 대상이 아니므로 건드리지 않는다.
+     * @param holdToken 해제할 점유의 토큰 (null이면 토큰을 확인하지 않음)
+     */
+    public boolean releaseSeats(List<Long> seatIds, Long userId, String sessionId, Long holdToken) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        List<ScheduleSeat> seats = scheduleSeatRepository.findAllById(seatIds);
+        boolean isAdmin = user.getRole() == User.Role.ADMIN;
+        List<SeatLock> releasable = new ArrayList<>();
+        boolean allReleased = true;
 
-        for (ScheduleSeat seat : seats) {
-            // 해당 사용자의 락이 있는지 확인
-            Optional<SeatLock> lockOpt = seatLockRepository
-                    .findBySeatSeatIdAndUserAndStatus(seat.getSeatId(), user, SeatLock.LockStatus.ACTIVE);
-
-            if (lockOpt.isPresent()) {
-                // 좌석 상태를 예약됨으로 변경
-                seat.setStatus(ScheduleSeat.SeatStatus.BOOKED);
-                scheduleSeatRepository.save(seat);
-
-                // 락 해제
-                SeatLock lock = lockOpt.get();
-                lock.setStatus(SeatLock.LockStatus.RELEASED);
-                seatLockRepository.save(lock);
-
-                // Redis에서도 제거
-                String lockKey = REDIS_LOCK_PREFIX + seat.getSeatId();
-                redisTemplate.delete(lockKey);
+        for (SeatLock lock : seatLockRepository.findActiveLocksBySeatIds(seatIds)) {
+            if (holdToken != null && !holdToken.equals(lock.getFencingToken())) {
+                continue;
+            }
+            // 권한 확인 (본인 또는 관리자)
+            if (isSameUserOrSession(lock, user, sessionId) || isAdmin) {
+                releasable.add(lock);
             } else {
-                // 락이 없으면 예약 실패
-                return false;
+                allReleased = false;
             }
         }
 
+        releaseLocks(releasable, SeatLock.LockStatus.RELEASED,
+                List.of(ScheduleSeat.SeatStatus.LOCKED, ScheduleSeat.SeatStatus.BOOKED));
+        return allReleased;
+    }
+
+    /**
+     * 좌석 예약 확정 (결제 완료 후 호출)
+     * 요청 좌석 전체에 대해 본인 락이 있을 때만 일괄 확정한다 (일부만 확정되는 경우 없음).
+     */
+    public boolean confirmSeats(List<Long> seatIds, Long userId) {
+        return confirmSeats(seatIds, userId, null);
+    }
+
+    /**
+     * 좌석 예약 확정 (펜싱 토큰 지정)
+     * 소유 확인은 조건부 UPDATE 1회로 처리한다: 본인 활성 락의 토큰이 좌석의 현재 토큰과 같은 LOCKED 좌석만 확정되며,
+     * 만료 후 다른 사용자가 다시 점유한 좌석은 토큰이 달라 확정되지 않는다.
+     * @param holdToken 점유 시 받은 토큰 (null이면 본인 락의 토큰만 확인)
+     */
+    public boolean confirmSeats(List<Long> seatIds, Long userId, Long holdToken) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return false;
+        }
+        List<Long> distinctSeatIds = seatIds.stream().distinct().collect(Collectors.toList());
+
+        int confirmed = holdToken == null
+                ? scheduleSeatRepository.confirmHeldSeats(distinctSeatIds, userId)
+                : scheduleSeatRepository.confirmHeldSeatsWithToken(distinctSeatIds, userId, holdToken);
+        if (confirmed != distinctSeatIds.size()) {
+            // 일부 좌석만 확정된 상태로 커밋되지 않도록 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+
+        // 락 해제
+        List<SeatLock> userLocks = seatLockRepository.findActiveLocksBySeatIdsAndUserId(distinctSeatIds, userId);
+        seatLockRepository.updateStatusByLockIds(
+                userLocks.stream().map(SeatLock::getLockId).collect(Collectors.toList()),
+                SeatLock.LockStatus.RELEASED);
+
+        // 점유 저장소에서도 제거
+        List<Object[]> seatStates = scheduleSeatRepository.findSeatStatesBySeatIds(distinctSeatIds);
+        releaseStoreLocks(userLocks, scheduleIdsOfStates(seatStates));
+        expiryTracker.untrack(distinctSeatIds);
+
+        groupSeatStatesBySchedule(seatStates, List.of(ScheduleSeat.SeatStatus.BOOKED))
+                .forEach((scheduleId, ids) -> publishStatusChange(scheduleId, ids, ScheduleSeat.SeatStatus.BOOKED));
+
         return true;
     }
 
     /**
-     * 좌석 예약 취소 (환불 시 호출)
+     * 점유 단계 없이 바로 예매 (lock-and-book)
+     * AVAILABLE → BOOKED 전이는 UPDATE ... RETURNING 1회로 처리한다.
+     * 좌석 소속 검증(좌석 디렉터리)과 점유 저장소 획득(holdForTransaction)은 호출 측에서 마친 상태여야 하며, 좌석 행을 따로 읽지 않는다.
+     * @return 예매된 좌석 ID (일부라도 전이하지 못했으면 빈 목록이며 트랜잭션은 롤백 표시됨)
      */
-    public boolean cancelSeats(List<Long> seatIds) {
-        List<ScheduleSeat> seats = scheduleSeatRepository.findAllById(seatIds);
+    public List<Long> bookAvailableSeats(Long scheduleId, List<Long> seatIds, Long userId) {
+        if (scheduleId == null || seatIds == null || seatIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> distinctSeatIds = seatIds.stream().distinct().collect(Collectors.toList());
+
+        List<Long> booked = scheduleSeatRepository.transitionReturningIds(scheduleId, distinctSeatIds,
+                ScheduleSeat.SeatStatus.AVAILABLE, ScheduleSeat.SeatStatus.BOOKED);
+        if (booked.size() != distinctSeatIds.size() || !inventoryService.adjust(scheduleId, -booked.size())) {
+            // 일부 좌석만 예매된 상태로 커밋되지 않도록 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return List.of();
+        }
 
-        int restored = 0;
-        Long scheduleIdForCounter = null;
+        publishStatusChange(scheduleId, distinctSeatIds, ScheduleSeat.SeatStatus.BOOKED);
+        return booked;
+    }
 
-        for (ScheduleSeat seat : seats) {
-            if (seat.getStatus() == ScheduleSeat.SeatStatus.BOOKED) {
-                seat.setStatus(ScheduleSeat.SeatStatus.AVAILABLE);
-                scheduleSeatRepository.save(seat);
-                restored++;
-                if (scheduleIdForCounter == null && seat.getSchedule() != null) {
-                    scheduleIdForCounter = seat.getSchedule().getScheduleId();
-                }
-            }
+    /**
+     * 점유 단계 없이 좌석을 직접 전이하는 경로(바로 예매, 예매 생성)용 점유 저장소 획득
+     * 트랜잭션이 끝나면(커밋/롤백 모두) 해제되며, 그동안 진행 중인 점유 요청(좌석 엔진의 저널 점유 포함)과 겹치지 않게 한다.
+     * 사용자 동시 점유 한도는 점유 경로와 같이 적용한다 (사용자의 유효한 점유 + 이번 좌석 수).
+     * @return SeatLockStore.acquire 결과 (0이면 성공, 양수면 다른 holder와 충돌, USER_LIMIT_EXCEEDED면 한도 초과, 실패 시 아무것도 잡지 않음)
+     */
+    public int holdForTransaction(Long scheduleId, List<Long> seatIds, Long userId) {
+        String lockValue = new SeatHolder(userId, DIRECT_BOOKING_SESSION).value();
+        SeatLockStore.HoldQuota quota = new SeatLockStore.HoldQuota(userId, null, maxHoldsPerUser, 0);
+        int outcome = seatLockStore.acquire(scheduleId, seatIds, lockValue, DIRECT_BOOKING_HOLD_MILLIS, quota);
+        if (outcome == 0) {
+            releaseStoreLocksAfterCompletion(scheduleId, seatIds, lockValue);
         }
+        return outcome;
+    }
 
-        if (scheduleIdForCounter != null && restored > 0) {
-            int affected = scheduleRepository.incrementAvailableSeats(scheduleIdForCounter, restored);
-            if (affected == 0) {
-                System.err.println("Warning: 좌석 복원 중 가용 좌석 수가 이미 최대치에 도달했습니다. scheduleId=" + scheduleIdForCounter + ", restored=" + restored);
-            }
-            scheduleRepository.refreshScheduleStatus(scheduleIdForCounter);
+    /**
+     * 좌석 예약 취소 (환불 시 호출)
+     */
+    public boolean cancelSeats(List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return true;
         }
 
+        // 스케줄별로 BOOKED -> AVAILABLE 일괄 전이 후 전이된 수만큼 카운터 복원
+        List<ScheduleSeat.SeatStatus> cancellable = List.of(ScheduleSeat.SeatStatus.BOOKED);
+        groupSeatIdsBySchedule(seatIds, cancellable).forEach((scheduleId, ids) -> {
+            int restored = scheduleSeatRepository.transitionStatus(ids, cancellable, ScheduleSeat.SeatStatus.AVAILABLE);
+            restoreAvailableSeats(scheduleId, restored);
+            publishTransition(scheduleId, ids, restored, ScheduleSeat.SeatStatus.AVAILABLE);
+        });
+
         return true;
     }
 
     /**
-     * 만료된 락 정리
+     * 만료된 락 정리 (seat_locks 전체 스캔)
+     * 데드라인 셋에 등록되지 못한 락(배포 이전 데이터, 등록 직전 장애 등)을 위한 안전망으로만 사용한다.
      */
     public void cleanupExpiredLocks() {
         List<SeatLock> expiredLocks = seatLockRepository
                 .findByStatusAndExpiresAtBefore(SeatLock.LockStatus.ACTIVE, LocalDateTime.now());
 
-        for (SeatLock lock : expiredLocks) {
-            releaseSingleSeat(lock);
+        expireLocks(expiredLocks);
+    }
+
+    /**
+     * 지정 좌석들의 만료된 락 일괄 해제 (스위퍼 배치 단위 호출)
+     * @return 해제된 락 수
+     */
+    public int releaseExpiredLocks(List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return 0;
         }
+        return expireLocks(seatLockRepository.findActiveLocksBySeatIds(seatIds));
+    }
+
+    /**
+     * 활성 락 없이 LOCKED로 남은 좌석 복구 (정합성 점검용)
+     * 스케줄별 조건부 UPDATE 1회 + 카운터 UPDATE 1회
+     * @return 복구된 좌석 수
+     */
+    public int releaseUnheldLockedSeats(List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            return 0;
+        }
+        int total = 0;
+        for (Map.Entry<Long, List<Long>> entry : groupSeatIdsBySchedule(seatIds,
+                List.of(ScheduleSeat.SeatStatus.LOCKED)).entrySet()) {
+            Long scheduleId = entry.getKey();
+            List<Long> ids = entry.getValue();
+            int released = scheduleSeatRepository.releaseUnheldLockedSeats(ids);
+            restoreAvailableSeats(scheduleId, released);
+            publishTransition(scheduleId, ids, released, ScheduleSeat.SeatStatus.AVAILABLE);
+            total += released;
+        }
+        return total;
     }
 
     /**
@@ -310,9 +614,8 @@ public class SeatService {
         List<SeatLock> userLocks = seatLockRepository
                 .findByUserAndStatus(user, SeatLock.LockStatus.ACTIVE);
 
-        for (SeatLock lock : userLocks) {
-            releaseSingleSeat(lock);
-        }
+        releaseLocks(userLocks, SeatLock.LockStatus.RELEASED,
+                List.of(ScheduleSeat.SeatStatus.LOCKED, ScheduleSeat.SeatStatus.BOOKED));
     }
 
     /**
@@ -330,6 +633,13 @@ public class SeatService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
+        // 사용자 락은 좌석별로 조회하지 않고 한 번에 조회
+        Map<Long, SeatLock> userLocks = new HashMap<>();
+        for (SeatLock lock : seatLockRepository.findActiveUserLocksBySeatIds(seatIds, user)) {
+            userLocks.put(lock.getSeat().getSeatId(), lock);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
         for (ScheduleSeat seat : seats) {
             if (seat.getStatus() == ScheduleSeat.SeatStatus.AVAILABLE) {
                 continue; // 사용 가능한 좌석
@@ -341,16 +651,13 @@ public class SeatService {
 
             if (seat.getStatus() == ScheduleSeat.SeatStatus.LOCKED) {
                 // 락된 좌석이지만 현재 사용자가 락한 것인지 확인
-                Optional<SeatLock> lockOpt = seatLockRepository
-                        .findBySeatSeatIdAndUserAndStatus(seat.getSeatId(), user, SeatLock.LockStatus.ACTIVE);
-
-                if (lockOpt.isEmpty()) {
+                SeatLock lock = userLocks.get(seat.getSeatId());
+                if (lock == null) {
                     return false; // 다른 사용자가 락한 좌석
                 }
 
                 // 락이 만료되었는지 확인
-                SeatLock lock = lockOpt.get();
-                if (lock.getExpiresAt().isBefore(LocalDateTime.now())) {
+                if (lock.getExpiresAt().isBefore(now)) {
                     return false; // 만료된 락
                 }
             }
@@ -360,23 +667,18 @@ public class SeatService {
     }
 
     /**
-     * 특정 좌석들이 지정된 스케줄에 속하는지 검증
+     * 특정 좌석들이 지정된 스케줄에 속하는지 검증 (좌석 디렉터리 기준, 캐시 적중 시 SQL 없음)
      * @param seatIds 검증할 좌석 ID 목록
      * @param scheduleId 스케줄 ID
      * @return 모든 좌석이 해당 스케줄에 속하면 true, 아니면 false
      */
     @Transactional(readOnly = true)
     public boolean validateSeatsForSchedule(List<Long> seatIds, Long scheduleId) {
-        if (seatIds == null || seatIds.isEmpty()) {
+        if (seatIds == null || seatIds.isEmpty() || hasDuplicates(seatIds)) {
             return false;
         }
 
-        // 요청된 좌석들을 스케줄 ID와 함께 조회
-        List<ScheduleSeat> validSeats = scheduleSeatRepository.findBySchedule_ScheduleIdAndSeatIdIn(
-                scheduleId, seatIds);
-
-        // 조회된 좌석 수가 요청된 좌석 수와 같은지 확인
-        return validSeats.size() == seatIds.size();
+        return seatDirectory.containsAll(scheduleId, seatIds);
     }
 
     /**
@@ -386,22 +688,17 @@ public class SeatService {
      */
     @Transactional(readOnly = true)
     public Long validateSeatsInSameSchedule(List<Long> seatIds) {
-        if (seatIds == null || seatIds.isEmpty()) {
+        if (seatIds == null || seatIds.isEmpty() || hasDuplicates(seatIds)) {
             return null;
         }
 
-        List<ScheduleSeat> seats = scheduleSeatRepository.findAllById(seatIds);
-
-        if (seats.size() != seatIds.size()) {
-            return null; // 일부 좌석이 존재하지 않음
+        // 첫 좌석의 스케줄 디렉터리에 나머지 좌석이 모두 있는지 확인 (존재하지 않는 좌석도 여기서 걸러짐)
+        Long scheduleId = seatDirectory.findScheduleId(seatIds.get(0));
+        if (scheduleId == null) {
+            return null;
         }
 
-        // 모든 좌석의 스케줄 ID가 동일한지 확인
-        Long scheduleId = seats.get(0).getSchedule().getScheduleId();
-        boolean allSameSchedule = seats.stream()
-                .allMatch(seat -> seat.getSchedule().getScheduleId().equals(scheduleId));
-
-        return allSameSchedule ? scheduleId : null;
+        return seatDirectory.containsAll(scheduleId, seatIds) ? scheduleId : null;
     }
 
     /**
@@ -424,51 +721,236 @@ public class SeatService {
 
     // === Private Helper Methods ===
 
-    private void releaseSingleSeat(SeatLock lock) {
-        try {
-            // 락 상태 변경
-            lock.setStatus(SeatLock.LockStatus.RELEASED);
-            seatLockRepository.save(lock);
-
-            // 좌석 상태 되돌리기
-            ScheduleSeat seat = lock.getSeat();
-            boolean wasLockedOrBooked = (seat.getStatus() == ScheduleSeat.SeatStatus.LOCKED)
-                    || (seat.getStatus() == ScheduleSeat.SeatStatus.BOOKED);
-            seat.setStatus(ScheduleSeat.SeatStatus.AVAILABLE);
-            scheduleSeatRepository.save(seat);
-
-            // 가용 좌석 카운터 증가 (LOCKED/BOOKED -> AVAILABLE 전이인 경우만)
-            if (seat.getSchedule() != null && wasLockedOrBooked) {
-                Long scheduleId = seat.getSchedule().getScheduleId();
-                int affected = scheduleRepository.incrementAvailableSeats(scheduleId, 1);
-                if (affected == 0) {
-                    System.err.println("Warning: 좌석 해제 중 가용 좌석 수가 이미 최대치에 도달했습니다. scheduleId=" + scheduleId + ", seatId=" + seat.getSeatId());
-                }
-                scheduleRepository.refreshScheduleStatus(scheduleId);
+    /**
+     * 만료된 락 처리
+     * - 같은 좌석에 유효한 새 락이 있으면 이전 락만 EXPIRED 처리 (좌석 상태 유지)
+     * - 그렇지 않으면 락을 EXPIRED 처리하고 LOCKED 좌석만 AVAILABLE로 되돌림 (BOOKED 좌석은 건드리지 않음)
+     */
+    private int expireLocks(List<SeatLock> activeLocks) {
+        List<SeatLock> staleLocks = new ArrayList<>();
+        Map<Long, SeatLock> liveLocks = partitionLocks(activeLocks, staleLocks);
+
+        List<SeatLock> superseded = new ArrayList<>();
+        List<SeatLock> releasable = new ArrayList<>();
+        for (SeatLock lock : staleLocks) {
+            if (liveLocks.containsKey(lock.getSeat().getSeatId())) {
+                superseded.add(lock);
+            } else {
+                releasable.add(lock);
             }
+        }
 
-            // Redis 락 해제
-            String lockKey = REDIS_LOCK_PREFIX + seat.getSeatId();
-            redisTemplate.delete(lockKey);
+        if (!superseded.isEmpty()) {
+            seatLockRepository.updateStatusByLockIds(
+                    superseded.stream().map(SeatLock::getLockId).collect(Collectors.toList()),
+                    SeatLock.LockStatus.EXPIRED);
+        }
+        releaseLocks(releasable, SeatLock.LockStatus.EXPIRED, List.of(ScheduleSeat.SeatStatus.LOCKED));
+        return staleLocks.size();
+    }
+
+    /**
+     * 여러 락을 일괄 해제
+     * 락 상태 UPDATE 1회 + 스케줄당 좌석 상태 UPDATE 1회/카운터 UPDATE 1회 + 점유 저장소 해제 1회
+     */
+    private void releaseLocks(List<SeatLock> locks, SeatLock.LockStatus lockStatus,
+                              List<ScheduleSeat.SeatStatus> releasableSeatStatuses) {
+        if (locks == null || locks.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 락 상태 변경
+            List<Long> lockIds = locks.stream()
+                    .map(SeatLock::getLockId)
+                    .collect(Collectors.toList());
+            seatLockRepository.updateStatusByLockIds(lockIds, lockStatus);
+
+            // 좌석 상태 되돌리기 (해제 대상 락의 토큰이 좌석 토큰과 같은 좌석만, AVAILABLE로 전이된 수만큼만 카운터 증가)
+            List<Long> seatIds = locks.stream()
+                    .map(lock -> lock.getSeat().getSeatId())
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            List<Object[]> seatStates = scheduleSeatRepository.findSeatStatesBySeatIds(seatIds);
+            groupSeatStatesBySchedule(seatStates, releasableSeatStatuses).forEach((scheduleId, ids) -> {
+                int released = scheduleSeatRepository.releaseHeldSeats(ids, lockIds, releasableSeatStatuses);
+                restoreAvailableSeats(scheduleId, released);
+                publishTransition(scheduleId, ids, released, ScheduleSeat.SeatStatus.AVAILABLE);
+            });
+
+            // 점유 해제 (해당 락 소유자의 점유인 경우에만 삭제 - 그 사이 새로 잡힌 락 보호)
+            releaseStoreLocks(locks, scheduleIdsOfStates(seatStates));
+            expiryTracker.untrack(seatIds);
 
         } catch (Exception e) {
             throw new RuntimeException("좌석 락 해제 중 오류 발생", e);
         }
     }
 
-    private void rollbackRedisLocks(List<String> lockKeys, String lockValue) {
-        for (String lockKey : lockKeys) {
-            try {
-                // 같은 값으로 설정된 락만 삭제 (다른 프로세스의 락 보호)
-                String currentValue = redisTemplate.opsForValue().get(lockKey);
-                if (lockValue.equals(currentValue)) {
-                    redisTemplate.delete(lockKey);
-                }
-            } catch (Exception e) {
-                // 롤백 중 오류는 로깅만 하고 계속 진행
-                System.err.println("Redis lock rollback error for key: " + lockKey);
+    /**
+     * 스케줄 가용 좌석 카운터 복원 (스케줄당 UPDATE 1회)
+     */
+    private void restoreAvailableSeats(Long scheduleId, int restored) {
+        if (scheduleId == null || restored <= 0) {
+            return;
+        }
+        if (!inventoryService.adjust(scheduleId, restored)) {
+            System.err.println("Warning: 좌석 복원 중 가용 좌석 수가 이미 최대치에 도달했습니다. scheduleId=" + scheduleId + ", restored=" + restored);
+            scheduleRepository.refreshScheduleStatus(scheduleId);
+        }
+    }
+
+    /**
+     * 현재 상태가 fromStatuses 중 하나인 좌석 ID를 스케줄별로 묶기 (엔티티를 로딩하지 않는 프로젝션 쿼리 1회)
+     */
+    private Map<Long, List<Long>> groupSeatIdsBySchedule(List<Long> seatIds, List<ScheduleSeat.SeatStatus> fromStatuses) {
+        return groupSeatStatesBySchedule(scheduleSeatRepository.findSeatStatesBySeatIds(seatIds), fromStatuses);
+    }
+
+    /**
+     * 이미 조회한 [seatId, scheduleId, status] 행 기준으로 스케줄별 묶기
+     */
+    private static Map<Long, List<Long>> groupSeatStatesBySchedule(List<Object[]> seatStates, List<ScheduleSeat.SeatStatus> fromStatuses) {
+        Map<Long, List<Long>> grouped = new LinkedHashMap<>();
+        for (Object[] row : seatStates) {
+            if (fromStatuses.contains((ScheduleSeat.SeatStatus) row[2])) {
+                grouped.computeIfAbsent((Long) row[1], k -> new ArrayList<>()).add((Long) row[0]);
             }
         }
+        return grouped;
+    }
+
+    /**
+     * 좌석 ID -> 스케줄 ID (엔티티를 로딩하지 않는 프로젝션 쿼리 1회)
+     */
+    private Map<Long, Long> scheduleIdsOf(List<Long> seatIds) {
+        return scheduleIdsOfStates(scheduleSeatRepository.findSeatStatesBySeatIds(seatIds));
+    }
+
+    private static Map<Long, Long> scheduleIdsOfStates(List<Object[]> seatStates) {
+        Map<Long, Long> scheduleOfSeat = new HashMap<>();
+        for (Object[] row : seatStates) {
+            scheduleOfSeat.put((Long) row[0], (Long) row[1]);
+        }
+        return scheduleOfSeat;
+    }
+
+    /**
+     * 락 소유자 값 기준 점유 저장소 해제 (저장소 연산은 스케줄당 1회)
+     */
+    private void releaseStoreLocks(List<SeatLock> locks, Map<Long, Long> scheduleOfSeat) {
+        Map<Long, List<SeatLock>> bySchedule = new LinkedHashMap<>();
+        for (SeatLock lock : locks) {
+            Long scheduleId = scheduleOfSeat.get(lock.getSeat().getSeatId());
+            if (scheduleId != null) {
+                bySchedule.computeIfAbsent(scheduleId, k -> new ArrayList<>()).add(lock);
+            }
+        }
+        bySchedule.forEach((scheduleId, group) -> seatLockStore.release(scheduleId,
+                group.stream().map(lock -> lock.getSeat().getSeatId()).collect(Collectors.toList()),
+                group.stream().map(this::lockValueOf).collect(Collectors.toList())));
+    }
+
+    /**
+     * 좌석 상태 변경 이벤트 발행 (커밋 후 스트림/버전 반영)
+     */
+    private void publishStatusChange(Long scheduleId, List<Long> seatIds, ScheduleSeat.SeatStatus status) {
+        if (scheduleId != null && seatIds != null && !seatIds.isEmpty()) {
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(scheduleId, List.copyOf(seatIds), status));
+        }
+    }
+
+    /**
+     * 조건부 일괄 전이 결과 발행
+     * 대상 전체가 전이됐으면 변경분을, 일부만 전이됐으면(조회 이후 상태가 바뀐 좌석 존재) 어느 좌석인지 알 수 없으므로 resync를 발행한다.
+     */
+    private void publishTransition(Long scheduleId, List<Long> seatIds, int transitioned, ScheduleSeat.SeatStatus status) {
+        if (transitioned == seatIds.size()) {
+            publishStatusChange(scheduleId, seatIds, status);
+        } else if (transitioned > 0) {
+            eventPublisher.publishEvent(new SeatMapChangedEvent(scheduleId));
+        }
+    }
+
+    /**
+     * 좌석별 유효(미만료) 활성 락 조회 - 좌석당 가장 늦게 만료되는 락 기준
+     */
+    private Map<Long, SeatLock> findLiveLocksBySeatId(List<Long> seatIds, List<SeatLock> staleLocks) {
+        return partitionLocks(seatLockRepository.findActiveLocksBySeatIds(seatIds), staleLocks);
+    }
+
+    /**
+     * ACTIVE 락을 유효한 락(좌석별 1개)과 만료된 락으로 분리
+     */
+    private Map<Long, SeatLock> partitionLocks(List<SeatLock> activeLocks, List<SeatLock> staleLocks) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, SeatLock> liveLocks = new HashMap<>();
+        for (SeatLock lock : activeLocks) {
+            if (lock.getExpiresAt() == null || !lock.getExpiresAt().isAfter(now)) {
+                staleLocks.add(lock);
+                continue;
+            }
+            liveLocks.merge(lock.getSeat().getSeatId(), lock,
+                    (a, b) -> a.getExpiresAt().isAfter(b.getExpiresAt()) ? a : b);
+        }
+        return liveLocks;
+    }
+
+    /**
+     * 좌석을 fromStatus에서 새 토큰의 점유로 전이하며, 대상 전체가 전이되지 않으면 예외 (호출 트랜잭션 롤백)
+     */
+    private void holdSeats(List<Long> seatIds, ScheduleSeat.SeatStatus fromStatus, long holdToken) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        int held = scheduleSeatRepository.holdSeats(seatIds, List.of(fromStatus), holdToken);
+        if (held != seatIds.size()) {
+            throw new IllegalStateException("다른 사용자가 먼저 선택한 좌석이 있습니다.");
+        }
+    }
+
+    /**
+     * 트랜잭션이 끝나면(커밋/롤백 모두) 점유 저장소에서 해제
+     */
+    private void releaseStoreLocksAfterCompletion(Long scheduleId, List<Long> seatIds, String lockValue) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rollbackStoreLocks(scheduleId, seatIds, lockValue);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                rollbackStoreLocks(scheduleId, seatIds, lockValue);
+            }
+        });
+    }
+
+    private void rollbackStoreLocks(Long scheduleId, List<Long> seatIds, String lockValue) {
+        try {
+            // 같은 값으로 설정된 점유만 삭제 (다른 프로세스의 락 보호)
+            seatLockStore.release(scheduleId, seatIds, Collections.nCopies(seatIds.size(), lockValue));
+        } catch (Exception e) {
+            // 롤백 중 오류는 로깅만 하고 계속 진행
+            System.err.println("Seat lock rollback error for seats: " + seatIds);
+        }
+    }
+
+    /**
+     * 최대 점유 시간 기준 만료 상한 (최초 점유 시각 + max-hold-seconds)
+     */
+    private LocalDateTime holdDeadline(SeatLock lock, LocalDateTime now) {
+        LocalDateTime lockedAt = lock.getLockedAt() != null ? lock.getLockedAt() : now;
+        return lockedAt.plusSeconds(maxHoldSeconds);
+    }
+
+    private String lockValueOf(SeatLock lock) {
+        Long userId = lock.getUser() != null ? lock.getUser().getUserId() : null;
+        return new SeatHolder(userId, lock.getSessionId()).value();
+    }
+
+    private static boolean hasDuplicates(List<Long> seatIds) {
+        return seatIds.stream().distinct().count() != seatIds.size();
     }
 
     private boolean isSameUserOrSession(SeatLock lock, User user, String sessionId) {
@@ -476,7 +958,26 @@ public class SeatService {
                 (lock.getSessionId() != null && lock.getSessionId().equals(sessionId));
     }
 
-    private SeatDto convertToSeatDto(ScheduleSeat seat) {
+    /**
+     * 좌석 서수 순서의 상태 코드를 "A120L2B5" 형태로 인코딩
+     */
+    private static String encodeStatusRunLength(SeatMapSnapshot snapshot) {
+        int count = snapshot.getSeatCount();
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < count) {
+            byte code = snapshot.getStatus(i);
+            int j = i + 1;
+            while (j < count && snapshot.getStatus(j) == code) {
+                j++;
+            }
+            sb.append((char) code).append(j - i);
+            i = j;
+        }
+        return sb.toString();
+    }
+
+    private SeatDto convertToSeatDto(ScheduleSeat seat, Map<String, BigDecimal> prices) {
         return SeatDto.builder()
                 .seatId(seat.getSeatId())
                 .scheduleId(seat.getSchedule().getScheduleId())
@@ -485,7 +986,7 @@ public class SeatService {
                 .seatNumber(seat.getColNum())
                 .seatZone(seat.getZone())
                 .seatGrade(seat.getGrade())
-                .price(seat.getPrice())
+                .price(prices.get(seat.getGrade())) // 가격 미설정 등급은 null
                 .status(seat.getStatus().name())
                 .build();
     }
@@ -0,0 +1,428 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatMapChangedEvent;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.global.util.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 스케줄별 좌석 상태 변경 스트림 (SSE)
+ * - 좌석 상태 전이가 커밋되면 스케줄 버전을 증가시키고 Redis 채널로 변경분을 발행 (INCR + PUBLISH 원자 처리)
+ * - 각 노드는 채널을 구독해 자신에게 연결된 SSE 구독자에게 전달
+ * - 구독자별 버퍼는 고정 크기이며, 넘치면 resync 이벤트를 보내고 연결을 종료 (클라이언트는 전체 재조회 후 재구독)
+ * - 전송은 구독자마다 별도 가상 스레드에서 하므로 응답이 막힌 구독자가 다른 구독자의 전달을 막지 않으며,
+ *   한 번의 전송이 seat.stream.send-timeout-ms를 넘기면 그 구독자의 연결을 종료한다
+ * - 최근 변경분을 스케줄별로 보관해 sinceVersion/Last-Event-ID 기반 재연결 시 누락분을 재전송
+ * - 버전은 좌석 조회 API의 ETag로도 사용된다 (버전이 같으면 좌석 상태도 같음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStatusStreamService implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "seat_status:";
+
+    /**
+     * 버전 증가와 발행을 하나의 스크립트로 처리해 채널상의 순서와 버전 순서를 일치시킨다
+     * ARGV[1] = channel, ARGV[2] = payload(JSON) → "version|payload" 형태로 발행, ARGV[3] = 키가 없을 때의 시작 버전
+     */
+    private static final RedisScript<Long> BUMP_AND_PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[3], 'NX')
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('PUBLISH', ARGV[1], version .. '|' .. ARGV[2])
+            return version
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${seat.stream.subscriber-buffer-size:256}")
+    private int subscriberBufferSize;
+
+    @Value("${seat.stream.replay-size:512}")
+    private int replaySize;
+
+    @Value("${seat.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${seat.stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    private final Map<Long, ScheduleChannel> channels = new ConcurrentHashMap<>();
+
+    // 모든 스케줄의 변경분을 받는 노드 내부 리스너 (좌석 인덱스 등 로컬 캐시 갱신용)
+    private final List<Consumer<SeatStatusDelta>> deltaListeners = new CopyOnWriteArrayList<>();
+
+    // 구독자 전송용 가상 스레드 (전송이 막혀도 그 구독자의 스레드만 대기)
+    private final ExecutorService dispatcher = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("seat-stream-writer-", 0).factory());
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 노드 내부 변경분 리스너 등록 (Redis 수신 스레드에서 호출되므로 빠르게 반환해야 함)
+     * status가 null인 변경분은 좌석 구성 변경(resync)을 의미한다.
+     */
+    public void addDeltaListener(Consumer<SeatStatusDelta> listener) {
+        deltaListeners.add(listener);
+    }
+
+    /**
+     * 스케줄의 현재 좌석 상태 버전
+     * 버전 키가 없으면(첫 조회, Redis flush/failover로 유실) 현재 시각 기반 값으로 새로 시작하므로,
+     * 키가 다시 만들어져도 이전에 발급한 버전(ETag, Last-Event-ID)과 겹치지 않고 그보다 커진다.
+     */
+    public long currentVersion(Long scheduleId) {
+        String key = RedisKeys.seatMapVersion(scheduleId);
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            redisTemplate.opsForValue().setIfAbsent(key, initialVersion());
+            value = redisTemplate.opsForValue().get(key);
+        }
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * 좌석 상태 변경 커밋 후 버전 증가 및 변경분 발행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.getScheduleId() == null || event.getSeatIds() == null || event.getSeatIds().isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(SeatStatusDelta.builder()
+                    .scheduleId(event.getScheduleId())
+                    .status(event.getStatus().name())
+                    .seatIds(event.getSeatIds())
+                    .build());
+            redisTemplate.execute(BUMP_AND_PUBLISH_SCRIPT,
+                    List.of(RedisKeys.seatMapVersion(event.getScheduleId())),
+                    CHANNEL_PREFIX + event.getScheduleId(), payload, initialVersion());
+        } catch (Exception e) {
+            // 스트림 발행 실패는 좌석 처리 결과에 영향을 주지 않음 (클라이언트는 버전 불일치로 재조회)
+            log.warn("좌석 상태 변경 발행 실패: scheduleId={}, {}", event.getScheduleId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 좌석 구성 변경 커밋 후 버전 증가 및 resync 발행 (status 없는 변경분 = resync)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatMapChanged(SeatMapChangedEvent event) {
+        if (event.getScheduleId() == null) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(SeatStatusDelta.builder()
+                    .scheduleId(event.getScheduleId())
+                    .seatIds(List.of())
+                    .build());
+            redisTemplate.execute(BUMP_AND_PUBLISH_SCRIPT,
+                    List.of(RedisKeys.seatMapVersion(event.getScheduleId())),
+                    CHANNEL_PREFIX + event.getScheduleId(), payload, initialVersion());
+        } catch (Exception e) {
+            log.warn("좌석 구성 변경 발행 실패: scheduleId={}, {}", event.getScheduleId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 채널 수신 → 로컬 구독자에게 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator <= 0) {
+            return;
+        }
+
+        SeatStatusDelta delta;
+        try {
+            delta = objectMapper.readValue(body.substring(separator + 1), SeatStatusDelta.class);
+            delta.setVersion(Long.parseLong(body.substring(0, separator)));
+        } catch (JsonProcessingException | NumberFormatException e) {
+            log.warn("좌석 상태 변경 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Consumer<SeatStatusDelta> listener : deltaListeners) {
+            try {
+                listener.accept(delta);
+            } catch (RuntimeException e) {
+                log.warn("좌석 상태 변경 리스너 처리 실패: {}", e.getMessage());
+            }
+        }
+
+        ScheduleChannel channel = channels.get(delta.getScheduleId());
+        if (channel == null) {
+            return; // 이 노드에 구독자가 없는 스케줄
+        }
+
+        synchronized (channel) {
+            if (delta.getStatus() == null) {
+                // 좌석 구성 변경: 이전 변경분으로는 복원할 수 없으므로 보관분을 비우고 resync
+                channel.recent.clear();
+                for (Subscriber subscriber : channel.subscribers) {
+                    enqueue(subscriber, controlEvent("resync", delta.getScheduleId(), delta.getVersion()), delta.getVersion());
+                }
+                return;
+            }
+            channel.remember(delta);
+            for (Subscriber subscriber : channel.subscribers) {
+                enqueue(subscriber, deltaEvent(delta), delta.getVersion());
+            }
+        }
+    }
+
+    /**
+     * 스케줄 좌석 상태 스트림 구독
+     * @param sinceVersion 클라이언트가 마지막으로 반영한 버전 (없으면 현재 버전부터)
+     */
+    public SseEmitter subscribe(Long scheduleId, Long sinceVersion) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(scheduleId, emitter, subscriberBufferSize);
+
+        ScheduleChannel channel = channels.computeIfAbsent(scheduleId, id -> new ScheduleChannel(replaySize));
+        synchronized (channel) {
+            // 등록 후 버전을 읽어야 그 사이 발행된 변경분이 누락되지 않음 (중복 수신은 무해)
+            channel.subscribers.add(subscriber);
+            long current = currentVersion(scheduleId);
+
+            List<SeatStatusDelta> missed = sinceVersion == null || sinceVersion >= current
+                    ? List.of()
+                    : channel.since(sinceVersion);
+            if (missed == null) {
+                // 보관 범위를 벗어난 경우 전체 재조회 필요
+                enqueue(subscriber, controlEvent("resync", scheduleId, current), current);
+            } else {
+                enqueue(subscriber, controlEvent("hello", scheduleId, current), current);
+                for (SeatStatusDelta delta : missed) {
+                    enqueue(subscriber, deltaEvent(delta), delta.getVersion());
+                }
+            }
+        }
+
+        Runnable cleanup = () -> unsubscribe(scheduleId, subscriber);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(error -> cleanup.run());
+        return emitter;
+    }
+
+    /**
+     * 15초마다 keep-alive 코멘트 전송 (프록시 유휴 연결 종료 방지)
+     */
+    @Scheduled(fixedRate = 15000)
+    public void sendHeartbeats() {
+        for (ScheduleChannel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"), null);
+            }
+        }
+    }
+
+    /**
+     * 전송 시간 초과 구독자 종료 (막힌 전송은 그 구독자의 스레드에만 남고, 이후 변경분은 더 쌓지 않음)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void closeStalledSubscribers() {
+        long now = System.currentTimeMillis();
+        for (ScheduleChannel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                long startedAt = subscriber.sendStartedAt;
+                if (startedAt != 0L && now - startedAt > sendTimeoutMs && !subscriber.closed) {
+                    log.debug("좌석 상태 스트림 전송 시간 초과로 구독 종료: scheduleId={}", subscriber.scheduleId);
+                    unsubscribe(subscriber.scheduleId, subscriber);
+                    subscriber.queue.clear();
+                    // 종료 처리도 막힌 전송과 같은 쓰기 락을 기다릴 수 있으므로 별도 스레드에서 수행
+                    dispatcher.execute(() -> subscriber.emitter.completeWithError(
+                            new IOException("seat stream send timed out")));
+                }
+            }
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    // 버전 키를 새로 만들 때의 시작 값 (현재 시각 ms × 1000: 유실 전 버전보다 크고 JS 안전 정수 범위 안)
+    private static String initialVersion() {
+        return String.valueOf(System.currentTimeMillis() * 1000L);
+    }
+
+    private void unsubscribe(Long scheduleId, Subscriber subscriber) {
+        subscriber.closed = true;
+        ScheduleChannel channel = channels.get(scheduleId);
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            channel.subscribers.remove(subscriber);
+            if (channel.subscribers.isEmpty()) {
+                channels.remove(scheduleId, channel);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event, Long version) {
+        if (subscriber.closed || subscriber.closeAfterDrain) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            // 느린 구독자: 쌓인 변경분을 버리고 resync 후 연결 종료
+            subscriber.queue.clear();
+            subscriber.queue.offer(SseEmitter.event()
+                    .name("resync")
+                    .data(Map.of("version", version == null ? 0L : version), MediaType.APPLICATION_JSON));
+            subscriber.closeAfterDrain = true;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedAt = System.currentTimeMillis();
+                subscriber.emitter.send(event);
+                subscriber.sendStartedAt = 0L;
+            }
+            if (subscriber.closeAfterDrain) {
+                subscriber.closed = true;
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriber.closed = true;
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sendStartedAt = 0L;
+            subscriber.draining.set(false);
+            if (!subscriber.closed && !subscriber.queue.isEmpty()) {
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder deltaEvent(SeatStatusDelta delta) {
+        return SseEmitter.event()
+                .id(String.valueOf(delta.getVersion()))
+                .name("delta")
+                .data(delta, MediaType.APPLICATION_JSON);
+    }
+
+    private static SseEmitter.SseEventBuilder controlEvent(String name, Long scheduleId, long version) {
+        return SseEmitter.event()
+                .id(String.valueOf(version))
+                .name(name)
+                .data(Map.of("scheduleId", scheduleId, "version", version), MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * 스케줄별 구독자 목록과 최근 변경분 보관소
+     */
+    private static final class ScheduleChannel {
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Deque<SeatStatusDelta> recent = new ArrayDeque<>();
+        private final int capacity;
+
+        private ScheduleChannel(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void remember(SeatStatusDelta delta) {
+            if (recent.size() >= capacity) {
+                recent.pollFirst();
+            }
+            recent.addLast(delta);
+        }
+
+        /**
+         * sinceVersion 이후 변경분 반환, 보관 범위 밖이면 null
+         */
+        private List<SeatStatusDelta> since(long sinceVersion) {
+            if (recent.isEmpty() || recent.peekFirst().getVersion() > sinceVersion + 1) {
+                return null;
+            }
+            List<SeatStatusDelta> result = new ArrayList<>();
+            for (SeatStatusDelta delta : recent) {
+                if (delta.getVersion() > sinceVersion) {
+                    result.add(delta);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Subscriber {
+        private final Long scheduleId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closeAfterDrain;
+        private volatile boolean closed;
+        // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long scheduleId, SseEmitter emitter, int bufferSize) {
+            this.scheduleId = scheduleId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.ddcn41.ticketing_system.domain.venue.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연장 좌석 템플릿 (JPA로는 읽기 전용)
+ * 공연장 좌석 맵 JSON을 한 번만 펼쳐 둔 좌석 목록이며, 서수(ordinal)와 좌표는 공연장 안에서 한 번 부여되면 바뀌지 않는다.
+ * 스케줄 좌석은 이 템플릿을 INSERT ... SELECT로 복사해 생성한다.
+ * 좌석 맵에서 좌석이 추가되면 새 서수로 뒤에 붙이고, 기존 좌석은 삭제하지 않으며 등급만 좌석 맵을 따라 갱신한다.
+ */
+@Entity
+@Immutable
+@Table(name = "venue_seats",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"venue_id", "ordinal"}),
+                @UniqueConstraint(columnNames = {"venue_id", "zone", "row_label", "col_num"})
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VenueSeat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "venue_seat_id")
+    private Long venueSeatId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "venue_id", nullable = false)
+    private Venue venue;
+
+    @Column(name = "ordinal", nullable = false)
+    private Integer ordinal;
+
+    @Column(name = "grade", nullable = false, length = 10)
+    private String grade;
+
+    @Column(name = "zone", length = 50)
+    private String zone;
+
+    @Column(name = "row_label", nullable = false, length = 10)
+    private String rowLabel;
+
+    @Column(name = "col_num", nullable = false, length = 10)
+    private String colNum;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 좌석 좌표 키 (zone|rowLabel|colNum)
+     */
+    public static String coordinateKey(String zone, String rowLabel, String colNum) {
+        return (zone == null ? "" : zone) + "|" + (rowLabel == null ? "" : rowLabel) + "|" + (colNum == null ? "" : colNum);
+    }
+}
@@ -0,0 +1,32 @@
+package org.ddcn41.ticketing_system.domain.venue.repository;
+
+import org.ddcn41.ticketing_system.domain.venue.entity.VenueSeat;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연장 좌석 템플릿 일괄 적재용 커스텀 리포지토리
+ */
+public interface VenueSeatBulkRepository {
+
+    /**
+     * 템플릿 좌석의 좌표 키(zone|rowLabel|colNum) → 좌석 (서수/등급 포함)
+     */
+    Map<String, VenueSeat> loadSeatsByCoordinate(Long venueId);
+
+    /**
+     * 템플릿 좌석 일괄 추가 (JDBC batch, 서수는 호출 측에서 부여)
+     */
+    void insertSeats(Long venueId, List<VenueSeat> seats);
+
+    /**
+     * 기존 템플릿 좌석의 등급 일괄 변경 (서수로 식별, JDBC batch)
+     */
+    void updateGrades(Long venueId, List<VenueSeat> seats);
+
+    /**
+     * 공연장 단위 트랜잭션 잠금 (템플릿 동시 적재 시 서수 중복 방지, 트랜잭션 종료 시 해제)
+     */
+    void lockVenue(Long venueId);
+}
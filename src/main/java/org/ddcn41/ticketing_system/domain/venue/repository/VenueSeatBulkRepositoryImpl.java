@@ -0,0 +1,75 @@
+package org.ddcn41.ticketing_system.domain.venue.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.venue.entity.VenueSeat;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class VenueSeatBulkRepositoryImpl implements VenueSeatBulkRepository {
+
+    private static final String SEATS_SQL =
+            "SELECT zone, row_label, col_num, ordinal, grade FROM venue_seats WHERE venue_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO venue_seats (venue_id, ordinal, grade, zone, row_label, col_num, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final String UPDATE_GRADE_SQL =
+            "UPDATE venue_seats SET grade = ? WHERE venue_id = ? AND ordinal = ?";
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, VenueSeat> loadSeatsByCoordinate(Long venueId) {
+        Map<String, VenueSeat> seats = new HashMap<>();
+        jdbcTemplate.query(SEATS_SQL, (RowCallbackHandler) rs -> seats.put(
+                VenueSeat.coordinateKey(rs.getString(1), rs.getString(2), rs.getString(3)),
+                VenueSeat.builder()
+                        .zone(rs.getString(1))
+                        .rowLabel(rs.getString(2))
+                        .colNum(rs.getString(3))
+                        .ordinal(rs.getInt(4))
+                        .grade(rs.getString(5))
+                        .build()), venueId);
+        return seats;
+    }
+
+    @Override
+    public void insertSeats(Long venueId, List<VenueSeat> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, seats, 500, (ps, seat) -> {
+            ps.setLong(1, venueId);
+            ps.setInt(2, seat.getOrdinal());
+            ps.setString(3, seat.getGrade());
+            ps.setString(4, seat.getZone());
+            ps.setString(5, seat.getRowLabel());
+            ps.setString(6, seat.getColNum());
+        });
+    }
+
+    @Override
+    public void updateGrades(Long venueId, List<VenueSeat> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_GRADE_SQL, seats, 500, (ps, seat) -> {
+            ps.setString(1, seat.getGrade());
+            ps.setLong(2, venueId);
+            ps.setInt(3, seat.getOrdinal());
+        });
+    }
+
+    @Override
+    public void lockVenue(Long venueId) {
+        jdbcTemplate.queryForList(LOCK_SQL, "venue_seats:" + venueId);
+    }
+}
@@ -0,0 +1,9 @@
+package org.ddcn41.ticketing_system.domain.venue.repository;
+
+import org.ddcn41.ticketing_system.domain.venue.entity.VenueSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VenueSeatRepository extends JpaRepository<VenueSeat, Long>, VenueSeatBulkRepository {
+}
@@ -0,0 +1,209 @@
+package org.ddcn41.ticketing_system.domain.venue.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ddcn41.ticketing_system.domain.venue.entity.VenueSeat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 공연장 좌석 맵 (불변)
+ * - 좌석 맵 JSON(sections/pricing)을 한 번만 펼쳐 좌석 목록, 좌표 → 좌석, 등급 → 가격을 보관
+ * - 좌표 조회는 대소문자/앞뒤 공백을 무시하며 (zone, rowLabel, colNum) 해시 조회 1번으로 끝난다
+ * - 원본 JSON을 함께 보관해, 같은 좌석 맵에서 컴파일한 것인지 확인할 수 있다 (좌석 맵 버전 = JSON 내용)
+ */
+public final class VenueSeatMapIndex {
+
+    /**
+     * 좌석 맵의 좌석 1개 (position: 좌석 맵 순서)
+     */
+    public record Seat(int position, String grade, String zone, String rowLabel, String colNum) {
+    }
+
+    private final String source;
+    private final List<Seat> seats;
+    private final Map<String, Seat> byCoordinate;
+    private final Map<String, BigDecimal> pricing;
+
+    private VenueSeatMapIndex(String source, List<Seat> seats, Map<String, Seat> byCoordinate,
+                              Map<String, BigDecimal> pricing) {
+        this.source = source;
+        this.seats = Collections.unmodifiableList(seats);
+        this.byCoordinate = byCoordinate;
+        this.pricing = Collections.unmodifiableMap(pricing);
+    }
+
+    /**
+     * 좌석 맵 JSON 컴파일
+     * 불완전 섹션과 형식이 잘못된 가격은 무시하며, 같은 좌표(대소문자/앞뒤 공백 무시)는 처음 나온 섹션의 것만 사용한다.
+     */
+    static VenueSeatMapIndex compile(ObjectMapper objectMapper, String seatMapJson) {
+        JsonNode root = parse(objectMapper, seatMapJson);
+        JsonNode sections = root.path("sections");
+        if (!sections.isArray()) {
+            throw new IllegalArgumentException("좌석 맵 JSON의 sections 형식이 올바르지 않습니다");
+        }
+
+        List<Seat> seats = new ArrayList<>();
+        Map<String, Seat> byCoordinate = new HashMap<>();
+        for (JsonNode sec : sections) {
+            String zone = textOrNull(sec, "zone");
+            String grade = textOrNull(sec, "grade");
+            int rows = intOrDefault(sec, "rows", 0);
+            int cols = intOrDefault(sec, "cols", 0);
+            String rowLabelFrom = textOrNull(sec, "rowLabelFrom");
+            int seatStart = intOrDefault(sec, "seatStart", 1);
+
+            if (rows <= 0 || cols <= 0 || rowLabelFrom == null || rowLabelFrom.isBlank()) {
+                continue; // 불완전 섹션은 스킵
+            }
+
+            for (int r = 0; r < rows; r++) {
+                String rowLabel = incrementAlpha(rowLabelFrom, r);
+                for (int c = 0; c < cols; c++) {
+                    String colNum = String.valueOf(seatStart + c);
+                    // 대소문자/공백만 다른 좌표는 같은 좌석 (좌석 목록과 조회가 같은 좌석을 가리키도록 한 번만 등록)
+                    String key = lookupKey(zone, rowLabel, colNum);
+                    if (byCoordinate.containsKey(key)) {
+                        continue;
+                    }
+                    Seat seat = new Seat(seats.size(), grade == null ? "" : grade, zone, rowLabel, colNum);
+                    seats.add(seat);
+                    byCoordinate.put(key, seat);
+                }
+            }
+        }
+
+        Map<String, BigDecimal> pricing = new HashMap<>();
+        JsonNode pricingNode = root.path("pricing");
+        if (pricingNode.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> it = pricingNode.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> e = it.next();
+                try {
+                    pricing.put(e.getKey(), new BigDecimal(e.getValue().asText()));
+                } catch (Exception ignored) {}
+            }
+        }
+        return new VenueSeatMapIndex(seatMapJson, seats, byCoordinate, pricing);
+    }
+
+    /**
+     * 이 좌석 맵 JSON에서 컴파일한 인덱스인지
+     */
+    public boolean isCompiledFrom(String seatMapJson) {
+        return source == seatMapJson || source.equals(seatMapJson);
+    }
+
+    /**
+     * 좌석 맵 순서의 좌석 목록
+     */
+    public List<Seat> seats() {
+        return seats;
+    }
+
+    public int size() {
+        return seats.size();
+    }
+
+    /**
+     * 좌표로 좌석 조회 (대소문자/앞뒤 공백 무시)
+     * @return 좌석 맵에 없는 좌표면 null
+     */
+    public Seat find(String zone, String rowLabel, String colNum) {
+        if (rowLabel == null || colNum == null) {
+            return null;
+        }
+        return byCoordinate.get(lookupKey(zone, rowLabel, colNum));
+    }
+
+    /**
+     * 좌석 맵에 해당 등급/좌표의 좌석이 있는지 (등급이 비어 있으면 등급은 확인하지 않음)
+     */
+    public boolean contains(String grade, String zone, String rowLabel, String colNum) {
+        Seat seat = find(zone, rowLabel, colNum);
+        if (seat == null) {
+            return false;
+        }
+        return grade == null || grade.isBlank() || normalize(grade).equals(normalize(seat.grade()));
+    }
+
+    /**
+     * 좌석 맵의 등급별 가격
+     */
+    public Map<String, BigDecimal> pricing() {
+        return pricing;
+    }
+
+    /**
+     * 등급 가격
+     * @return 좌석 맵에 가격이 없는 등급이면 null
+     */
+    public BigDecimal priceOf(String grade) {
+        return grade == null ? null : pricing.get(grade);
+    }
+
+    private static String lookupKey(String zone, String rowLabel, String colNum) {
+        return VenueSeat.coordinateKey(normalize(zone), normalize(rowLabel), colNum == null ? null : colNum.trim());
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase();
+    }
+
+    private static JsonNode parse(ObjectMapper objectMapper, String seatMapJson) {
+        if (seatMapJson == null || seatMapJson.isBlank()) {
+            throw new IllegalArgumentException("공연장의 좌석 맵 JSON이 비어있습니다");
+        }
+        try {
+            return objectMapper.readTree(seatMapJson);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("좌석 맵 JSON 파싱 실패", e);
+        }
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode n = node.get(field);
+        return n == null || n.isNull() ? null : n.asText();
+    }
+
+    private static int intOrDefault(JsonNode node, String field, int def) {
+        JsonNode n = node.get(field);
+        return n == null || !n.canConvertToInt() ? def : n.asInt();
+    }
+
+    // A..Z, AA..AZ, BA.. 증가
+    private static String incrementAlpha(String start, int offset) {
+        String base = start.toUpperCase();
+        int value = alphaToInt(base) + offset;
+        return intToAlpha(value);
+    }
+
+    private static int alphaToInt(String s) {
+        int v = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch < 'A' || ch > 'Z') throw new IllegalArgumentException("Invalid row label: " + s);
+            v = v * 26 + (ch - 'A' + 1);
+        }
+        return v - 1; // zero-based
+    }
+
+    private static String intToAlpha(int v) {
+        v = v + 1; // one-based
+        StringBuilder sb = new StringBuilder();
+        while (v > 0) {
+            int rem = (v - 1) % 26;
+            sb.append((char) ('A' + rem));
+            v = (v - 1) / 26;
+        }
+        return sb.reverse().toString();
+    }
+}
@@ -0,0 +1,97 @@
+package org.ddcn41.ticketing_system.domain.venue.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.venue.entity.Venue;
+import org.ddcn41.ticketing_system.domain.venue.entity.VenueSeat;
+import org.ddcn41.ticketing_system.domain.venue.repository.VenueSeatRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연장 좌석 템플릿 관리
+ * - 좌석 맵 JSON(sections)을 좌석 좌표 목록으로 펼쳐 템플릿에 없는 좌석만 새 서수로 추가 (기존 서수는 유지)
+ * - 기존 좌석은 좌석 맵에서 등급이 바뀐 경우에만 등급을 갱신 (좌표는 서수와 함께 고정)
+ * - 좌석 맵 JSON을 공연장별로 한 번만 컴파일해 캐시 (좌석 검증/가격 조회/템플릿 동기화가 같은 인덱스를 공유)
+ */
+@Service
+@RequiredArgsConstructor
+public class VenueSeatTemplateService {
+
+    private final VenueSeatRepository venueSeatRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Long, VenueSeatMapIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 좌석 맵을 템플릿에 반영하고, 좌석 맵에 있는 좌석의 서수를 좌석 맵 순서대로 반환
+     */
+    @Transactional
+    public int[] syncTemplate(Venue venue) {
+        List<VenueSeatMapIndex.Seat> layout = indexOf(venue).seats();
+        Long venueId = venue.getVenueId();
+
+        venueSeatRepository.lockVenue(venueId);
+        Map<String, VenueSeat> existing = venueSeatRepository.loadSeatsByCoordinate(venueId);
+        int next = existing.values().stream().mapToInt(VenueSeat::getOrdinal).max().orElse(-1) + 1;
+
+        List<VenueSeat> added = new ArrayList<>();
+        List<VenueSeat> regraded = new ArrayList<>();
+        int[] layoutOrdinals = new int[layout.size()];
+        for (int i = 0; i < layout.size(); i++) {
+            VenueSeatMapIndex.Seat seat = layout.get(i);
+            String key = VenueSeat.coordinateKey(seat.zone(), seat.rowLabel(), seat.colNum());
+            VenueSeat current = existing.get(key);
+            if (current == null) {
+                current = VenueSeat.builder()
+                        .ordinal(next++)
+                        .grade(seat.grade())
+                        .zone(seat.zone())
+                        .rowLabel(seat.rowLabel())
+                        .colNum(seat.colNum())
+                        .build();
+                existing.put(key, current);
+                added.add(current);
+            } else if (!seat.grade().equals(current.getGrade())) {
+                // 좌석 맵에서 등급이 바뀐 좌석은 서수를 유지한 채 등급만 갱신 (이후 생성되는 스케줄 좌석에 반영)
+                current.setGrade(seat.grade());
+                regraded.add(current);
+            }
+            layoutOrdinals[i] = current.getOrdinal();
+        }
+        venueSeatRepository.insertSeats(venueId, added);
+        venueSeatRepository.updateGrades(venueId, regraded);
+        return layoutOrdinals;
+    }
+
+    /**
+     * 공연장 좌석 맵 인덱스 (캐시에 없거나 좌석 맵이 바뀌었으면 다시 컴파일)
+     * 캐시된 인덱스는 원본 JSON과 비교해 쓰므로, 다른 노드에서 좌석 맵이 바뀌어도 오래된 인덱스를 쓰지 않는다.
+     */
+    public VenueSeatMapIndex indexOf(Venue venue) {
+        String seatMapJson = venue.getSeatMapJson();
+        Long venueId = venue.getVenueId();
+        VenueSeatMapIndex index = venueId == null ? null : indexes.get(venueId);
+        if (index != null && index.isCompiledFrom(seatMapJson)) {
+            return index;
+        }
+        VenueSeatMapIndex compiled = VenueSeatMapIndex.compile(objectMapper, seatMapJson);
+        if (venueId != null) {
+            indexes.put(venueId, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 공연장 좌석 맵 인덱스 무효화 (공연장 수정/삭제 시)
+     */
+    public void invalidate(Long venueId) {
+        if (venueId != null) {
+            indexes.remove(venueId);
+        }
+    }
+}
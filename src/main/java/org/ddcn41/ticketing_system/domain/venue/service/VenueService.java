@@ -1,9 +1,13 @@
 package org.ddcn41.ticketing_system.domain.venue.service;
 
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.domain.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.domain.performance.service.SchedulePriceService;
+import org.ddcn41.ticketing_system.domain.seat.event.SeatMapChangedEvent;
 import org.ddcn41.ticketing_system.domain.venue.dto.VenueDto;
 import org.ddcn41.ticketing_system.domain.venue.entity.Venue;
 import org.ddcn41.ticketing_system.domain.venue.repository.VenueRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +20,10 @@ import java.util.stream.Collectors;
 public class VenueService {
 
     private final VenueRepository venueRepository;
+    private final VenueSeatTemplateService templateService;
+    private final SchedulePriceService schedulePriceService;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 모든 공연장 조회
     public List<VenueDto> getAllVenues() {
@@ -59,6 +67,13 @@ public class VenueService {
         venue.setContact(venueDto.getContact());
 
         Venue updatedVenue = venueRepository.save(venue);
+        templateService.invalidate(venueId);
+        // 공연장 스케줄의 가격표를 좌석 맵 pricing과 맞추고, 커밋 후 모든 노드에 좌석 구성 변경(resync)을 알림
+        // (가격 캐시 무효화, 좌석 맵 버전/ETag 증가)
+        for (Long scheduleId : scheduleRepository.findScheduleIdsByVenueId(venueId)) {
+            schedulePriceService.reconcile(scheduleId);
+            eventPublisher.publishEvent(new SeatMapChangedEvent(scheduleId));
+        }
         return convertToDto(updatedVenue);
     }
 
@@ -69,6 +84,7 @@ public class VenueService {
             throw new RuntimeException("Venue not found with id: " + venueId);
         }
         venueRepository.deleteById(venueId);
+        templateService.invalidate(venueId);
     }
 
     // 공연장 좌석 배치도 JSON 조회
@@ -3,11 +3,16 @@ package org.ddcn41.ticketing_system.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RedisConfig {
 
@@ -17,8 +22,17 @@ public class RedisConfig {
     @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
+    // host:port 목록 (쉼표 구분). 지정하면 Redis Cluster로 연결
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
+        if (!clusterNodes.isBlank()) {
+            // 한 스크립트에서 함께 다루는 키는 해시 태그로 같은 슬롯에 배치됨 (RedisKeys 참고)
+            return new LettuceConnectionFactory(new RedisClusterConfiguration(
+                    Arrays.stream(clusterNodes.split(",")).map(String::trim).toList()));
+        }
         return new LettuceConnectionFactory(redisHost, redisPort);
     }
 
@@ -37,4 +51,13 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // 메시지 전달 순서 보장을 위해 단일 스레드로 처리
+        container.setTaskExecutor(Executors.newSingleThreadExecutor());
+        return container;
+    }
 }
\ No newline at end of file
@@ -73,6 +73,9 @@ public class SecurityConfig {
                                 "/swagger-ui.html"
                         ).permitAll()
 
+                        // 좌석 엔진 노드 간 전달 (컨트롤러에서 내부 토큰 헤더로 확인)
+                        .requestMatchers("/v1/internal/seat-engine/**").permitAll()
+
                         .requestMatchers("/v1/queue/release-session").permitAll()// Beacon을 통한 세션 해제는 인증 없이 허용 (전용 엔드포인트)
 
                         // Queue API는 인증 필요 (대부분의 엔드포인트가 @SecurityRequirement 있음)
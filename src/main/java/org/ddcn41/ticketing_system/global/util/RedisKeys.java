@@ -0,0 +1,142 @@
+package org.ddcn41.ticketing_system.global.util;
+
+/**
+ * Redis 키 규칙 (Redis Cluster 배치 기준)
+ * 스크립트 하나에서 함께 다루는 키는 같은 해시 태그({...})를 가져야 같은 슬롯에 놓인다.
+ * - 스케줄 단위 키: {schedule:ID} 태그 (좌석 점유 버킷, 점유자 사전, 펜싱 토큰, 좌석 맵 버전, 가용 좌석 카운터, 대기열 heartbeat, 좌석 엔진 소유 리스)
+ * - 공연 단위 키: {performance:ID} 태그 (대기열 활성 토큰 수)
+ * - 사용자 단위 키: {user:ID} 태그 (스케줄을 가리지 않는 사용자/세션별 점유 한도 셋)
+ * - 노드 공용 키(dirty 셋, 리스, 만료 예정 셋, 좌석 엔진 노드 목록)는 태그 없이 단일 키 명령으로만 다룬다
+ */
+public final class RedisKeys {
+
+    private static final String SEAT_LOCK = "seat_lock:";
+    private static final String SEAT_LOCK_HOLDERS = "seat_lock_holders:";
+    private static final String SEAT_FENCE = "seat_fence:";
+    private static final String SEAT_HOLDS = "seat_holds:";
+    private static final String SEAT_MAP_VERSION = "seat_map_version:";
+    private static final String SCHEDULE_INVENTORY = "schedule_inventory:";
+    private static final String ACTIVE_TOKENS = "active_tokens:";
+    private static final String HEARTBEAT = "heartbeat:";
+    private static final String SEAT_ENGINE_OWNER = "seat_engine_owner:";
+    private static final String SEAT_ENGINE_NODES = "seat_engine:nodes";
+    private static final String SEAT_ENGINE_NODE_URLS = "seat_engine:node_urls";
+
+    private static final String SCHEDULE_TAG_PREFIX = "{schedule:";
+    private static final String PERFORMANCE_TAG_PREFIX = "{performance:";
+    private static final String USER_TAG_PREFIX = "{user:";
+
+    private RedisKeys() {
+    }
+
+    public static String scheduleTag(Long scheduleId) {
+        return SCHEDULE_TAG_PREFIX + scheduleId + "}";
+    }
+
+    public static String performanceTag(Long performanceId) {
+        return PERFORMANCE_TAG_PREFIX + performanceId + "}";
+    }
+
+    public static String userTag(Long userId) {
+        return USER_TAG_PREFIX + userId + "}";
+    }
+
+    // 좌석 점유 버킷(해시): seat_lock:{schedule:S}:bN
+    public static String seatLockBucket(Long scheduleId, long bucket) {
+        return SEAT_LOCK + scheduleTag(scheduleId) + ":b" + bucket;
+    }
+
+    public static String seatLockPattern() {
+        return SEAT_LOCK + SCHEDULE_TAG_PREFIX + "*";
+    }
+
+    // 스케줄 점유자 사전(해시): seat_lock_holders:{schedule:S}
+    public static String seatLockHolders(Long scheduleId) {
+        return SEAT_LOCK_HOLDERS + scheduleTag(scheduleId);
+    }
+
+    // 스케줄 펜싱 토큰: seat_fence:{schedule:S}
+    public static String seatFence(Long scheduleId) {
+        return SEAT_FENCE + scheduleTag(scheduleId);
+    }
+
+    // 사용자/세션별 점유 좌석 셋 (전체 스케줄 합산): seat_holds:{user:U}, seat_holds:{user:U}:session:X
+    // 세션 셋도 사용자 태그를 가져 두 셋을 한 스크립트에서 함께 확인/갱신한다
+    public static String userHolds(Long userId) {
+        return SEAT_HOLDS + userTag(userId);
+    }
+
+    public static String sessionHolds(Long userId, String sessionId) {
+        return SEAT_HOLDS + userTag(userId) + ":session:" + sessionId;
+    }
+
+    // 좌석 맵 버전: seat_map_version:{schedule:S}
+    public static String seatMapVersion(Long scheduleId) {
+        return SEAT_MAP_VERSION + scheduleTag(scheduleId);
+    }
+
+    // 가용 좌석 카운터: schedule_inventory:{schedule:S}
+    public static String scheduleInventory(Long scheduleId) {
+        return SCHEDULE_INVENTORY + scheduleTag(scheduleId);
+    }
+
+    // 좌석 엔진 스케줄 소유 리스: seat_engine_owner:{schedule:S}
+    public static String seatEngineOwner(Long scheduleId) {
+        return SEAT_ENGINE_OWNER + scheduleTag(scheduleId);
+    }
+
+    // 좌석 엔진 노드 목록(정렬 셋, score = 등록 만료 시각): seat_engine:nodes
+    public static String seatEngineNodes() {
+        return SEAT_ENGINE_NODES;
+    }
+
+    // 좌석 엔진 노드 주소(해시, nodeId → URL): seat_engine:node_urls
+    public static String seatEngineNodeUrls() {
+        return SEAT_ENGINE_NODE_URLS;
+    }
+
+    // 공연 대기열 활성 토큰 수: active_tokens:{performance:P}
+    public static String activeTokens(Long performanceId) {
+        return ACTIVE_TOKENS + performanceTag(performanceId);
+    }
+
+    public static String activeTokensPattern() {
+        return ACTIVE_TOKENS + "*";
+    }
+
+    // 대기열 heartbeat: heartbeat:{schedule:S}:userId:performanceId
+    public static String heartbeat(Long scheduleId, Long userId, Long performanceId) {
+        return HEARTBEAT + scheduleTag(scheduleId) + ":" + userId + ":" + performanceId;
+    }
+
+    public static String heartbeatPattern() {
+        return HEARTBEAT + "*";
+    }
+
+    /**
+     * 키의 {schedule:S} 태그에서 스케줄 ID 추출 (태그가 없거나 형식이 다르면 null)
+     */
+    public static Long scheduleIdOf(String key) {
+        int start = key.indexOf(SCHEDULE_TAG_PREFIX);
+        if (start < 0) {
+            return null;
+        }
+        int end = key.indexOf('}', start);
+        if (end < 0) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key.substring(start + SCHEDULE_TAG_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 해시 태그 뒤의 나머지 부분 ("seat_lock:{schedule:1}:b3" → "b3", 태그가 없으면 null)
+     */
+    public static String suffixOf(String key) {
+        int end = key.indexOf("}:");
+        return end < 0 ? null : key.substring(end + 2);
+    }
+}
@@ -0,0 +1,6 @@
+-- [user-036] 좌석 점유 펜싱 토큰
+-- 운영은 ddl-auto=validate 이므로 배포 전에 적용한다.
+-- hold_token이 NULL인 좌석은 이전 방식대로 해제된다 (토큰 비교 생략).
+
+ALTER TABLE schedule_seats ADD COLUMN IF NOT EXISTS hold_token BIGINT;
+ALTER TABLE seat_locks ADD COLUMN IF NOT EXISTS fencing_token BIGINT;
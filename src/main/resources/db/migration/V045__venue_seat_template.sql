@@ -0,0 +1,18 @@
+-- [user-045] 공연장 좌석 템플릿과 스케줄 좌석 서수
+-- 운영은 ddl-auto=validate 이므로 배포 전에 적용한다.
+-- 템플릿은 다음 좌석 초기화 때 좌석 맵 JSON으로부터 채워지며, 그 전까지 기존 스케줄 좌석의 ordinal은 NULL이다.
+
+CREATE TABLE IF NOT EXISTS venue_seats (
+    venue_seat_id BIGSERIAL PRIMARY KEY,
+    venue_id BIGINT NOT NULL REFERENCES venues (venue_id),
+    ordinal INTEGER NOT NULL,
+    grade VARCHAR(10) NOT NULL,
+    zone VARCHAR(50),
+    row_label VARCHAR(10) NOT NULL,
+    col_num VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP,
+    UNIQUE (venue_id, ordinal),
+    UNIQUE (venue_id, zone, row_label, col_num)
+);
+
+ALTER TABLE schedule_seats ADD COLUMN IF NOT EXISTS ordinal INTEGER;
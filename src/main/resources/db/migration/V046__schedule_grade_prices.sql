@@ -0,0 +1,34 @@
+-- [user-046] 스케줄 등급별 가격표
+-- 운영은 ddl-auto=validate 이므로 배포 전에 적용한다.
+-- 좌석 행은 더 이상 가격을 쓰지 않으므로 schedule_seats.price는 NULL을 허용한다
+-- (ScheduleGradePriceRepository.findLegacySeatPrices 제거와 함께 컬럼을 삭제할 예정).
+
+CREATE TABLE IF NOT EXISTS schedule_grade_prices (
+    grade_price_id BIGSERIAL PRIMARY KEY,
+    schedule_id BIGINT NOT NULL REFERENCES performance_schedules (schedule_id),
+    grade VARCHAR(10) NOT NULL,
+    price NUMERIC(10, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP,
+    UNIQUE (schedule_id, grade)
+);
+
+ALTER TABLE schedule_seats ALTER COLUMN price DROP NOT NULL;
+
+-- 1) 기존 좌석 행의 등급별 가격
+INSERT INTO schedule_grade_prices (schedule_id, grade, price, updated_at)
+SELECT schedule_id, grade, MAX(price), CURRENT_TIMESTAMP
+FROM schedule_seats
+WHERE price IS NOT NULL
+GROUP BY schedule_id, grade
+ON CONFLICT (schedule_id, grade) DO NOTHING;
+
+-- 2) 공연장 좌석 맵의 가격이 있으면 우선 (형식이 잘못된 가격은 애플리케이션과 같이 무시)
+INSERT INTO schedule_grade_prices (schedule_id, grade, price, updated_at)
+SELECT s.schedule_id, kv.key, kv.value::numeric, CURRENT_TIMESTAMP
+FROM performance_schedules s
+JOIN performances p ON p.performance_id = s.performance_id
+JOIN venues v ON v.venue_id = p.venue_id
+CROSS JOIN LATERAL jsonb_each_text(v.seat_map_json -> 'pricing') kv
+WHERE jsonb_typeof(v.seat_map_json -> 'pricing') = 'object'
+  AND kv.value ~ '^-?[0-9]+(\.[0-9]+)?$'
+ON CONFLICT (schedule_id, grade) DO UPDATE SET price = EXCLUDED.price, updated_at = EXCLUDED.updated_at;
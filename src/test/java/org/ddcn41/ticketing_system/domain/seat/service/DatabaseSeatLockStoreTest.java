@@ -0,0 +1,131 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Postgres 행 잠금 좌석 점유 (seatlock.mode=db), Docker가 없으면 건너뜀
+ * 저장소가 읽는 컬럼만 가진 최소 스키마(schedule_seats, seat_locks)를 사용한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DatabaseSeatLockStoreTest extends SeatLockStoreContractTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate tx;
+
+    private DatabaseSeatLockStore store;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("CREATE TABLE schedule_seats (seat_id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO schedule_seats SELECT generate_series(1, 200)");
+        jdbcTemplate.execute("""
+                CREATE TABLE seat_locks (
+                    lock_id BIGSERIAL PRIMARY KEY,
+                    seat_id BIGINT NOT NULL,
+                    user_id BIGINT,
+                    session_id VARCHAR(255),
+                    expires_at TIMESTAMP NOT NULL,
+                    status VARCHAR(20)
+                )""");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE seat_locks");
+        store = new DatabaseSeatLockStore(jdbcTemplate);
+    }
+
+    @Override
+    SeatLockStore store() {
+        return store;
+    }
+
+    @Override
+    <T> T inScope(Supplier<T> op) {
+        return tx.execute(status -> op.get());
+    }
+
+    @Override
+    boolean tracksHolders() {
+        return false;
+    }
+
+    @Override
+    void recordHold(List<Long> seatIds, SeatHolder holder) {
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plus(Duration.ofMillis(TTL_MS)));
+        for (Long seatId : seatIds) {
+            jdbcTemplate.update("INSERT INTO seat_locks (seat_id, user_id, session_id, expires_at, status)"
+                    + " VALUES (?, ?, ?, ?, 'ACTIVE')", seatId, holder.userId(), holder.sessionId(), expiresAt);
+        }
+    }
+
+    @Override
+    void recordRelease(List<Long> seatIds, SeatHolder holder) {
+        for (Long seatId : seatIds) {
+            jdbcTemplate.update("UPDATE seat_locks SET status = 'RELEASED' WHERE seat_id = ? AND user_id = ?",
+                    seatId, holder.userId());
+        }
+    }
+
+    /**
+     * 다른 스레드의 트랜잭션이 행 잠금을 쥔 동안 action 실행, 끝나면 그 트랜잭션을 커밋
+     */
+    @Override
+    void whileHeld(List<Long> seatIds, String holder, Runnable action) {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger result = new AtomicInteger(-100);
+        CompletableFuture<Void> holding = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            try {
+                result.set(store.acquire(SCHEDULE_ID, seatIds, holder, TTL_MS));
+            } finally {
+                locked.countDown();
+            }
+            try {
+                finished.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertTrue(locked.await(30, TimeUnit.SECONDS));
+            assertEquals(0, result.get());
+            action.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            finished.countDown();
+            holding.join();
+        }
+    }
+}
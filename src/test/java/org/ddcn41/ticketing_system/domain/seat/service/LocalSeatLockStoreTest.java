@@ -0,0 +1,21 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * 프로세스 내 좌석 점유 (seatlock.mode=local)
+ */
+class LocalSeatLockStoreTest extends SeatLockStoreContractTest {
+
+    private LocalSeatLockStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalSeatLockStore();
+    }
+
+    @Override
+    SeatLockStore store() {
+        return store;
+    }
+}
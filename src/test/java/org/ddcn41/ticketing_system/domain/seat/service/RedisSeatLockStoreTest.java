@@ -0,0 +1,190 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.ddcn41.ticketing_system.global.util.RedisKeys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Redis 버킷 해시 좌석 점유 (seatlock.mode=redis), Docker가 없으면 건너뜀
+ * 공통 동작 외에 버킷/필드 배치, 점유자 사전, 만료 판정, 사용자/세션 점유 셋을 스크립트 결과로 직접 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSeatLockStoreTest extends SeatLockStoreContractTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisSeatLockStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        store = new RedisSeatLockStore(redisTemplate);
+    }
+
+    @Override
+    SeatLockStore store() {
+        return store;
+    }
+
+    @Test
+    void storesHoldsInBucketFields() {
+        long before = System.currentTimeMillis();
+        assertEquals(0, acquire(List.of(5L, 130L), ALICE));
+
+        // 버킷 = seatId / 128, 필드 = seatId % 128, 값 = "점유자번호:만료 시각"
+        String id = hash(RedisKeys.seatLockHolders(SCHEDULE_ID)).get("h:" + ALICE);
+        assertEquals(ALICE, hash(RedisKeys.seatLockHolders(SCHEDULE_ID)).get("i:" + id));
+        for (String value : List.of(field(0, "5"), field(1, "2"))) {
+            String[] parts = value.split(":");
+            assertEquals(id, parts[0]);
+            long expiresAt = Long.parseLong(parts[1]);
+            assertTrue(expiresAt >= before + TTL_MS && expiresAt <= System.currentTimeMillis() + TTL_MS);
+        }
+        Long ttl = redisTemplate.getExpire(RedisKeys.seatLockBucket(SCHEDULE_ID, 0), TimeUnit.MILLISECONDS);
+        assertTrue(ttl != null && ttl > 0 && ttl <= TTL_MS);
+    }
+
+    @Test
+    void reusesHolderNumber() {
+        assertEquals(0, acquire(List.of(1L), ALICE));
+        assertEquals(0, acquire(List.of(2L), ALICE));
+        assertEquals(0, acquire(List.of(3L), BOB));
+
+        Map<String, String> dict = hash(RedisKeys.seatLockHolders(SCHEDULE_ID));
+        assertEquals("2", dict.get("seq"));
+        assertEquals(field(0, "1").split(":")[0], field(0, "2").split(":")[0]);
+    }
+
+    @Test
+    void expiredFieldIsFreeAndReportedAsUnheld() {
+        assertEquals(0, acquire(List.of(7L), BOB));
+        String id = field(0, "7").split(":")[0];
+        redisTemplate.opsForHash().put(RedisKeys.seatLockBucket(SCHEDULE_ID, 0), "7",
+                id + ":" + (System.currentTimeMillis() - 1));
+
+        assertEquals(Collections.singletonList(null), store.currentHolders(SCHEDULE_ID, List.of(7L)));
+        assertEquals(0, acquire(List.of(7L), ALICE));
+        assertEquals(List.of(ALICE), store.currentHolders(SCHEDULE_ID, List.of(7L)));
+    }
+
+    @Test
+    void currentHoldersFollowSeatOrder() {
+        assertEquals(0, acquire(List.of(8L), ALICE));
+        assertEquals(0, acquire(List.of(200L), BOB));
+        assertEquals(Arrays.asList(BOB, null, ALICE), store.currentHolders(SCHEDULE_ID, List.of(200L, 9L, 8L)));
+    }
+
+    @Test
+    void releaseClearsOwnExpiredField() throws InterruptedException {
+        assertEquals(0, acquire(List.of(10L), ALICE, 20));
+        Thread.sleep(50);
+        store.release(SCHEDULE_ID, List.of(10L), List.of(ALICE));
+        assertFalse(redisTemplate.opsForHash().hasKey(RedisKeys.seatLockBucket(SCHEDULE_ID, 0), "10"));
+    }
+
+    @Test
+    void renewResetsDeletedField() {
+        assertEquals(0, acquire(List.of(11L), ALICE));
+        redisTemplate.opsForHash().delete(RedisKeys.seatLockBucket(SCHEDULE_ID, 0), "11");
+
+        store.renew(SCHEDULE_ID, List.of(11L), List.of(ALICE), List.of(TTL_MS));
+        assertEquals(List.of(ALICE), store.currentHolders(SCHEDULE_ID, List.of(11L)));
+    }
+
+    @Test
+    void quotaSetsTrackExpiry() {
+        long before = System.currentTimeMillis();
+        assertEquals(0, hold(SCHEDULE_ID, List.of(12L, 13L), ALICE, 4, 4));
+
+        String userHolds = RedisKeys.userHolds(1L);
+        String sessionHolds = RedisKeys.sessionHolds(1L, "s1");
+        assertEquals(Set.of("12", "13"), redisTemplate.opsForZSet().range(userHolds, 0, -1));
+        assertEquals(Set.of("12", "13"), redisTemplate.opsForZSet().range(sessionHolds, 0, -1));
+        Double score = redisTemplate.opsForZSet().score(userHolds, "12");
+        assertTrue(score != null && score >= before + TTL_MS);
+
+        // 갱신하면 점유 셋의 만료 시각도 늦춰짐
+        store.renew(SCHEDULE_ID, List.of(12L), List.of(ALICE), List.of(TTL_MS * 2));
+        Double renewed = redisTemplate.opsForZSet().score(userHolds, "12");
+        assertTrue(renewed != null && renewed >= before + TTL_MS * 2);
+
+        store.release(SCHEDULE_ID, List.of(12L, 13L), List.of(ALICE, ALICE));
+        assertEquals(0L, redisTemplate.opsForZSet().zCard(userHolds));
+        assertEquals(0L, redisTemplate.opsForZSet().zCard(sessionHolds));
+    }
+
+    @Test
+    void conflictRemovesOnlyNewReservations() {
+        assertEquals(0, hold(SCHEDULE_ID, List.of(14L), ALICE, 4, 0));
+        assertEquals(0, acquire(List.of(16L), BOB));
+
+        assertEquals(3, hold(SCHEDULE_ID, List.of(14L, 15L, 16L), ALICE, 4, 0));
+        // 이미 점유 중이던 14는 남고, 이번에 예약한 15/16만 빠짐
+        assertEquals(Set.of("14"), redisTemplate.opsForZSet().range(RedisKeys.userHolds(1L), 0, -1));
+    }
+
+    @Test
+    void fencingTokenStartsFromClockFloor() throws InterruptedException {
+        long floor = FencingTokenSequence.floor();
+        assertTrue(store.nextFencingToken(SCHEDULE_ID) > floor);
+
+        // 키가 사라져도 이전 토큰보다 작아지지 않음
+        long last = store.nextFencingToken(SCHEDULE_ID);
+        redisTemplate.delete(RedisKeys.seatFence(SCHEDULE_ID));
+        Thread.sleep(2); // 시작값은 ms 단위 시각 기반
+        assertTrue(store.nextFencingToken(SCHEDULE_ID) > last);
+    }
+
+    private static Map<String, String> hash(String key) {
+        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+        return ops.entries(key);
+    }
+
+    private static String field(long bucket, String field) {
+        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+        return ops.get(RedisKeys.seatLockBucket(SCHEDULE_ID, bucket), field);
+    }
+}
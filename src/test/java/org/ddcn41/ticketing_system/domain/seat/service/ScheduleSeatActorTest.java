@@ -0,0 +1,169 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.ddcn41.ticketing_system.domain.seat.dto.SeatStatusDelta;
+import org.ddcn41.ticketing_system.domain.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.domain.seat.repository.ScheduleSeatDirectory;
+import org.ddcn41.ticketing_system.domain.seat.repository.SeatMapSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 액터의 인메모리 판단과 좌석 상태 변경분(echo/외부 변경/재적재) 처리
+ * 메시지는 호출 스레드에서 바로 처리하고(직접 실행), SeatService/점유 저장소/저널은 목으로 대신한다.
+ */
+class ScheduleSeatActorTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final ScheduleSeatActor.Settings SETTINGS = new ScheduleSeatActor.Settings(60_000, 0, 0);
+
+    private SeatService seatService;
+    private SeatLockStore seatLockStore;
+    private SeatJournal journal;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        seatService = mock(SeatService.class);
+        seatLockStore = mock(SeatLockStore.class);
+        journal = mock(SeatJournal.class);
+        when(journal.append(any())).thenReturn(CompletableFuture.completedFuture(1L));
+        when(seatLockStore.acquire(anyLong(), anyList(), anyString(), anyLong(), any())).thenReturn(0);
+        when(seatLockStore.nextFencingToken(anyLong())).thenReturn(100L, 101L, 102L);
+    }
+
+    @Test
+    void ownEchoesAreSkipped() {
+        ScheduleSeatActor actor = actor(journal);
+        when(seatService.applyJournaledLock(anyList(), anyLong(), anyString(), anyLong(), any()))
+                .thenReturn(SeatLockResponse.success("ok", LocalDateTime.now().plusMinutes(1)));
+        when(seatService.releaseSeats(eq(List.of(1L)), eq(7L), eq("s7"), eq(100L))).thenReturn(true);
+
+        assertTrue(actor.lock(List.of(1L), 7L, "s7").join().isSuccess());
+        assertTrue(actor.release(List.of(1L), 7L, "s7").join());
+
+        // 이 액터가 기록한 점유/해제의 변경분이 늦게 도착해도 이미 반영된 것이므로 건너뜀
+        actor.tell(delta("LOCKED", 1L));
+        actor.tell(delta("AVAILABLE", 1L));
+
+        // 좌석이 빈 상태로 남아 있으므로 다른 사용자의 점유도 저널로 바로 처리됨 (write-through 없음)
+        assertTrue(actor.lock(List.of(1L), 8L, "s8").join().isSuccess());
+        verify(seatService, never()).lockSeats(anyList(), anyLong(), anyString());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void outsideLockFallsBackToWriteThrough() {
+        ScheduleSeatActor actor = actor(journal);
+        when(seatService.lockSeats(List.of(2L), 7L, "s7")).thenReturn(SeatLockResponse.failure("다른 사용자가 선택 중인 좌석입니다"));
+        warmUp(actor);
+
+        // 액터 밖에서 점유된 좌석은 점유자를 모르므로 DB에 맡김
+        actor.tell(delta("LOCKED", 2L));
+        assertFalse(actor.lock(List.of(2L), 7L, "s7").join().isSuccess());
+        verify(seatService).lockSeats(List.of(2L), 7L, "s7");
+        verify(journal, never()).append(any());
+    }
+
+    @Test
+    void outsideBookingIsRejectedInMemory() {
+        ScheduleSeatActor actor = actor(null);
+        warmUp(actor);
+
+        actor.tell(delta("BOOKED", 3L));
+        SeatLockResponse response = actor.lock(List.of(3L), 7L, "s7").join();
+
+        assertFalse(response.isSuccess());
+        verify(seatService, never()).lockSeats(anyList(), anyLong(), anyString());
+    }
+
+    @Test
+    void resyncDeltaReloadsState() {
+        ScheduleSeatActor actor = actor(null);
+        warmUp(actor);
+
+        actor.tell(SeatStatusDelta.builder().scheduleId(SCHEDULE_ID).seatIds(List.of()).build());
+        warmUp(actor);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void dbDisagreementDiscardsStateButLimitDoesNot() {
+        ScheduleSeatActor actor = actor(null);
+        when(seatService.lockSeats(List.of(1L), 7L, "s7")).thenReturn(SeatLockResponse.limitExceeded("한도 초과"));
+        when(seatService.lockSeats(List.of(2L), 7L, "s7")).thenReturn(SeatLockResponse.failure("좌석 락 획득 실패"));
+
+        assertTrue(actor.lock(List.of(1L), 7L, "s7").join().isLimitExceeded());
+        warmUp(actor);
+        assertEquals(1, loads.get());
+
+        assertFalse(actor.lock(List.of(2L), 7L, "s7").join().isSuccess());
+        warmUp(actor);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failedJournaledLockReleasesStoreHoldAndReloads() {
+        ScheduleSeatActor actor = actor(journal);
+        when(seatService.applyJournaledLock(anyList(), anyLong(), anyString(), anyLong(), any()))
+                .thenReturn(SeatLockResponse.failure("판매하지 않는 좌석이 포함되어 있습니다"));
+
+        // 응답은 저널 내구화 후 바로 성공, DB 반영은 메일박스가 빈 뒤 실패
+        assertTrue(actor.lock(List.of(4L), 7L, "s7").join().isSuccess());
+
+        verify(seatLockStore).release(SCHEDULE_ID, List.of(4L), List.of(new SeatHolder(7L, "s7").value()));
+        verify(journal).markPersisted(SCHEDULE_ID);
+        warmUp(actor);
+        assertEquals(2, loads.get());
+    }
+
+    private ScheduleSeatActor actor(SeatJournal journal) {
+        return new ScheduleSeatActor(SCHEDULE_ID, Runnable::run, seatService, scheduleId -> {
+            loads.incrementAndGet();
+            return seats();
+        }, journal, seatLockStore, SETTINGS);
+    }
+
+    /**
+     * 좌석 1~4, 모두 예매 가능
+     */
+    private static ScheduleSeatActor.Seats seats() {
+        ScheduleSeatDirectory.Builder directory = ScheduleSeatDirectory.builder(SCHEDULE_ID);
+        SeatMapSnapshot snapshot = new SeatMapSnapshot();
+        for (long seatId = 1; seatId <= 4; seatId++) {
+            directory.append(seatId, "A", "VIP", "A", String.valueOf(seatId));
+            snapshot.append(seatId, "A", "VIP", BigDecimal.TEN, "A", String.valueOf(seatId), "AVAILABLE");
+        }
+        return new ScheduleSeatActor.Seats(directory.build(), snapshot, 0L);
+    }
+
+    /**
+     * 상태를 적재시키는 명령 (빈 좌석 해제는 DB까지 가지 않음)
+     */
+    private static void warmUp(ScheduleSeatActor actor) {
+        assertTrue(actor.release(List.of(4L), 7L, "s7").join());
+    }
+
+    private static SeatStatusDelta delta(String status, Long seatId) {
+        return SeatStatusDelta.builder().scheduleId(SCHEDULE_ID).status(status).seatIds(List.of(seatId)).build();
+    }
+}
@@ -0,0 +1,242 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 좌석 저널 복구/세그먼트 관리 (임시 디렉터리에 실제 세그먼트 파일을 쓰고 다시 연다)
+ */
+class SeatJournalTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private final List<SeatJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeAll() {
+        opened.forEach(SeatJournal::close);
+    }
+
+    @Test
+    void appendCompletesWithLsnOnceDurable() throws Exception {
+        SeatJournal journal = journal(SEGMENT_BYTES);
+        journal.open();
+
+        assertEquals(1L, journal.append(lock(1L, 1L)).get(5, TimeUnit.SECONDS));
+        assertEquals(2L, journal.append(lock(1L, 2L)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void reopenReturnsUnpersistedCommands() throws Exception {
+        SeatJournal journal = journal(SEGMENT_BYTES);
+        journal.open();
+        append(journal, SeatJournalRecord.of(SeatJournalRecord.Type.LOCK, 1L, List.of(1L, 2L), 7L, "s7", 11L, 99L));
+        append(journal, SeatJournalRecord.of(SeatJournalRecord.Type.RELEASE, 1L, List.of(1L), 7L, "s7", 11L, 0L));
+        append(journal, lock(2L, 5L));
+        journal.markPersisted(2L);
+        close(journal);
+
+        SeatJournal.Recovery recovery = journal(SEGMENT_BYTES).open();
+
+        assertFalse(recovery.unpersisted().containsKey(2L));
+        List<SeatJournalRecord> records = recovery.unpersisted().get(1L);
+        assertEquals(2, records.size());
+
+        SeatJournalRecord locked = records.get(0);
+        assertEquals(1L, locked.lsn());
+        assertEquals(SeatJournalRecord.Type.LOCK, locked.type());
+        assertEquals(List.of(1L, 2L), locked.seatIds());
+        assertEquals(7L, locked.userId());
+        assertEquals("s7", locked.sessionId());
+        assertEquals(11L, locked.holdToken());
+        assertEquals(99L, locked.expiresAt());
+
+        SeatJournalRecord released = records.get(1);
+        assertEquals(SeatJournalRecord.Type.RELEASE, released.type());
+        assertEquals(11L, released.fencedToken());
+    }
+
+    @Test
+    void committedRecordMarksScheduleAsPersisted() throws Exception {
+        SeatJournal journal = journal(SEGMENT_BYTES);
+        journal.open();
+        append(journal, lock(1L, 1L));
+        append(journal, SeatJournalRecord.of(SeatJournalRecord.Type.CONFIRM, 1L, List.of(1L), 7L, null, 0L, 0L));
+        append(journal, lock(1L, 2L));
+        close(journal);
+
+        List<SeatJournalRecord> records = journal(SEGMENT_BYTES).open().unpersisted().get(1L);
+        assertEquals(1, records.size());
+        assertEquals(List.of(2L), records.get(0).seatIds());
+        assertNull(SeatJournalRecord.persisted(1L).fencedToken());
+    }
+
+    @Test
+    void corruptTailIsDropped() throws Exception {
+        writeThreeLocksAndClose();
+
+        // 세 번째 레코드 본문 1바이트 변조 → CRC 불일치
+        long offset = recordOffset(3);
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, offset + 8 + 10);
+            one.put(0, (byte) (one.get(0) ^ 0xFF));
+            channel.write(one.rewind(), offset + 8 + 10);
+        }
+
+        assertRecoveredSeats(List.of(1L, 2L));
+    }
+
+    @Test
+    void tornTailIsDroppedAndLsnReused() throws Exception {
+        writeThreeLocksAndClose();
+
+        // 세 번째 레코드는 헤더만 기록되고 본문 뒷부분이 비어 있는 상태 (기록 도중 중단)
+        long offset = recordOffset(3);
+        int length = lock(1L, 3L).withLsn(3L).encode().length;
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(length / 2), offset + 8 + length - length / 2);
+        }
+
+        SeatJournal reopened = journal(SEGMENT_BYTES);
+        assertEquals(List.of(1L, 2L), seatsOf(reopened.open().unpersisted().get(1L)));
+        // 버려진 LSN부터 새 세그먼트에 이어 씀
+        assertEquals(3L, reopened.append(lock(1L, 4L)).get(5, TimeUnit.SECONDS));
+        close(reopened);
+
+        assertRecoveredSeats(List.of(1L, 2L, 4L));
+    }
+
+    @Test
+    void fullSegmentRollsToNextFile() throws Exception {
+        SeatJournal journal = journal(256);
+        journal.open();
+        for (long seatId = 1; seatId <= 10; seatId++) {
+            append(journal, lock(1L, seatId));
+        }
+        assertTrue(segmentCount() >= 3);
+        close(journal);
+
+        List<SeatJournalRecord> records = journal(256).open().unpersisted().get(1L);
+        assertEquals(10, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i + 1, records.get(i).lsn());
+        }
+    }
+
+    @Test
+    void checkpointDeletesOnlyPersistedSegments() throws Exception {
+        SeatJournal journal = journal(256);
+        journal.open();
+        append(journal, lock(2L, 100L)); // 첫 세그먼트에 남는 스케줄 2의 미반영 명령
+        for (long seatId = 1; seatId <= 10; seatId++) {
+            append(journal, lock(1L, seatId));
+        }
+        journal.markPersisted(1L);
+        long segments = segmentCount();
+
+        journal.checkpoint(List.of());
+        assertEquals(segments, segmentCount());
+
+        journal.markPersisted(2L);
+        SeatJournal.StateSnapshot snapshot = new SeatJournal.StateSnapshot(1L, 42L, new long[]{1L, 2L},
+                new byte[]{'L', 'A'}, new long[]{7L, 0L}, new String[]{"s7", null}, new long[]{11L, 0L}, new long[]{99L, 0L});
+        journal.checkpoint(List.of(snapshot));
+        assertEquals(1L, segmentCount());
+        close(journal);
+
+        SeatJournal.Recovery recovery = journal(256).open();
+        assertTrue(recovery.unpersisted().isEmpty());
+        SeatJournal.StateSnapshot restored = recovery.snapshots().get(1L);
+        assertEquals(42L, restored.seenVersion());
+        assertArrayEquals(new long[]{1L, 2L}, restored.seatIds());
+        assertArrayEquals(new byte[]{'L', 'A'}, restored.status());
+        assertArrayEquals(new String[]{"s7", null}, restored.holderSession());
+        assertArrayEquals(new long[]{11L, 0L}, restored.holdToken());
+    }
+
+    private SeatJournal journal(int segmentBytes) {
+        SeatJournal journal = new SeatJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "dir", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentBytes", segmentBytes);
+        ReflectionTestUtils.setField(journal, "groupCommitMs", 1L);
+        opened.add(journal);
+        return journal;
+    }
+
+    private void close(SeatJournal journal) {
+        opened.remove(journal);
+        journal.close();
+    }
+
+    private void writeThreeLocksAndClose() throws Exception {
+        SeatJournal journal = journal(SEGMENT_BYTES);
+        journal.open();
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            append(journal, lock(1L, seatId));
+        }
+        close(journal);
+    }
+
+    private void assertRecoveredSeats(List<Long> expected) {
+        SeatJournal journal = journal(SEGMENT_BYTES);
+        assertEquals(expected, seatsOf(journal.open().unpersisted().get(1L)));
+        close(journal);
+    }
+
+    private static void append(SeatJournal journal, SeatJournalRecord record) throws Exception {
+        journal.append(record).get(5, TimeUnit.SECONDS);
+    }
+
+    private static SeatJournalRecord lock(Long scheduleId, Long seatId) {
+        return SeatJournalRecord.of(SeatJournalRecord.Type.LOCK, scheduleId, List.of(seatId), 7L, "s7", 11L, 99L);
+    }
+
+    private static List<Long> seatsOf(List<SeatJournalRecord> records) {
+        return records.stream().flatMap(record -> record.seatIds().stream()).toList();
+    }
+
+    /**
+     * lock(1, n) 레코드가 연달아 기록됐을 때 lsn번째 레코드의 시작 위치 (레코드 길이가 모두 같음)
+     */
+    private static long recordOffset(long lsn) {
+        long offset = 0;
+        for (long i = 1; i < lsn; i++) {
+            offset += 8 + lock(1L, i).withLsn(i).encode().length;
+        }
+        return offset;
+    }
+
+    private Path firstSegment() {
+        return dir.resolve(String.format("%020d.seg", 1));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SeatLockStore 구현별 동일 경합 조건 비교용 벤치마크 (main 실행)
+ *
+ * 항상 local 모드를 측정하며, 아래 시스템 프로퍼티가 있으면 해당 모드도 함께 측정한다.
+ * -Dbench.redis=localhost:6379
+ * -Dbench.jdbc-url=jdbc:postgresql://localhost:5432/ticket -Dbench.jdbc-user=.. -Dbench.jdbc-password=..
+ *   (db 모드는 schedule_seats에 bench.seat-id-from 부터 bench.seats 개의 좌석이 있어야 함)
+ *
+ * 경합 조건: bench.threads 개 스레드가 bench.seconds 동안 bench.seats-per-hold 개 연속 좌석을 점유 후 해제.
+ * 요청의 bench.hot-ratio 비율은 앞쪽 10% 좌석(인기 구역)에 몰린다.
+ */
+public class SeatLockStoreBenchmark {
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 32);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 10);
+    private static final int SEATS = Integer.getInteger("bench.seats", 5000);
+    private static final int SEATS_PER_HOLD = Integer.getInteger("bench.seats-per-hold", 4);
+    private static final long SEAT_ID_FROM = Long.getLong("bench.seat-id-from", 1L);
+    private static final long SCHEDULE_ID = Long.getLong("bench.schedule-id", 1L);
+    private static final double HOT_RATIO = Double.parseDouble(System.getProperty("bench.hot-ratio", "0.8"));
+    private static final long TTL_MS = 60_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== SeatLockStore 벤치마크 ===");
+        System.out.printf("threads=%d, seconds=%d, seats=%d, seatsPerHold=%d, hotRatio=%.2f%n%n",
+                THREADS, SECONDS, SEATS, SEATS_PER_HOLD, HOT_RATIO);
+
+        LocalSeatLockStore localStore = new LocalSeatLockStore();
+        run("local", localStore, Runnable::run);
+
+        String redis = System.getProperty("bench.redis");
+        if (redis != null) {
+            String[] hostPort = redis.split(":");
+            LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(hostPort[0], Integer.parseInt(hostPort[1])));
+            factory.afterPropertiesSet();
+            StringRedisTemplate template = new StringRedisTemplate(factory);
+            run("redis", new RedisSeatLockStore(template), Runnable::run);
+            factory.destroy();
+        }
+
+        String jdbcUrl = System.getProperty("bench.jdbc-url");
+        if (jdbcUrl != null) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl,
+                    System.getProperty("bench.jdbc-user", ""), System.getProperty("bench.jdbc-password", ""));
+            TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            // 행 잠금은 트랜잭션 범위이므로 점유~해제를 한 트랜잭션으로 실행
+            run("db", new DatabaseSeatLockStore(new JdbcTemplate(dataSource)),
+                    op -> tx.executeWithoutResult(status -> op.run()));
+        }
+    }
+
+    private interface Scope {
+        void run(Runnable op);
+    }
+
+    private static void run(String name, SeatLockStore store, Scope scope) throws InterruptedException {
+        AtomicLong acquired = new AtomicLong();
+        AtomicLong conflicts = new AtomicLong();
+        long[][] latencies = new long[THREADS][];
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long deadline = System.nanoTime() + SECONDS * 1_000_000_000L;
+
+        for (int t = 0; t < THREADS; t++) {
+            final int threadNo = t;
+            Thread thread = new Thread(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                String holder = "bench:" + threadNo;
+                while (System.nanoTime() < deadline) {
+                    List<Long> seatIds = pickSeats();
+                    long start = System.nanoTime();
+                    scope.run(() -> {
+                        if (store.acquire(SCHEDULE_ID, seatIds, holder, TTL_MS) == 0) {
+                            acquired.incrementAndGet();
+                            store.release(SCHEDULE_ID, seatIds, repeat(holder, seatIds.size()));
+                        } else {
+                            conflicts.incrementAndGet();
+                        }
+                    });
+                    recorder.add(System.nanoTime() - start);
+                }
+                latencies[threadNo] = recorder.toArray();
+                done.countDown();
+            }, "bench-" + name + "-" + t);
+            thread.start();
+        }
+        done.await();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        long total = acquired.get() + conflicts.get();
+        System.out.printf("[%s] ops=%d (%.0f/s), acquired=%d, conflicts=%d (%.1f%%), p50=%.1fus, p99=%.1fus, max=%.1fus%n",
+                name, total, total / (double) SECONDS, acquired.get(), conflicts.get(),
+                total == 0 ? 0.0 : conflicts.get() * 100.0 / total,
+                percentile(all, 0.50) / 1000.0, percentile(all, 0.99) / 1000.0,
+                all.length == 0 ? 0.0 : all[all.length - 1] / 1000.0);
+    }
+
+    private static List<Long> pickSeats() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int range = random.nextDouble() < HOT_RATIO ? Math.max(SEATS / 10, SEATS_PER_HOLD) : SEATS;
+        long first = SEAT_ID_FROM + random.nextInt(range - SEATS_PER_HOLD + 1);
+        List<Long> seatIds = new ArrayList<>(SEATS_PER_HOLD);
+        for (int i = 0; i < SEATS_PER_HOLD; i++) {
+            seatIds.add(first + i);
+        }
+        return seatIds;
+    }
+
+    private static List<String> repeat(String value, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private static final class LatencyRecorder {
+        private long[] values = new long[1 << 16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
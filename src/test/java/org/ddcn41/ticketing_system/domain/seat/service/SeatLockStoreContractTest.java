@@ -0,0 +1,227 @@
+package org.ddcn41.ticketing_system.domain.seat.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * SeatLockStore 모드 공통 동작 (local / redis / db 구현 테스트가 상속)
+ * 모드마다 점유가 유지되는 범위가 다르므로 "점유 중" 상태는 whileHeld로 만든다.
+ * - local/redis: 점유 후 action 실행, 끝나면 해제
+ * - db: 다른 트랜잭션이 행 잠금을 쥔 채로 action 실행, 끝나면 커밋
+ * holder 단위 판정(같은 holder 재점유, 다른 holder 보호, 만료)은 holder를 기록하는 모드에만 해당한다.
+ * 사용자/세션 한도는 모든 모드에서 같아야 한다 (db는 SeatService가 남기는 seat_locks 행을 recordHold/recordRelease로 흉내).
+ */
+abstract class SeatLockStoreContractTest {
+
+    static final Long SCHEDULE_ID = 1L;
+    static final long TTL_MS = 60_000;
+
+    static final String ALICE = new SeatHolder(1L, "s1").value();
+    static final String BOB = new SeatHolder(2L, "s2").value();
+    static final String CAROL = new SeatHolder(3L, "s3").value();
+
+    abstract SeatLockStore store();
+
+    /**
+     * 연산 1회를 모드의 점유 범위 안에서 실행 (db는 트랜잭션)
+     */
+    <T> T inScope(Supplier<T> op) {
+        return op.get();
+    }
+
+    /**
+     * holder를 기록해 같은 holder 재점유/다른 holder 보호를 판정하는 모드인지 (db는 트랜잭션 범위만 보호)
+     */
+    boolean tracksHolders() {
+        return true;
+    }
+
+    /**
+     * holder가 seatIds를 점유한 상태에서 action 실행
+     */
+    void whileHeld(List<Long> seatIds, String holder, Runnable action) {
+        assertEquals(0, acquire(seatIds, holder));
+        try {
+            action.run();
+        } finally {
+            store().release(SCHEDULE_ID, seatIds, repeat(holder, seatIds.size()));
+        }
+    }
+
+    /**
+     * 한도 적용 점유 성공 후 호출 (점유 수를 저장소 밖에서 세는 모드가 기록)
+     */
+    void recordHold(List<Long> seatIds, SeatHolder holder) {
+    }
+
+    /**
+     * 한도 적용 점유 해제 후 호출
+     */
+    void recordRelease(List<Long> seatIds, SeatHolder holder) {
+    }
+
+    int hold(Long scheduleId, List<Long> seatIds, String holder, int maxPerUser, int maxPerSession) {
+        SeatHolder owner = SeatHolder.parse(holder);
+        SeatLockStore.HoldQuota quota = new SeatLockStore.HoldQuota(owner.userId(), owner.sessionId(), maxPerUser, maxPerSession);
+        int result = inScope(() -> store().acquire(scheduleId, seatIds, holder, TTL_MS, quota));
+        if (result == 0) {
+            recordHold(seatIds, owner);
+        }
+        return result;
+    }
+
+    void unhold(Long scheduleId, List<Long> seatIds, String holder) {
+        store().release(scheduleId, seatIds, repeat(holder, seatIds.size()));
+        recordRelease(seatIds, SeatHolder.parse(holder));
+    }
+
+    int acquire(List<Long> seatIds, String holder) {
+        return acquire(seatIds, holder, TTL_MS);
+    }
+
+    int acquire(List<Long> seatIds, String holder, long ttlMillis) {
+        return inScope(() -> store().acquire(SCHEDULE_ID, seatIds, holder, ttlMillis));
+    }
+
+    @Test
+    void acquiresFreeSeats() {
+        assertEquals(0, acquire(List.of(1L, 2L, 3L), ALICE));
+    }
+
+    @Test
+    void reportsFirstConflictingPosition() {
+        whileHeld(List.of(12L), ALICE, () -> assertEquals(2, acquire(List.of(11L, 12L, 13L), BOB)));
+    }
+
+    @Test
+    void conflictTakesNothing() {
+        whileHeld(List.of(22L), ALICE, () -> {
+            assertEquals(3, acquire(List.of(21L, 23L, 22L), BOB));
+            // 충돌 전 좌석도 점유되지 않았어야 함
+            assertEquals(0, acquire(List.of(21L, 23L), CAROL));
+        });
+    }
+
+    @Test
+    void seatsAreFreeAfterHoldEnds() {
+        whileHeld(List.of(31L, 32L), ALICE, () -> {
+        });
+        assertEquals(0, acquire(List.of(31L, 32L), BOB));
+    }
+
+    @Test
+    void sameHolderReacquiresOwnSeats() {
+        assumeTrue(tracksHolders());
+        assertEquals(0, acquire(List.of(41L, 42L), ALICE));
+        assertEquals(0, acquire(List.of(42L, 43L), ALICE));
+        assertEquals(1, acquire(List.of(42L), BOB));
+    }
+
+    @Test
+    void expiredHoldIsFree() throws InterruptedException {
+        assumeTrue(tracksHolders());
+        assertEquals(0, acquire(List.of(51L), ALICE, 20));
+        Thread.sleep(50);
+        assertEquals(0, acquire(List.of(51L), BOB));
+    }
+
+    @Test
+    void releaseKeepsNewerHolder() throws InterruptedException {
+        assumeTrue(tracksHolders());
+        assertEquals(0, acquire(List.of(61L), ALICE, 20));
+        Thread.sleep(50);
+        assertEquals(0, acquire(List.of(61L), BOB));
+
+        // 만료 후 늦게 도착한 ALICE의 해제가 BOB의 점유를 지우면 안 됨
+        store().release(SCHEDULE_ID, List.of(61L), List.of(ALICE));
+        assertEquals(1, acquire(List.of(61L), CAROL));
+    }
+
+    @Test
+    void releaseFreesOwnSeats() {
+        assumeTrue(tracksHolders());
+        assertEquals(0, acquire(List.of(71L, 72L), ALICE));
+        store().release(SCHEDULE_ID, List.of(71L, 72L), List.of(ALICE, ALICE));
+        assertEquals(0, acquire(List.of(71L, 72L), BOB));
+    }
+
+    @Test
+    void renewRestoresMissingHold() {
+        assumeTrue(tracksHolders());
+        // DB 락이 유효한 동안 저장소 점유가 사라졌다면 갱신이 다시 설정
+        store().renew(SCHEDULE_ID, List.of(81L), List.of(ALICE), List.of(TTL_MS));
+        assertEquals(1, acquire(List.of(81L), BOB));
+        assertEquals(0, acquire(List.of(81L), ALICE));
+    }
+
+    @Test
+    void renewKeepsOtherLiveHolder() {
+        assumeTrue(tracksHolders());
+        assertEquals(0, acquire(List.of(91L), BOB));
+        store().renew(SCHEDULE_ID, List.of(91L), List.of(ALICE), List.of(TTL_MS));
+        assertEquals(1, acquire(List.of(91L), ALICE));
+    }
+
+    @Test
+    void fencingTokensIncrease() {
+        long first = store().nextFencingToken(SCHEDULE_ID);
+        long second = store().nextFencingToken(SCHEDULE_ID);
+        assertTrue(second > first);
+    }
+
+    @Test
+    void userLimitReturnsUserCode() {
+        assertEquals(0, hold(SCHEDULE_ID, List.of(101L, 102L), ALICE, 2, 0));
+        assertEquals(SeatLockStore.USER_LIMIT_EXCEEDED, hold(SCHEDULE_ID, List.of(103L), ALICE, 2, 0));
+        // 한도 초과 요청은 좌석을 점유하지 않음
+        assertEquals(0, hold(SCHEDULE_ID, List.of(103L), BOB, 2, 0));
+    }
+
+    @Test
+    void sessionLimitReturnsSessionCode() {
+        assertEquals(0, hold(SCHEDULE_ID, List.of(111L), ALICE, 10, 1));
+        assertEquals(SeatLockStore.SESSION_LIMIT_EXCEEDED, hold(SCHEDULE_ID, List.of(112L), ALICE, 10, 1));
+    }
+
+    @Test
+    void userLimitCountsAllSchedules() {
+        assertEquals(0, hold(1L, List.of(121L), ALICE, 1, 0));
+        assertEquals(SeatLockStore.USER_LIMIT_EXCEEDED, hold(2L, List.of(122L), ALICE, 1, 0));
+    }
+
+    @Test
+    void heldSeatsAreNotCountedTwice() {
+        assertEquals(0, hold(SCHEDULE_ID, List.of(131L, 132L), ALICE, 2, 0));
+        assertEquals(0, hold(SCHEDULE_ID, List.of(131L, 132L), ALICE, 2, 0));
+    }
+
+    @Test
+    void releaseFreesQuota() {
+        assertEquals(0, hold(SCHEDULE_ID, List.of(141L, 142L), ALICE, 2, 0));
+        unhold(SCHEDULE_ID, List.of(141L, 142L), ALICE);
+        assertEquals(0, hold(SCHEDULE_ID, List.of(143L, 144L), ALICE, 2, 0));
+    }
+
+    @Test
+    void conflictDoesNotConsumeQuota() {
+        whileHeld(List.of(152L), BOB,
+                () -> assertEquals(2, hold(SCHEDULE_ID, List.of(151L, 152L), ALICE, 2, 0)));
+        // 충돌한 요청에서 예약된 151은 되돌려졌어야 함
+        assertEquals(0, hold(SCHEDULE_ID, List.of(153L, 154L), ALICE, 2, 0));
+    }
+
+    static List<String> repeat(String value, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(value);
+        }
+        return values;
+    }
+}